@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Commonly used utility functions for concurrent processing
+ */
+public class ConcurrencyUtil {
+   private ConcurrencyUtil() {
+   }
+
+   /**
+    * Waits for a future to complete and returns its result. If the future completed with a
+    * {@link RuntimeException}, that exception is rethrown instead of being wrapped in a
+    * {@link CompletionException}, so that callers see the same exceptions as with sequential processing.
+    *
+    * @param future the future
+    * @param <T> the type of the result
+    * @return the result of the future
+    */
+   public static <T> T join( final CompletableFuture<T> future ) {
+      try {
+         return future.join();
+      } catch ( final CompletionException exception ) {
+         if ( exception.getCause() instanceof final RuntimeException cause ) {
+            throw cause;
+         }
+         throw exception;
+      }
+   }
+
+   /**
+    * Checks whether the current thread has been interrupted and stops the current operation if so.
+    * Long-running loops call this between their steps, so that work whose result is no longer needed,
+    * e.g., a validation that was superseded by a newer one, can be cancelled by interrupting its thread.
+    * The interrupt flag of the thread is not cleared.
+    *
+    * @throws CancellationException if the current thread has been interrupted
+    */
+   public static void checkInterrupted() {
+      if ( Thread.currentThread().isInterrupted() ) {
+         throw new CancellationException( "Operation was interrupted" );
+      }
+   }
+}
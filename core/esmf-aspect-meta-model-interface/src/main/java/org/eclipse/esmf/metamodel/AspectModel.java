@@ -63,9 +63,56 @@ public interface AspectModel extends ModelElementGroup {
     * @throws NoSuchElementException if no element exists with this URN
     */
    default ModelElement getElementByUrn( final AspectModelUrn urn ) {
+      return findElementByUrn( urn ).orElseThrow( NoSuchElementException::new );
+   }
+
+   /**
+    * Retrieves a given Model Element by URN, if it exists.
+    *
+    * @param urn the model element URN
+    * @return the model element, or empty if no element exists with this URN
+    */
+   default Optional<ModelElement> findElementByUrn( final AspectModelUrn urn ) {
       return elements().stream()
             .filter( element -> urn.equals( element.urn() ) )
-            .findFirst()
-            .orElseThrow( NoSuchElementException::new );
+            .findFirst();
+   }
+
+   /**
+    * Returns the model elements of a given type.
+    *
+    * @param type the type of model elements, e.g. {@link Property}
+    * @param <T> the type of model elements
+    * @return the model elements of the given type
+    */
+   default <T extends ModelElement> List<T> elementsOfType( final Class<T> type ) {
+      return elements().stream()
+            .filter( element -> element.is( type ) )
+            .map( element -> element.as( type ) )
+            .toList();
+   }
+
+   /**
+    * Returns the model elements that are defined in a given file of this AspectModel.
+    *
+    * @param file the file
+    * @return the model elements defined in the file
+    */
+   default List<ModelElement> elementsOfFile( final AspectModelFile file ) {
+      return elements().stream()
+            .filter( element -> element.getSourceFile() == file )
+            .toList();
+   }
+
+   /**
+    * Returns the files of this AspectModel that belong to a given namespace.
+    *
+    * @param namespaceUrn the URN of the namespace, e.g. urn:samm:com.example.myapp:1.2.3
+    * @return the files in the namespace
+    */
+   default List<AspectModelFile> filesOfNamespace( final AspectModelUrn namespaceUrn ) {
+      return files().stream()
+            .filter( file -> file.namespace() != null && namespaceUrn.equals( file.namespaceUrn() ) )
+            .toList();
    }
 }
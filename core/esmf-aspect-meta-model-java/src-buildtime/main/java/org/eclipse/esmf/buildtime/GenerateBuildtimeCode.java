@@ -22,6 +22,7 @@ import org.apache.jena.riot.RIOT;
  * Main class that is executed during build time and that runs build-time code generators.
  * args[0]: Path to src-gen directory
  * args[1]: Path to src-buildtime directory
+ * args[2]: Path to the output directory for generated resources
  */
 public class GenerateBuildtimeCode {
    public static void main( final String[] args ) {
@@ -34,5 +35,9 @@ public class GenerateBuildtimeCode {
             new GenerateQuantityKinds( srcBuildtimePath, srcGenPath ),
             new GenerateVersionInfo( srcBuildtimePath, srcGenPath )
       ).forEach( BuildtimeCodeGenerator::writeGeneratedFile );
+
+      if ( args.length > 2 ) {
+         new GenerateMetaModelSnapshot( Path.of( args[2] ) ).writeSnapshot();
+      }
    }
 }
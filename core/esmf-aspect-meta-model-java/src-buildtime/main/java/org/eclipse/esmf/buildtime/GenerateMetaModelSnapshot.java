@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.buildtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.esmf.samm.KnownVersion;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.RDFLanguages;
+
+/**
+ * Writes the meta model files in the binary RDF Thrift format to the output directory, so that they
+ * can be loaded at runtime without parsing RDF/Turtle. This class is compiled before MetaModelFile and
+ * can therefore not use it: the files must correspond to the ones listed in MetaModelFile, the snapshot
+ * path must correspond to MetaModelFile#SNAPSHOT_PATH. MetaModelFileTest fails if they do not.
+ */
+public class GenerateMetaModelSnapshot {
+   private static final String SNAPSHOT_PATH = "samm-snapshot/%s/%s/%s.rdft";
+   private static final List<SnapshotFile> META_MODEL_FILES = List.of(
+         new SnapshotFile( "unit", "units.ttl" ),
+         new SnapshotFile( "entity", "FileResource.ttl" ),
+         new SnapshotFile( "entity", "Point3d.ttl" ),
+         new SnapshotFile( "entity", "TimeSeriesEntity.ttl" ),
+         new SnapshotFile( "entity", "Quantity.ttl" ),
+         new SnapshotFile( "characteristic", "characteristic-instances.ttl" ),
+         new SnapshotFile( "meta-model", "type-conversions.ttl" ),
+         new SnapshotFile( "meta-model", "aspect-meta-model-definitions.ttl" ),
+         new SnapshotFile( "characteristic", "characteristic-definitions.ttl" ),
+         new SnapshotFile( "meta-model", "aspect-meta-model-shapes.ttl" ),
+         new SnapshotFile( "meta-model", "prefix-declarations.ttl" ),
+         new SnapshotFile( "characteristic", "characteristic-shapes.ttl" ) );
+
+   private final Path outputPath;
+
+   private record SnapshotFile( String section, String fileName ) {}
+
+   public GenerateMetaModelSnapshot( final Path outputPath ) {
+      this.outputPath = outputPath;
+   }
+
+   public void writeSnapshot() {
+      final String version = KnownVersion.getLatest().toVersionString();
+      for ( final SnapshotFile file : META_MODEL_FILES ) {
+         final String section = file.section();
+         final String fileName = file.fileName();
+         final String pathToTurtleFile = "samm/%s/%s/%s".formatted( section, version, fileName );
+         final Model model = ModelFactory.createDefaultModel();
+         try ( final InputStream inputStream = GenerateMetaModelSnapshot.class.getClassLoader().getResourceAsStream( pathToTurtleFile ) ) {
+            if ( inputStream == null ) {
+               throw new RuntimeException( "Could not find meta model file " + pathToTurtleFile );
+            }
+            model.read( inputStream, "", RDFLanguages.TURTLE.getName() );
+         } catch ( final IOException exception ) {
+            throw new RuntimeException( "Could not read meta model file " + pathToTurtleFile, exception );
+         }
+
+         final Path outputFile = outputPath.resolve( SNAPSHOT_PATH.formatted( section, version, fileName ) );
+         try {
+            Files.createDirectories( outputFile.getParent() );
+            try ( final OutputStream outputStream = Files.newOutputStream( outputFile ) ) {
+               RDFDataMgr.write( outputStream, model, RDFFormat.RDF_THRIFT );
+            }
+         } catch ( final IOException exception ) {
+            throw new RuntimeException( "Could not write meta model snapshot " + outputFile, exception );
+         }
+         System.out.println( "Written " + outputFile );
+      }
+   }
+}
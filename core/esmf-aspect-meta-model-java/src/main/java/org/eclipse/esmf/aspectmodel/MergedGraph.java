@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphEventManager;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+/**
+ * A read-only graph that contains the union of the triples of multiple graphs. In contrast to a union
+ * view over a dataset, which asks every named graph for every triple pattern and removes duplicates
+ * from the combined results, the triples of the given graphs are copied once into a single indexed
+ * in-memory graph. The original {@link Triple} objects are retained, so that the {@link org.apache.jena.graph.Node}s
+ * in the merged graph are the same as in the originating graphs.
+ * <p>
+ * Optionally, a large graph that is shared between many merged graphs (such as the meta model
+ * definitions) can be passed separately: It is not copied but consulted in addition to the merged
+ * index, skipping triples that are already contained in the index.
+ * <p>
+ * The merged graph is a snapshot: changes to the originating graphs after construction are not
+ * reflected, unless they are reported using {@link #update(Graph, Graph, Collection)}.
+ */
+public class MergedGraph extends GraphBase {
+   private final Graph index;
+   private final Graph sharedGraph;
+   private int size = -1;
+
+   /**
+    * Creates a new merged graph.
+    *
+    * @param graphs the graphs whose triples are merged
+    * @param sharedGraph a graph that is consulted in addition to the merged triples, but not copied
+    */
+   public MergedGraph( final Collection<Graph> graphs, final Graph sharedGraph ) {
+      index = ModelFactory.createDefaultModel().getGraph();
+      for ( final Graph graph : graphs ) {
+         graph.find().forEachRemaining( index::add );
+      }
+      this.sharedGraph = sharedGraph;
+   }
+
+   /**
+    * Updates the merged triples after triples were added to or removed from the originating graphs.
+    * An added triple is only added to the merged graph if one of the originating graphs still contains
+    * it, and a removed triple is only removed from the merged graph if none of the originating graphs
+    * still contains it, so that a triple that was added and removed again by subsequent changes is
+    * ignored. Listeners registered with the graph's event manager are notified about the triples that
+    * were actually added to or removed from the merged graph.
+    *
+    * @param addedTriples the triples that were added to any of the originating graphs
+    * @param removedTriples the triples that were removed from any of the originating graphs
+    * @param graphs the current originating graphs
+    */
+   public void update( final Graph addedTriples, final Graph removedTriples, final Collection<Graph> graphs ) {
+      final List<Triple> added = addedTriples.find()
+            .filterDrop( this::graphBaseContains )
+            .filterKeep( triple -> containedInAny( graphs, triple ) )
+            .toList();
+      final List<Triple> removed = removedTriples.find()
+            .filterKeep( index::contains )
+            .filterDrop( triple -> containedInAny( graphs, triple ) )
+            .toList();
+      added.forEach( index::add );
+      removed.forEach( index::delete );
+      size = -1;
+      final GraphEventManager eventManager = getEventManager();
+      if ( !added.isEmpty() ) {
+         eventManager.notifyAddList( this, added );
+      }
+      // A triple that is still contained in the shared graph remains visible
+      final List<Triple> deleted = removed.stream().filter( triple -> !sharedGraph.contains( triple ) ).toList();
+      if ( !deleted.isEmpty() ) {
+         eventManager.notifyDeleteList( this, deleted );
+      }
+   }
+
+   private static boolean containedInAny( final Collection<Graph> graphs, final Triple triple ) {
+      return graphs.stream().anyMatch( graph -> graph.contains( triple ) );
+   }
+
+   @Override
+   protected ExtendedIterator<Triple> graphBaseFind( final Triple triplePattern ) {
+      final ExtendedIterator<Triple> indexedTriples = index.find( triplePattern );
+      if ( sharedGraph.isEmpty() ) {
+         return indexedTriples;
+      }
+      return indexedTriples.andThen( sharedGraph.find( triplePattern ).filterDrop( index::contains ) );
+   }
+
+   @Override
+   protected boolean graphBaseContains( final Triple triple ) {
+      return index.contains( triple ) || sharedGraph.contains( triple );
+   }
+
+   @Override
+   protected int graphBaseSize() {
+      if ( size < 0 ) {
+         size = index.size() + (int) sharedGraph.stream().filter( triple -> !index.contains( triple ) ).count();
+      }
+      return size;
+   }
+}
@@ -17,6 +17,7 @@ import static java.util.stream.Collectors.toSet;
 import static org.eclipse.esmf.aspectmodel.StreamUtil.asMap;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -163,9 +164,7 @@ public class RdfUtil {
     * @param model the model
     */
    public static void cleanRedundantTypeAssertions( final Model model ) {
-      final Model modelToCheck = ModelFactory.createDefaultModel();
-      modelToCheck.add( model );
-      modelToCheck.add( MetaModelFile.metaModelDefinitions() );
+      final Model modelToCheck = mergedModel( List.of( model ), MetaModelFile.sharedMetaModelDefinitions() );
       final Map<Resource, List<Resource>> elementsWithMultipleTypeAssertions = Streams.stream(
             modelToCheck.listStatements( null, RDF.type, (RDFNode) null ) )
             .collect( Collectors.groupingBy( Statement::getSubject ) )
@@ -293,7 +292,8 @@ public class RdfUtil {
    /**
     * Creates a merged view of a multiple RDF models: The resulting model will contain new
     * Resource/Property/Literal objects which are based on the same {@link Node}s from the originating
-    * models
+    * models. The view is live, i.e., changes to the originating models are visible in the view. For
+    * repeated querying of models that do not change, prefer {@link #mergedModel(Collection, Model)}.
     *
     * @param models the models to create the view for, each identified by a URI
     * @return the merged view
@@ -313,6 +313,29 @@ public class RdfUtil {
       return result;
    }
 
+   /**
+    * Creates a merged model of multiple RDF models, backed by a {@link MergedGraph}: The triples of the
+    * given models are indexed once, so that querying the result does not have to consult each model
+    * separately. The resulting model will contain new Resource/Property/Literal objects which are based
+    * on the same {@link Node}s from the originating models. In contrast to {@link #mergedView(Map)}, the
+    * result is a snapshot: later changes to the given models are not reflected, unless they are reported
+    * using {@link MergedGraph#update(org.apache.jena.graph.Graph, org.apache.jena.graph.Graph, Collection)}.
+    *
+    * @param models the models to merge
+    * @param sharedModel a model that is shared between many merged models, e.g., the meta model
+    *        definitions. Its triples are part of the result, but are not copied.
+    * @return the merged model
+    */
+   public static Model mergedModel( final Collection<Model> models, final Model sharedModel ) {
+      final Model result = ModelFactory.createModelForGraph(
+            new MergedGraph( models.stream().map( Model::getGraph ).toList(), sharedModel.getGraph() ) );
+      result.setNsPrefixes( sharedModel.getNsPrefixMap() );
+      for ( final Model model : models ) {
+         result.setNsPrefixes( model.getNsPrefixMap() );
+      }
+      return result;
+   }
+
    /**
     * Create an RDF short name ("curie") from a URI with a "well-known" namespace, i.e., samm, samm-c,
     * samm-e, unit, xsd, rdf or rdfs. For example, for "http://www.w3.org/2001/XMLSchema#float" the
@@ -20,14 +20,17 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.MergedGraph;
 import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
 import org.eclipse.esmf.aspectmodel.resolver.modelfile.RawAspectModelFile;
 import org.eclipse.esmf.aspectmodel.serializer.AspectSerializer;
@@ -35,6 +38,8 @@ import org.eclipse.esmf.aspectmodel.serializer.SerializationException;
 import org.eclipse.esmf.metamodel.AspectModel;
 import org.eclipse.esmf.metamodel.impl.DefaultAspectModel;
 
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +59,11 @@ import org.slf4j.LoggerFactory;
  * {@link #redoChange()} operation, and until the next call of one of them, the methods
  * {@link #modifiedFiles()}, {@link #createdFiles()} and {@link #removedFiles()} indicate
  * corresponding changes in the AspectModel's files.
+ * <li>After each operation, the AspectModel is updated incrementally: If the change only edited the
+ * content of existing files, only the model elements affected by the edited statements are
+ * instantiated again. Changes that add or remove files cause the AspectModel to be reloaded.
+ * To perform several changes with a single update, use {@link #applyChanges(List)} or a
+ * {@link ChangeGroup}.</li>
  * </ul>
  */
 public class AspectChangeManager implements ChangeContext {
@@ -63,7 +73,13 @@ public class AspectChangeManager implements ChangeContext {
    private final Deque<Change> redoStack = new ArrayDeque<>();
    private final DefaultAspectModel aspectModel;
    private final AspectChangeManagerConfig config;
-   private final Map<AspectModelFile, FileState> fileState = new HashMap<>();
+   // Files are hashed including their elements, which change when the Aspect Model is refreshed, so the
+   // states are tracked per file instance
+   private final Map<AspectModelFile, FileState> fileState = new IdentityHashMap<>();
+   private final Set<AspectModelFile> changedFiles = Collections.newSetFromMap( new IdentityHashMap<>() );
+   private Model addedStatements = ModelFactory.createDefaultModel();
+   private Model removedStatements = ModelFactory.createDefaultModel();
+   private boolean requiresReload = false;
 
    private enum FileState {
       CREATED, CHANGED, REMOVED
@@ -113,17 +129,30 @@ public class AspectChangeManager implements ChangeContext {
 
    public synchronized ChangeReport applyChange( final Change change ) {
       resetFileStates();
+      resetChangeTracking();
       final ChangeReport result = change.fire( this );
       updateAspectModelAfterChange();
       undoStack.offerLast( change.reverse() );
       return result;
    }
 
+   /**
+    * Applies multiple changes as a single {@link ChangeGroup}: The AspectModel is updated once after
+    * all changes were performed, and the changes are undone and redone together.
+    *
+    * @param changes the changes to apply
+    * @return the report describing the performed changes
+    */
+   public synchronized ChangeReport applyChanges( final List<Change> changes ) {
+      return applyChange( new ChangeGroup( changes ) );
+   }
+
    public synchronized void undoChange() {
       if ( undoStack.isEmpty() ) {
          return;
       }
       resetFileStates();
+      resetChangeTracking();
       final Change change = undoStack.pollLast();
       change.fire( this );
       updateAspectModelAfterChange();
@@ -135,19 +164,35 @@ public class AspectChangeManager implements ChangeContext {
          return;
       }
       resetFileStates();
+      resetChangeTracking();
       final Change change = redoStack.pollLast();
       change.fire( this );
       updateAspectModelAfterChange();
       undoStack.offerLast( change.reverse() );
    }
 
+   private void resetChangeTracking() {
+      changedFiles.clear();
+      addedStatements = ModelFactory.createDefaultModel();
+      removedStatements = ModelFactory.createDefaultModel();
+      requiresReload = false;
+   }
+
    private void updateAspectModelAfterChange() {
+      if ( requiresReload || !( aspectModel.mergedModel().getGraph() instanceof MergedGraph ) ) {
+         reloadAspectModel();
+      } else if ( !changedFiles.isEmpty() ) {
+         new AspectModelLoader().refreshAspectModel( aspectModel, changedFiles, addedStatements, removedStatements );
+      }
+   }
+
+   private void reloadAspectModel() {
       final AspectModel updatedModel = new AspectModelLoader().loadAspectModelFiles( aspectModel.files() );
       aspectModel.setMergedModel( updatedModel.mergedModel() );
       aspectModel.setElements( updatedModel.elements() );
       aspectModel.setFiles( updatedModel.files() );
 
-      final Map<AspectModelFile, FileState> updatedFileState = new HashMap<>();
+      final Map<AspectModelFile, FileState> updatedFileState = new IdentityHashMap<>();
       for ( final Map.Entry<AspectModelFile, FileState> stateEntry : fileState.entrySet() ) {
          final AspectModelFile file = stateEntry.getKey();
          final FileState state = stateEntry.getValue();
@@ -207,18 +252,36 @@ public class AspectChangeManager implements ChangeContext {
 
    @Override
    public void indicateFileIsAdded( final AspectModelFile file ) {
+      requiresReload = true;
       fileState.put( file, FileState.CREATED );
       aspectModel.files().add( file );
    }
 
    @Override
    public void indicateFileIsRemoved( final AspectModelFile file ) {
+      requiresReload = true;
       fileState.put( file, FileState.REMOVED );
       aspectModel.files().remove( file );
    }
 
    @Override
    public void indicateFileHasChanged( final AspectModelFile file ) {
+      // The changed statements are unknown, so the Aspect Model can not be updated incrementally
+      requiresReload = true;
+      markFileAsChanged( file );
+   }
+
+   @Override
+   public void indicateStatementsHaveChanged( final AspectModelFile file, final Model addedStatements, final Model removedStatements ) {
+      changedFiles.add( file );
+      this.addedStatements.add( addedStatements );
+      this.addedStatements.setNsPrefixes( addedStatements.getNsPrefixMap() );
+      this.removedStatements.add( removedStatements );
+      this.removedStatements.setNsPrefixes( removedStatements.getNsPrefixMap() );
+      markFileAsChanged( file );
+   }
+
+   private void markFileAsChanged( final AspectModelFile file ) {
       // If the file was newly created, keep this state even if we now change the file content
       if ( fileState.get( file ) != FileState.CREATED ) {
          fileState.put( file, FileState.CHANGED );
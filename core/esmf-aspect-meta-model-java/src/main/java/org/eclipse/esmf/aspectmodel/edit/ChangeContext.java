@@ -17,6 +17,8 @@ import java.util.stream.Stream;
 
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
 
+import org.apache.jena.rdf.model.Model;
+
 /**
  * The ChangeContext encapsulates the functionality provided to {@link Change} implementations to
  * access the current set of Aspect Model Files and indicate changes.
@@ -38,5 +40,17 @@ public interface ChangeContext {
 
    void indicateFileHasChanged( AspectModelFile file );
 
+   /**
+    * Indicates that statements were added to and/or removed from the source model of a file. In contrast to
+    * {@link #indicateFileHasChanged(AspectModelFile)}, this allows updating only the affected parts of the Aspect Model.
+    *
+    * @param file the changed file
+    * @param addedStatements the statements that were added to the file's source model
+    * @param removedStatements the statements that were removed from the file's source model
+    */
+   default void indicateStatementsHaveChanged( final AspectModelFile file, final Model addedStatements, final Model removedStatements ) {
+      indicateFileHasChanged( file );
+   }
+
    void resetFileStates();
 }
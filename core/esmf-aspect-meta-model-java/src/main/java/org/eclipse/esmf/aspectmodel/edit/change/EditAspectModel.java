@@ -67,7 +67,7 @@ public abstract class EditAspectModel extends AbstractChange {
             final boolean removeModelContainsChanges = !modelChanges.remove().isEmpty()
                   || !modelChanges.remove().getNsPrefixMap().isEmpty();
             if ( addModelContainsChanges || removeModelContainsChanges ) {
-               changeContext.indicateFileHasChanged( file );
+               changeContext.indicateStatementsHaveChanged( file, modelChanges.add(), modelChanges.remove() );
             }
          }
       } );
@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.loader;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.sparql.graph.GraphReadOnly;
+import org.apache.jena.vocabulary.RDF;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.EitherStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategySupport;
+import org.eclipse.esmf.aspectmodel.resolver.exceptions.ModelResolutionException;
+import org.eclipse.esmf.aspectmodel.resolver.fs.ModelsRoot;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+import org.eclipse.esmf.metamodel.Aspect;
+import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.metamodel.ModelElement;
+import org.eclipse.esmf.metamodel.Namespace;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A thread-safe, long-lived cache of Aspect Models, intended for services that need to look up the
+ * same models repeatedly. Loaded {@link AspectModel}s (including their instantiated model elements)
+ * are kept by the URN they were requested for and evicted when the total number of RDF statements
+ * of all cached models exceeds the configured maximum weight. Concurrent requests for the same URN
+ * load the model only once.
+ * <p>
+ * Additionally, all Aspect Model files that were resolved using the configured
+ * {@link ResolutionStrategy}s are kept individually. When a file changes, either reported using
+ * {@link #invalidate(URI)} or detected in a directory registered with {@link #watch(ModelsRoot)},
+ * only the Aspect Models containing that file are evicted; when they are requested again, only the
+ * changed file needs to be loaded again.
+ * <p>
+ * Since the same Aspect Model instance is handed out to all callers, the cache returns read-only
+ * views: the merged RDF model rejects modifications, the lists of files and elements are
+ * unmodifiable, and the models can not be passed to an
+ * {@link org.eclipse.esmf.aspectmodel.edit.AspectChangeManager}. Callers that need to modify a model
+ * have to load their own copy using an {@link AspectModelLoader}. The RDF models of the individual
+ * {@link AspectModelFile}s are shared as well and must not be modified.
+ */
+public class AspectModelCache implements AutoCloseable {
+   /**
+    * The default maximum weight, i.e., number of RDF statements of all cached Aspect Models
+    */
+   public static final long DEFAULT_MAXIMUM_WEIGHT = 2_000_000L;
+
+   private static final Logger LOG = LoggerFactory.getLogger( AspectModelCache.class );
+
+   private final CachingResolutionStrategy resolutionStrategy;
+   private final LoadingCache<AspectModelUrn, AspectModel> aspectModels;
+   private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+   private WatchService watchService;
+
+   /**
+    * Creates a new cache with the default maximum weight.
+    *
+    * @param resolutionStrategy the strategy used to resolve model elements
+    */
+   public AspectModelCache( final ResolutionStrategy resolutionStrategy ) {
+      this( List.of( resolutionStrategy ), DEFAULT_MAXIMUM_WEIGHT );
+   }
+
+   /**
+    * Creates a new cache.
+    *
+    * @param resolutionStrategies the strategies used to resolve model elements, see
+    *        {@link AspectModelLoader#AspectModelLoader(List)}
+    * @param maximumWeight the maximum total number of RDF statements of all cached Aspect Models
+    */
+   public AspectModelCache( final List<ResolutionStrategy> resolutionStrategies, final long maximumWeight ) {
+      resolutionStrategy = new CachingResolutionStrategy( resolutionStrategies.size() == 1
+            ? resolutionStrategies.getFirst()
+            : new EitherStrategy( resolutionStrategies ) );
+      aspectModels = CacheBuilder.newBuilder()
+            .maximumWeight( maximumWeight )
+            .weigher( ( final AspectModelUrn urn, final AspectModel aspectModel ) -> weight( aspectModel ) )
+            .build( CacheLoader.from( ( final AspectModelUrn urn ) ->
+                  new ReadOnlyAspectModel( new AspectModelLoader( resolutionStrategy ).load( urn ) ) ) );
+   }
+
+   /**
+    * Returns the Aspect Model for the given URN, loading it if it is not cached yet.
+    *
+    * @param urn the URN of the model element to load
+    * @return a read-only view of the Aspect Model
+    * @throws ModelResolutionException if the model could not be loaded
+    */
+   public AspectModel get( final AspectModelUrn urn ) {
+      try {
+         return aspectModels.getUnchecked( urn );
+      } catch ( final UncheckedExecutionException exception ) {
+         if ( exception.getCause() instanceof final RuntimeException cause ) {
+            throw cause;
+         }
+         throw exception;
+      }
+   }
+
+   /**
+    * Returns the Aspect Model for the given URN if it is currently cached.
+    *
+    * @param urn the URN of the model element
+    * @return a read-only view of the Aspect Model, or empty if it is not cached
+    */
+   public Optional<AspectModel> getIfPresent( final AspectModelUrn urn ) {
+      return Optional.ofNullable( aspectModels.getIfPresent( urn ) );
+   }
+
+   /**
+    * Evicts the Aspect Model file with the given location and all Aspect Models that contain it.
+    *
+    * @param fileLocation the location of the changed file
+    */
+   public void invalidate( final URI fileLocation ) {
+      final URI location = normalize( fileLocation );
+      resolutionStrategy.invalidate( location );
+      aspectModels.asMap().entrySet().removeIf( entry -> entry.getValue().files().stream()
+            .flatMap( file -> file.sourceLocation().stream() )
+            .map( AspectModelCache::normalize )
+            .anyMatch( location::equals ) );
+   }
+
+   /**
+    * Evicts all cached Aspect Models and files.
+    */
+   public void invalidateAll() {
+      resolutionStrategy.invalidateAll();
+      aspectModels.invalidateAll();
+   }
+
+   /**
+    * Watches the directories of a models root for changes to Aspect Model files. Changed files are
+    * evicted as described in {@link #invalidate(URI)}.
+    *
+    * @param modelsRoot the models root
+    */
+   public void watch( final ModelsRoot modelsRoot ) {
+      try {
+         synchronized ( this ) {
+            if ( watchService == null ) {
+               watchService = FileSystems.getDefault().newWatchService();
+               Thread.ofPlatform().daemon().name( "aspect-model-cache-watcher" ).start( this::processWatchEvents );
+            }
+         }
+         try ( final Stream<Path> paths = Files.walk( modelsRoot.rootPath(), 2 ) ) {
+            for ( final Path directory : paths.filter( Files::isDirectory ).toList() ) {
+               watchDirectory( watchService, directory );
+            }
+         }
+      } catch ( final IOException exception ) {
+         throw new ModelResolutionException( "Could not watch models root " + modelsRoot, exception );
+      }
+   }
+
+   /**
+    * Stops watching all directories registered with {@link #watch(ModelsRoot)}.
+    */
+   @Override
+   public synchronized void close() {
+      if ( watchService == null ) {
+         return;
+      }
+      try {
+         watchService.close();
+      } catch ( final IOException exception ) {
+         LOG.debug( "Could not close watch service", exception );
+      }
+      watchService = null;
+      watchedDirectories.clear();
+   }
+
+   private void watchDirectory( final WatchService service, final Path directory ) throws IOException {
+      final WatchKey key = directory.register( service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE );
+      watchedDirectories.put( key, directory );
+   }
+
+   private void watchDirectoryTree( final WatchService service, final Path directory ) throws IOException {
+      // Subdirectories (e.g., the version directory of a new namespace directory) can be created
+      // before the new directory is registered, so the whole subtree is registered
+      try ( final Stream<Path> paths = Files.walk( directory ) ) {
+         for ( final Path subdirectory : paths.filter( Files::isDirectory ).toList() ) {
+            watchDirectory( service, subdirectory );
+         }
+      }
+   }
+
+   private void processWatchEvents() {
+      final WatchService service = watchService;
+      while ( true ) {
+         final WatchKey key;
+         try {
+            key = service.take();
+         } catch ( final InterruptedException | ClosedWatchServiceException exception ) {
+            return;
+         }
+         final Path directory = watchedDirectories.get( key );
+         for ( final WatchEvent<?> event : key.pollEvents() ) {
+            if ( event.kind() == OVERFLOW || directory == null ) {
+               invalidateAll();
+               continue;
+            }
+            final Path path = directory.resolve( (Path) event.context() );
+            if ( event.kind() == ENTRY_CREATE && Files.isDirectory( path ) ) {
+               try {
+                  watchDirectoryTree( service, path );
+               } catch ( final IOException | ClosedWatchServiceException exception ) {
+                  LOG.debug( "Could not watch directory {}", path, exception );
+               }
+            } else if ( path.getFileName().toString().endsWith( ".ttl" ) ) {
+               invalidate( path.toAbsolutePath().toFile().toURI() );
+            }
+         }
+         if ( !key.reset() ) {
+            watchedDirectories.remove( key );
+         }
+      }
+   }
+
+   private static int weight( final AspectModel aspectModel ) {
+      final long statements = aspectModel.files().stream()
+            .mapToLong( file -> file.sourceModel().size() )
+            .sum();
+      return (int) Math.min( Integer.MAX_VALUE, Math.max( 1, statements ) );
+   }
+
+   private static URI normalize( final URI location ) {
+      if ( "file".equals( location.getScheme() ) ) {
+         return Path.of( location ).toAbsolutePath().normalize().toFile().toURI();
+      }
+      return location;
+   }
+
+   /**
+    * Read-only view of a loaded Aspect Model
+    */
+   private static class ReadOnlyAspectModel implements AspectModel {
+      private final AspectModel delegate;
+      private final Model mergedModel;
+      private final List<AspectModelFile> files;
+      private final List<ModelElement> elements;
+
+      private ReadOnlyAspectModel( final AspectModel delegate ) {
+         this.delegate = delegate;
+         mergedModel = ModelFactory.createModelForGraph( new GraphReadOnly( delegate.mergedModel().getGraph() ) );
+         files = Collections.unmodifiableList( delegate.files() );
+         elements = Collections.unmodifiableList( delegate.elements() );
+      }
+
+      @Override
+      public Model mergedModel() {
+         return mergedModel;
+      }
+
+      @Override
+      public List<Namespace> namespaces() {
+         return Collections.unmodifiableList( delegate.namespaces() );
+      }
+
+      @Override
+      public List<AspectModelFile> files() {
+         return files;
+      }
+
+      @Override
+      public List<ModelElement> elements() {
+         return elements;
+      }
+
+      @Override
+      public Optional<ModelElement> findElementByUrn( final AspectModelUrn urn ) {
+         return delegate.findElementByUrn( urn );
+      }
+
+      @Override
+      public <T extends ModelElement> List<T> elementsOfType( final Class<T> type ) {
+         return Collections.unmodifiableList( delegate.elementsOfType( type ) );
+      }
+
+      @Override
+      public List<ModelElement> elementsOfFile( final AspectModelFile file ) {
+         return Collections.unmodifiableList( delegate.elementsOfFile( file ) );
+      }
+
+      @Override
+      public List<AspectModelFile> filesOfNamespace( final AspectModelUrn namespaceUrn ) {
+         return Collections.unmodifiableList( delegate.filesOfNamespace( namespaceUrn ) );
+      }
+
+      @Override
+      public List<Aspect> aspects() {
+         return Collections.unmodifiableList( delegate.aspects() );
+      }
+   }
+
+   /**
+    * Resolution strategy that keeps all files returned by the delegate strategy, so that URNs
+    * defined in a file that has been resolved before can be resolved without loading the file again.
+    */
+   private static class CachingResolutionStrategy implements ResolutionStrategy {
+      private final ResolutionStrategy delegate;
+      private final Map<URI, AspectModelFile> files = new ConcurrentHashMap<>();
+      private final Map<String, URI> definitions = new ConcurrentHashMap<>();
+
+      private CachingResolutionStrategy( final ResolutionStrategy delegate ) {
+         this.delegate = delegate;
+      }
+
+      @Override
+      public AspectModelFile apply( final AspectModelUrn aspectModelUrn, final ResolutionStrategySupport resolutionStrategySupport )
+            throws ModelResolutionException {
+         final AspectModelFile cachedFile = Optional.ofNullable( definitions.get( aspectModelUrn.toString() ) )
+               .map( files::get )
+               .orElse( null );
+         if ( cachedFile != null ) {
+            return cachedFile;
+         }
+         final AspectModelFile file = delegate.apply( aspectModelUrn, resolutionStrategySupport );
+         file.sourceLocation().map( AspectModelCache::normalize ).ifPresent( location -> {
+            files.put( location, file );
+            file.sourceModel().listStatements( null, RDF.type, (RDFNode) null )
+                  .mapWith( Statement::getSubject )
+                  .filterKeep( Resource::isURIResource )
+                  .forEachRemaining( subject -> definitions.put( subject.getURI(), location ) );
+         } );
+         return file;
+      }
+
+      private void invalidate( final URI location ) {
+         files.remove( location );
+         definitions.values().removeIf( location::equals );
+      }
+
+      private void invalidateAll() {
+         files.clear();
+         definitions.clear();
+      }
+
+      @Override
+      public Stream<URI> listContents() {
+         return delegate.listContents();
+      }
+
+      @Override
+      public Stream<URI> listContentsForNamespace( final AspectModelUrn namespace ) {
+         return delegate.listContentsForNamespace( namespace );
+      }
+
+      @Override
+      public Stream<AspectModelFile> loadContents() {
+         return delegate.loadContents();
+      }
+
+      @Override
+      public Stream<AspectModelFile> loadContentsForNamespace( final AspectModelUrn namespace ) {
+         return delegate.loadContentsForNamespace( namespace );
+      }
+   }
+}
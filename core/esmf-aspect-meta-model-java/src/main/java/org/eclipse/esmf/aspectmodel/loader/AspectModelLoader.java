@@ -13,6 +13,8 @@
 
 package org.eclipse.esmf.aspectmodel.loader;
 
+import static org.eclipse.esmf.aspectmodel.ConcurrencyUtil.checkInterrupted;
+
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -23,14 +25,22 @@ import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -49,6 +59,7 @@ import org.apache.jena.vocabulary.XSD;
 
 import org.eclipse.esmf.aspectmodel.AspectLoadingException;
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.MergedGraph;
 import org.eclipse.esmf.aspectmodel.RdfUtil;
 import org.eclipse.esmf.aspectmodel.resolver.AspectModelFileLoader;
 import org.eclipse.esmf.aspectmodel.resolver.EitherStrategy;
@@ -77,6 +88,7 @@ import org.eclipse.esmf.metamodel.impl.DefaultAspectModel;
 import org.eclipse.esmf.metamodel.impl.DefaultNamespace;
 import org.eclipse.esmf.metamodel.vocabulary.SammNs;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -89,6 +101,12 @@ import io.vavr.control.Try;
  * The core class to load an {@link AspectModel}. The AspectModelLoader is also a
  * {@link ModelSource} and allows to list the contents of its configured
  * {@link ResolutionStrategy}s.
+ *
+ * <p>Loading a model can be cancelled by interrupting the loading thread: the resolution of model
+ * elements checks the interrupt flag of the current thread between resolution steps and, if it is set,
+ * stops with a {@link java.util.concurrent.CancellationException}. The interrupt flag is left set, so
+ * callers that interrupt loading threads for other purposes should expect this exception from all load
+ * methods.
  */
 public class AspectModelLoader implements ModelSource, ResolutionStrategySupport {
    private static final Logger LOG = LoggerFactory.getLogger( AspectModelLoader.class );
@@ -100,6 +118,8 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
 
    private final ResolutionStrategy resolutionStrategy;
    private Consumer<Model> mergedModelValidator = model -> {};
+   private boolean parallelResolution = false;
+   private @Nullable Executor resolutionExecutor = null;
 
    /**
     * Default constructor. When encountering model elements not defined in the current file, this will
@@ -138,6 +158,33 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
       }
    }
 
+   /**
+    * Enables parallel resolution: URNs that are discovered in the same step of the resolution process
+    * are resolved concurrently on virtual threads. The resulting {@link AspectModel} and the reported
+    * resolution failures are the same as with sequential resolution.
+    *
+    * @return this loader
+    */
+   public AspectModelLoader withParallelResolution() {
+      parallelResolution = true;
+      resolutionExecutor = null;
+      return this;
+   }
+
+   /**
+    * Enables parallel resolution, see {@link #withParallelResolution()}, using the given executor
+    * to run the {@link ResolutionStrategy} calls. The caller is responsible for shutting down the
+    * executor.
+    *
+    * @param executor the executor to run resolution strategies on
+    * @return this loader
+    */
+   public AspectModelLoader withParallelResolution( final Executor executor ) {
+      parallelResolution = true;
+      resolutionExecutor = executor;
+      return this;
+   }
+
    /**
     * An interface to the AspectModelValidator that validates RDF graphs of the single files before
     * instantiating {@link ModelElement}s
@@ -557,12 +604,27 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
    }
 
    private void resolve( final List<AspectModelFile> inputFiles, final LoaderContext context ) {
+      if ( !parallelResolution ) {
+         resolve( inputFiles, context, null );
+      } else if ( resolutionExecutor != null ) {
+         resolve( inputFiles, context, resolutionExecutor );
+      } else {
+         try ( final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor() ) {
+            resolve( inputFiles, context, executor );
+         }
+      }
+   }
+
+   private void resolve( final List<AspectModelFile> inputFiles, final LoaderContext context, final @Nullable Executor executor ) {
       for ( final AspectModelFile aspectModelFile : inputFiles ) {
          context.unresolvedFiles().push( aspectModelFile );
       }
 
       final List<ModelResolutionException.LoadingFailure> loadingFailures = new ArrayList<>();
+      final Map<String, CompletableFuture<Optional<AspectModelFile>>> resolutionResults = new HashMap<>();
+      final Map<String, CompletableFuture<List<AspectModelFile>>> namespaceResolutions = new HashMap<>();
       while ( !context.unresolvedFiles().isEmpty() || !context.unresolvedUrns().isEmpty() ) {
+         checkInterrupted();
          if ( !context.unresolvedFiles().isEmpty() ) {
             final AspectModelFile modelFile = context.unresolvedFiles().pop();
             if ( context.loadedFiles().contains( modelFile ) ) {
@@ -571,26 +633,98 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
             markModelFileAsLoaded( modelFile, context );
          }
 
+         if ( executor == null ) {
+            resolveUnresolvedUrns( context, loadingFailures );
+         } else {
+            resolveUnresolvedUrnsInParallel( context, loadingFailures, resolutionResults, namespaceResolutions, executor );
+         }
+      }
+
+      if ( !loadingFailures.isEmpty() ) {
+         throw new ModelResolutionException( loadingFailures );
+      }
+   }
+
+   private void resolveUnresolvedUrns( final LoaderContext context, final List<ModelResolutionException.LoadingFailure> loadingFailures ) {
+      while ( !context.unresolvedUrns().isEmpty() ) {
+         checkInterrupted();
+         try {
+            applyResolutionStrategy( context.unresolvedUrns().pop() )
+                  .map( this::migrate )
+                  .ifPresent( resolvedFile -> markModelFileAsLoaded( resolvedFile, context ) );
+         } catch ( final ModelResolutionException exception ) {
+            collectLoadingFailures( exception, loadingFailures );
+         }
+      }
+   }
+
+   /**
+    * Resolves the currently unresolved URNs concurrently, one batch per step of the resolution
+    * process. The results of each batch are processed in the order in which the URNs were queued, so
+    * the outcome is the same as for {@link #resolveUnresolvedUrns(LoaderContext, List)}.
+    *
+    * <p>Lookups are deduplicated per namespace: different namespaces are resolved concurrently, while
+    * the URNs of one namespace are resolved one after another, and a URN whose definition is contained
+    * in a file that was already resolved for its namespace is answered from that file without calling
+    * the resolution strategy again. Namespaces are not resolved as a whole, because the elements of a
+    * namespace may be spread across several files and the strategies locate files by element URN.
+    */
+   private void resolveUnresolvedUrnsInParallel( final LoaderContext context,
+         final List<ModelResolutionException.LoadingFailure> loadingFailures,
+         final Map<String, CompletableFuture<Optional<AspectModelFile>>> resolutionResults,
+         final Map<String, CompletableFuture<List<AspectModelFile>>> namespaceResolutions, final Executor executor ) {
+      while ( !context.unresolvedUrns().isEmpty() ) {
+         final List<CompletableFuture<Optional<AspectModelFile>>> batch = new ArrayList<>();
          while ( !context.unresolvedUrns().isEmpty() ) {
+            batch.add( resolutionResults.computeIfAbsent( context.unresolvedUrns().pop(), urn ->
+                  resolveInNamespace( urn, namespaceResolutions, executor ) ) );
+         }
+         for ( final CompletableFuture<Optional<AspectModelFile>> resolution : batch ) {
+            checkInterrupted();
             try {
-               applyResolutionStrategy( context.unresolvedUrns().pop() )
-                     .map( this::migrate )
-                     .ifPresent( resolvedFile -> markModelFileAsLoaded( resolvedFile, context ) );
-            } catch ( final ModelResolutionException exception ) {
-               // If one element can not be resolved, collect its cause and continue, so that
-               // we can create a comprehensive overview of all elements that can not be resolved
-               if ( exception.getCheckedLocations().isEmpty() ) {
-                  throw exception;
+               resolution.join().ifPresent( resolvedFile -> markModelFileAsLoaded( resolvedFile, context ) );
+            } catch ( final CompletionException exception ) {
+               if ( exception.getCause() instanceof final ModelResolutionException modelResolutionException ) {
+                  collectLoadingFailures( modelResolutionException, loadingFailures );
+               } else if ( exception.getCause() instanceof final RuntimeException runtimeException ) {
+                  throw runtimeException;
                } else {
-                  loadingFailures.addAll( exception.getCheckedLocations() );
+                  throw exception;
                }
             }
          }
       }
+   }
 
-      if ( !loadingFailures.isEmpty() ) {
-         throw new ModelResolutionException( loadingFailures );
+   /**
+    * Schedules the resolution of a URN after all pending resolutions of the same namespace. The files
+    * resolved so far for the namespace are checked first, so that a namespace file is only looked up
+    * once even if several of its elements are referenced.
+    */
+   private CompletableFuture<Optional<AspectModelFile>> resolveInNamespace( final String urn,
+         final Map<String, CompletableFuture<List<AspectModelFile>>> namespaceResolutions, final Executor executor ) {
+      final String namespace = urn.contains( "#" ) ? urn.substring( 0, urn.indexOf( '#' ) + 1 ) : urn;
+      final CompletableFuture<List<AspectModelFile>> resolvedFiles =
+            namespaceResolutions.getOrDefault( namespace, CompletableFuture.completedFuture( List.of() ) );
+      final CompletableFuture<Optional<AspectModelFile>> resolution = resolvedFiles.thenApplyAsync( files -> files.stream()
+            .filter( file -> containsType( file.sourceModel(), urn ) )
+            .findFirst()
+            .or( () -> applyResolutionStrategy( urn ).map( this::migrate ) ), executor );
+      namespaceResolutions.put( namespace, resolvedFiles.thenCombine( resolution.exceptionally( _ -> Optional.empty() ),
+            ( files, resolvedFile ) -> resolvedFile.filter( file -> !files.contains( file ) )
+                  .map( file -> Stream.concat( files.stream(), Stream.of( file ) ).toList() )
+                  .orElse( files ) ) );
+      return resolution;
+   }
+
+   private void collectLoadingFailures( final ModelResolutionException exception,
+         final List<ModelResolutionException.LoadingFailure> loadingFailures ) {
+      // If one element can not be resolved, collect its cause and continue, so that
+      // we can create a comprehensive overview of all elements that can not be resolved
+      if ( exception.getCheckedLocations().isEmpty() ) {
+         throw exception;
       }
+      loadingFailures.addAll( exception.getCheckedLocations() );
    }
 
    /**
@@ -630,8 +764,6 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
 
    private Model buildMergedModel( final Collection<AspectModelFile> files ) {
       final Map<String, AspectModelFile> definedElements = new HashMap<>();
-      final Map<URI, Model> graphContent = new HashMap<>();
-      graphContent.put( URI.create( SammNs.SAMM.getUri() ), MetaModelFile.metaModelDefinitions() );
       for ( final AspectModelFile file : files ) {
          for ( final StmtIterator iterator = file.sourceModel().listStatements( null, RDF.type, (RDFNode) null ); iterator.hasNext(); ) {
             final Resource subject = iterator.next().getSubject();
@@ -645,11 +777,8 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
                   } );
             definedElements.put( subject.getURI(), file );
          }
-
-         final URI graphName = file.sourceLocation().orElse( URI.create( "inmemory:graph:" + file.sourceModel().hashCode() ) );
-         graphContent.put( graphName, file.sourceModel() );
       }
-      return RdfUtil.mergedView( graphContent );
+      return RdfUtil.mergedModel( files.stream().map( AspectModelFile::sourceModel ).toList(), MetaModelFile.sharedMetaModelDefinitions() );
    }
 
    /**
@@ -679,28 +808,151 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
          final DefaultAspectModelFile aspectModelFile = new DefaultAspectModelFile( file.sourceModel(), file.headerComment(),
                file.sourceLocation() );
          files.add( aspectModelFile );
-         final Model model = file.sourceModel();
-         final ModelElementFactory modelElementFactory = new ModelElementFactory( mergedModel, Map.of(), element -> aspectModelFile );
-         final List<ModelElement> fileElements = model.listStatements( null, RDF.type, (RDFNode) null ).toList().stream()
-               .filter( statement -> !statement.getObject().isURIResource() || !statement.getResource().equals( SammNs.SAMM.Namespace() ) )
-               .map( Statement::getSubject )
-               .filter( RDFNode::isURIResource )
-               .map( resource -> {
-                  final Resource newResource = mergedModel.createResource( resource.getURI() );
-                  TokenRegistry.updateNode( resource.asNode(), newResource.asNode() );
-                  return newResource;
-               } )
-               .map( resource -> modelElementFactory.create( ModelElement.class, resource ) )
-               .toList();
+         final List<ModelElement> fileElements = createElements( aspectModelFile, mergedModel, Set.of(), Map.of() );
          aspectModelFile.setElements( fileElements );
          elements.addAll( fileElements );
       }
 
       setNamespaces( files, elements );
+      setEmptyPrefix( mergedModel, elements );
+      checkNumberOfAspects( files );
+      return new DefaultAspectModel( files, mergedModel, elements );
+   }
+
+   /**
+    * Updates an Aspect Model in place after statements were added to or removed from the source models
+    * of some of its files. The merged model is patched with the changed statements, and only the model
+    * elements that (directly or transitively) refer to a changed RDF resource are instantiated again;
+    * all other model elements are kept. The set of files of the Aspect Model must not have changed, and
+    * its merged model must have been created by {@link #loadAspectModelFiles(Collection)}.
+    *
+    * @param aspectModel the Aspect Model to update
+    * @param changedFiles the files whose source models have changed
+    * @param addedStatements the statements that were added to the source models
+    * @param removedStatements the statements that were removed from the source models
+    * @throws IllegalArgumentException if the merged model of the Aspect Model can not be patched
+    */
+   public void refreshAspectModel( final DefaultAspectModel aspectModel, final Collection<AspectModelFile> changedFiles,
+         final Model addedStatements, final Model removedStatements ) {
+      final Model mergedModel = aspectModel.mergedModel();
+      if ( !( mergedModel.getGraph() instanceof final MergedGraph mergedGraph ) ) {
+         throw new IllegalArgumentException( "The merged model of the Aspect Model can not be updated incrementally" );
+      }
+      final List<AspectModelFile> files = aspectModel.files();
+      checkDuplicateDefinitions( files, addedStatements );
+      mergedGraph.update( addedStatements.getGraph(), removedStatements.getGraph(),
+            files.stream().map( file -> file.sourceModel().getGraph() ).toList() );
+      updatePrefixes( mergedModel, files, addedStatements, removedStatements );
+
+      final Set<String> changedElements = changedElements( mergedModel, addedStatements, removedStatements );
+      final Set<AspectModelFile> filesToUpdate = Collections.newSetFromMap( new IdentityHashMap<>() );
+      filesToUpdate.addAll( changedFiles );
+      final List<ModelElement> elements = new ArrayList<>();
+      for ( final AspectModelFile file : files ) {
+         final boolean containsChangedElement = file.elements().stream()
+               .anyMatch( element -> !element.isAnonymous() && changedElements.contains( element.urn().toString() ) );
+         if ( !containsChangedElement && !filesToUpdate.contains( file ) ) {
+            elements.addAll( file.elements() );
+            continue;
+         }
+         final DefaultAspectModelFile aspectModelFile = (DefaultAspectModelFile) file;
+         final Map<String, ModelElement> previousElements = file.elements().stream()
+               .filter( element -> !element.isAnonymous() )
+               .collect( Collectors.toMap( element -> element.urn().toString(), Function.identity(), ( first, second ) -> first ) );
+         final List<ModelElement> fileElements = createElements( aspectModelFile, mergedModel, changedElements, previousElements );
+         aspectModelFile.setElements( fileElements );
+         elements.addAll( fileElements );
+      }
+
+      setNamespaces( files, elements );
+      setEmptyPrefix( mergedModel, elements );
+      checkNumberOfAspects( filesToUpdate );
+      aspectModel.setElements( elements );
+   }
+
+   /**
+    * Instantiates the model elements defined in a file. Elements whose URN is contained in the given
+    * reusable elements and not in the changed elements are not instantiated again.
+    */
+   private List<ModelElement> createElements( final DefaultAspectModelFile aspectModelFile, final Model mergedModel,
+         final Set<String> changedElements, final Map<String, ModelElement> reusableElements ) {
+      final ModelElementFactory modelElementFactory = new ModelElementFactory( mergedModel, Map.of(), element -> aspectModelFile );
+      return aspectModelFile.sourceModel().listStatements( null, RDF.type, (RDFNode) null ).toList().stream()
+            .filter( statement -> !statement.getObject().isURIResource() || !statement.getResource().equals( SammNs.SAMM.Namespace() ) )
+            .map( Statement::getSubject )
+            .filter( RDFNode::isURIResource )
+            .map( resource -> {
+               final ModelElement reusableElement = reusableElements.get( resource.getURI() );
+               if ( reusableElement != null && !changedElements.contains( resource.getURI() ) ) {
+                  return reusableElement;
+               }
+               final Resource newResource = mergedModel.createResource( resource.getURI() );
+               TokenRegistry.updateNode( resource.asNode(), newResource.asNode() );
+               return modelElementFactory.create( ModelElement.class, newResource );
+            } )
+            .toList();
+   }
+
+   /**
+    * Determines the URIs of all named resources whose instantiated model elements are affected by
+    * the changed statements, i.e., the subjects of the changed statements and all named resources that
+    * (transitively) refer to one of them.
+    */
+   private Set<String> changedElements( final Model mergedModel, final Model addedStatements, final Model removedStatements ) {
+      final Set<String> result = new HashSet<>();
+      final Set<RDFNode> visited = new HashSet<>();
+      final Deque<Resource> pending = new ArrayDeque<>();
+      Stream.of( addedStatements, removedStatements )
+            .forEach( model -> model.listStatements().forEachRemaining( statement -> pending.add( statement.getSubject() ) ) );
+      while ( !pending.isEmpty() ) {
+         final Resource resource = pending.pop();
+         if ( !visited.add( resource ) ) {
+            continue;
+         }
+         if ( resource.isURIResource() ) {
+            result.add( resource.getURI() );
+         }
+         mergedModel.listStatements( null, null, resource ).forEachRemaining( statement -> pending.add( statement.getSubject() ) );
+      }
+      return result;
+   }
+
+   private void checkDuplicateDefinitions( final List<AspectModelFile> files, final Model addedStatements ) {
+      addedStatements.listStatements( null, RDF.type, (RDFNode) null )
+            .mapWith( Statement::getSubject )
+            .filterKeep( Resource::isURIResource )
+            .forEachRemaining( subject -> {
+               final List<AspectModelFile> definingFiles = files.stream()
+                     .filter( file -> file.sourceModel().contains( subject, RDF.type, (RDFNode) null ) )
+                     .toList();
+               if ( definingFiles.size() > 1 ) {
+                  throw new AspectLoadingException( "Duplicate definition of %s in both %s and %s".formatted( subject.getURI(),
+                        definingFiles.get( 0 ).humanReadableLocation(), definingFiles.get( 1 ).humanReadableLocation() ) );
+               }
+            } );
+   }
+
+   private void updatePrefixes( final Model mergedModel, final List<AspectModelFile> files, final Model addedStatements,
+         final Model removedStatements ) {
+      for ( final String prefix : removedStatements.getNsPrefixMap().keySet() ) {
+         mergedModel.removeNsPrefix( prefix );
+         files.stream()
+               .map( file -> file.sourceModel().getNsPrefixURI( prefix ) )
+               .filter( Objects::nonNull )
+               .findFirst()
+               .ifPresent( uri -> mergedModel.setNsPrefix( prefix, uri ) );
+      }
+      mergedModel.setNsPrefixes( addedStatements.getNsPrefixMap() );
+   }
+
+   private void setEmptyPrefix( final Model mergedModel, final List<ModelElement> elements ) {
       elements.stream()
             .filter( modelElement -> modelElement.is( Aspect.class ) )
             .findFirst()
             .ifPresent( aspect -> mergedModel.setNsPrefix( "", aspect.urn().getUrnPrefix() ) );
+   }
+
+   private void checkNumberOfAspects( final Collection<AspectModelFile> files ) {
       for ( final AspectModelFile file : files ) {
          if ( 1 < file.aspects().size() ) {
             throw new AspectLoadingException(
@@ -708,7 +960,6 @@ public class AspectModelLoader implements ModelSource, ResolutionStrategySupport
                         + " aspects, but may only contain one." );
          }
       }
-      return new DefaultAspectModel( files, mergedModel, elements );
    }
 
    /**
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.resolver;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.apache.jena.riot.system.StreamRDFWriter;
+import org.apache.jena.riot.tokens.Token;
+import org.apache.jena.riot.tokens.TokenType;
+
+import org.eclipse.esmf.aspectmodel.resolver.modelfile.RawAspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.parser.SmartToken;
+import org.eclipse.esmf.aspectmodel.resolver.parser.TokenRegistry;
+import org.eclipse.esmf.aspectmodel.resolver.services.TurtleLoader;
+import org.eclipse.esmf.samm.KnownVersion;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An on-disk cache for parsed Aspect Model files. Entries are keyed by the hash of the file's
+ * RDF/Turtle content and the SAMM version supported by this SDK, so that loading an unchanged file
+ * again does not need to run the Turtle parser. Each entry stores the parsed graph in RDF Thrift
+ * format together with the file's header comment and the token positions of the RDF nodes, which
+ * are registered in the {@link TokenRegistry} on load just as if the file had been parsed.
+ * <p>
+ * The cache is opt-in: it is used by {@link AspectModelFileLoader} when it has been configured
+ * using {@link AspectModelFileLoader#setCache(AspectModelFileCache)} or when the system property
+ * {@value #CACHE_DIRECTORY_PROPERTY} is set to a directory.
+ */
+public class AspectModelFileCache {
+   /**
+    * The system property that, if set, enables the cache in the given directory
+    */
+   public static final String CACHE_DIRECTORY_PROPERTY = "esmf.aspectmodel.cache.directory";
+
+   private static final Logger LOG = LoggerFactory.getLogger( AspectModelFileCache.class );
+   private static final int MAGIC = 0x45534d46;
+   private static final int FORMAT_VERSION = 1;
+   private static final String FILE_EXTENSION = ".rdft";
+
+   private final Path cacheDirectory;
+
+   /**
+    * Creates a new cache that stores its entries in the given directory. The directory is created if
+    * it does not exist yet.
+    *
+    * @param cacheDirectory the cache directory
+    */
+   public AspectModelFileCache( final Path cacheDirectory ) {
+      this.cacheDirectory = cacheDirectory;
+   }
+
+   /**
+    * Creates a cache for the directory given in the system property {@value #CACHE_DIRECTORY_PROPERTY},
+    * if it is set.
+    *
+    * @return the cache, or empty if the system property is not set
+    */
+   public static Optional<AspectModelFileCache> fromSystemProperty() {
+      return Optional.ofNullable( System.getProperty( CACHE_DIRECTORY_PROPERTY ) )
+            .filter( directory -> !directory.isBlank() )
+            .map( directory -> new AspectModelFileCache( Path.of( directory ) ) );
+   }
+
+   public Path getCacheDirectory() {
+      return cacheDirectory;
+   }
+
+   /**
+    * Looks up the parsed representation of the given RDF/Turtle content.
+    *
+    * @param rdfTurtle the model content
+    * @param sourceLocation the source location to attach to the loaded file
+    * @return the loaded file, or empty if the cache contains no (valid) entry for the content
+    */
+   public Optional<RawAspectModelFile> get( final String rdfTurtle, final URI sourceLocation ) {
+      final Path entry = entryPath( rdfTurtle );
+      if ( !Files.isRegularFile( entry ) ) {
+         return Optional.empty();
+      }
+      TurtleLoader.init();
+      try ( final InputStream inputStream = new BufferedInputStream( Files.newInputStream( entry ) ) ) {
+         return Optional.of( read( inputStream, rdfTurtle, sourceLocation ) );
+      } catch ( final IOException | RuntimeException exception ) {
+         LOG.debug( "Discarding unreadable cache entry {}", entry, exception );
+         deleteQuietly( entry );
+         return Optional.empty();
+      }
+   }
+
+   /**
+    * Stores the parsed representation of a file in the cache. Failures to write the cache entry are
+    * logged and otherwise ignored.
+    *
+    * @param file the loaded file; its source representation is used as the cache key
+    */
+   public void put( final RawAspectModelFile file ) {
+      final Path entry = entryPath( file.sourceRepresentation() );
+      Path temporaryFile = null;
+      try {
+         Files.createDirectories( cacheDirectory );
+         temporaryFile = Files.createTempFile( cacheDirectory, "entry", ".tmp" );
+         try ( final OutputStream outputStream = new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) {
+            write( file, outputStream );
+         }
+         Files.move( temporaryFile, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+      } catch ( final IOException | RuntimeException exception ) {
+         LOG.debug( "Could not write cache entry {}", entry, exception );
+         deleteQuietly( temporaryFile );
+      }
+   }
+
+   private static void deleteQuietly( final @Nullable Path path ) {
+      if ( path == null ) {
+         return;
+      }
+      try {
+         Files.deleteIfExists( path );
+      } catch ( final IOException exception ) {
+         LOG.debug( "Could not delete {}", path, exception );
+      }
+   }
+
+   private Path entryPath( final String rdfTurtle ) {
+      try {
+         final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+         digest.update( ( KnownVersion.getLatest().toVersionString() + "/" + FORMAT_VERSION + "/" ).getBytes( StandardCharsets.UTF_8 ) );
+         digest.update( rdfTurtle.getBytes( StandardCharsets.UTF_8 ) );
+         return cacheDirectory.resolve( HexFormat.of().formatHex( digest.digest() ) + FILE_EXTENSION );
+      } catch ( final NoSuchAlgorithmException exception ) {
+         throw new IllegalStateException( exception );
+      }
+   }
+
+   private void write( final RawAspectModelFile file, final OutputStream outputStream ) throws IOException {
+      final DataOutputStream header = new DataOutputStream( outputStream );
+      header.writeInt( MAGIC );
+      header.writeInt( FORMAT_VERSION );
+      header.writeInt( file.headerComment().size() );
+      for ( final String line : file.headerComment() ) {
+         writeString( header, line );
+      }
+
+      final Graph graph = file.sourceModel().getGraph();
+      final List<Triple> triples = graph.find().toList();
+      header.writeInt( triples.size() );
+      for ( final Triple triple : triples ) {
+         writeToken( header, triple.getSubject() );
+         writeToken( header, triple.getPredicate() );
+         writeToken( header, triple.getObject() );
+      }
+      header.flush();
+
+      final StreamRDF stream = StreamRDFWriter.getWriterStream( outputStream, RDFFormat.RDF_THRIFT );
+      stream.start();
+      for ( final Map.Entry<String, String> prefix : file.sourceModel().getNsPrefixMap().entrySet() ) {
+         stream.prefix( prefix.getKey(), prefix.getValue() );
+      }
+      triples.forEach( stream::triple );
+      stream.finish();
+      outputStream.flush();
+   }
+
+   private RawAspectModelFile read( final InputStream inputStream, final String rdfTurtle, final URI sourceLocation )
+         throws IOException {
+      final DataInputStream header = new DataInputStream( inputStream );
+      if ( header.readInt() != MAGIC || header.readInt() != FORMAT_VERSION ) {
+         throw new IOException( "Invalid cache entry format" );
+      }
+      final int headerCommentLines = header.readInt();
+      final List<String> headerComment = new ArrayList<>( headerCommentLines );
+      for ( int i = 0; i < headerCommentLines; i++ ) {
+         headerComment.add( readString( header ) );
+      }
+      final int numberOfTriples = header.readInt();
+      final List<Token> tokens = new ArrayList<>( numberOfTriples * 3 );
+      for ( int i = 0; i < numberOfTriples * 3; i++ ) {
+         tokens.add( readToken( header ) );
+      }
+
+      final Model model = ModelFactory.createDefaultModel();
+      final Iterator<Token> tokenIterator = tokens.iterator();
+      RDFParser.create()
+            .source( inputStream )
+            .lang( Lang.RDFTHRIFT )
+            .parse( new StreamRDFBase() {
+               @Override
+               public void triple( final Triple triple ) {
+                  registerToken( triple.getSubject(), tokenIterator.next() );
+                  registerToken( triple.getPredicate(), tokenIterator.next() );
+                  registerToken( triple.getObject(), tokenIterator.next() );
+                  model.getGraph().add( triple );
+               }
+
+               @Override
+               public void prefix( final String prefix, final String iri ) {
+                  model.setNsPrefix( prefix, iri );
+               }
+            } );
+      if ( model.size() != numberOfTriples ) {
+         throw new IOException( "Cache entry is incomplete" );
+      }
+      return new RawAspectModelFile( rdfTurtle, model, headerComment, Optional.of( sourceLocation ) );
+   }
+
+   private void registerToken( final Node node, final @Nullable Token token ) {
+      if ( token != null ) {
+         TokenRegistry.put( node, new SmartToken( token ) );
+      }
+   }
+
+   private void writeToken( final DataOutputStream output, final Node node ) throws IOException {
+      final Token token = TokenRegistry.getToken( node ).map( SmartToken::getJenaToken ).orElse( null );
+      writeToken( output, token );
+   }
+
+   private void writeToken( final DataOutputStream output, final @Nullable Token token ) throws IOException {
+      output.writeBoolean( token != null );
+      if ( token == null ) {
+         return;
+      }
+      output.writeUTF( token.getType() == null ? "" : token.getType().name() );
+      output.writeLong( token.getLine() );
+      output.writeLong( token.getColumn() );
+      writeNullableString( output, token.getImage() );
+      writeNullableString( output, token.getImage2() );
+      writeToken( output, token.getSubToken1() );
+      writeToken( output, token.getSubToken2() );
+   }
+
+   private @Nullable Token readToken( final DataInputStream input ) throws IOException {
+      if ( !input.readBoolean() ) {
+         return null;
+      }
+      final String type = input.readUTF();
+      final Token token = new Token( input.readLong(), input.readLong() );
+      if ( !type.isEmpty() ) {
+         token.setType( TokenType.valueOf( type ) );
+      }
+      token.setImage( readNullableString( input ) );
+      token.setImage2( readNullableString( input ) );
+      token.setSubToken1( readToken( input ) );
+      token.setSubToken2( readToken( input ) );
+      return token;
+   }
+
+   private void writeNullableString( final DataOutputStream output, final @Nullable String value ) throws IOException {
+      output.writeBoolean( value != null );
+      if ( value != null ) {
+         writeString( output, value );
+      }
+   }
+
+   private @Nullable String readNullableString( final DataInputStream input ) throws IOException {
+      return input.readBoolean() ? readString( input ) : null;
+   }
+
+   /**
+    * Writes a string as length-prefixed UTF-8. {@link DataOutputStream#writeUTF(String)} is not used
+    * here, since it is limited to 64 KiB, which multi-line literals can exceed.
+    */
+   private void writeString( final DataOutputStream output, final String value ) throws IOException {
+      final byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+      output.writeInt( bytes.length );
+      output.write( bytes );
+   }
+
+   private String readString( final DataInputStream input ) throws IOException {
+      final byte[] bytes = new byte[input.readInt()];
+      input.readFully( bytes );
+      return new String( bytes, StandardCharsets.UTF_8 );
+   }
+}
@@ -44,6 +44,8 @@ import org.eclipse.esmf.treesitterturtle.ParserTokenType;
 import org.eclipse.esmf.treesitterturtle.TurtleSyntaxTree;
 import org.eclipse.esmf.util.download.Download;
 
+import org.jspecify.annotations.Nullable;
+
 import io.vavr.control.Try;
 
 /**
@@ -52,6 +54,19 @@ import io.vavr.control.Try;
  * as it is part of the regular Aspect Model loader. Use {@link AspectModelLoader} instead.
  */
 public class AspectModelFileLoader {
+   private static volatile Optional<AspectModelFileCache> cache = AspectModelFileCache.fromSystemProperty();
+
+   /**
+    * Configures the on-disk cache that is used to skip parsing of files whose content has been parsed
+    * before. By default, the cache is only enabled if the system property
+    * {@value AspectModelFileCache#CACHE_DIRECTORY_PROPERTY} is set.
+    *
+    * @param fileCache the cache to use, or null to disable caching
+    */
+   public static void setCache( final @Nullable AspectModelFileCache fileCache ) {
+      cache = Optional.ofNullable( fileCache );
+   }
+
    /**
     * Loads the content of an AspectModelFile from a file
     *
@@ -83,6 +98,15 @@ public class AspectModelFileLoader {
     * @return the loaded file content
     */
    public static RawAspectModelFile load( final String rdfTurtle, final URI sourceLocation ) {
+      final Optional<AspectModelFileCache> fileCache = cache;
+      return fileCache.flatMap( theCache -> theCache.get( rdfTurtle, sourceLocation ) ).orElseGet( () -> {
+         final RawAspectModelFile result = parse( rdfTurtle, sourceLocation );
+         fileCache.ifPresent( theCache -> theCache.put( result ) );
+         return result;
+      } );
+   }
+
+   private static RawAspectModelFile parse( final String rdfTurtle, final URI sourceLocation ) {
       final List<String> headerComment = headerComment( rdfTurtle );
       final Try<Model> tryModel = TurtleLoader.loadTurtle( rdfTurtle, sourceLocation );
       if ( tryModel.isFailure() && tryModel.getCause() instanceof final ParserException parserException ) {
@@ -25,9 +25,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Enumeration;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -51,6 +51,7 @@ import org.slf4j.LoggerFactory;
 public class ClasspathStrategy implements ResolutionStrategy {
    private static final Logger LOG = LoggerFactory.getLogger( ClasspathStrategy.class );
    private final String modelsRoot;
+   private final ElementDefinitionIndex definitionIndex;
 
    /**
     * Initialize the ClasspathStrategy with an empty root path for models. The classpath is assumed to
@@ -72,7 +73,7 @@ public class ClasspathStrategy implements ResolutionStrategy {
     * </pre>
     */
    public ClasspathStrategy() {
-      modelsRoot = "";
+      this( "" );
    }
 
    /**
@@ -98,6 +99,7 @@ public class ClasspathStrategy implements ResolutionStrategy {
     */
    public ClasspathStrategy( final String modelsRoot ) {
       this.modelsRoot = modelsRoot;
+      definitionIndex = ElementDefinitionIndex.shared( "classpath:" + modelsRoot );
    }
 
    protected URL resourceUrl( final String directory, final String filename ) {
@@ -181,12 +183,22 @@ public class ClasspathStrategy implements ResolutionStrategy {
       LOG.warn( "Looking for {}, but no {}.ttl was found. Inspecting files in {}", aspectModelUrn.getName(),
             aspectModelUrn.getName(), directory );
 
-      for ( final Iterator<URL> it = filesInDirectory( directory )
+      final List<URI> directoryContents = filesInDirectory( directory )
             .filter( name -> name.endsWith( ".ttl" ) )
             .map( name -> resourceUrl( directory, name ) )
             .sorted( Comparator.comparing( URL::getPath ) )
-            .iterator(); it.hasNext(); ) {
-         final URL url = it.next();
+            .map( this::toUri )
+            .toList();
+      final Set<URI> filesToInspect = definitionIndex.filesToInspect( aspectModelUrn, directoryContents );
+      for ( final URI uri : directoryContents ) {
+         if ( !filesToInspect.contains( uri ) ) {
+            checkedLocations.add( new ModelResolutionException.LoadingFailure( aspectModelUrn, uri.toString(),
+                  "File does not contain the element definition" ) );
+         }
+      }
+
+      for ( final URI uri : filesToInspect ) {
+         final URL url = toUrl( uri );
          final Try<RawAspectModelFile> file = Try.of( () -> AspectModelFileLoader.load( url ) );
          if ( file.isFailure() ) {
             checkedLocations.add( new ModelResolutionException.LoadingFailure( aspectModelUrn, url.toString(),
@@ -194,6 +206,7 @@ public class ClasspathStrategy implements ResolutionStrategy {
             continue;
          }
          final AspectModelFile result = file.get();
+         definitionIndex.update( uri, result.sourceModel() );
          if ( resolutionStrategySupport.containsDefinition( result, aspectModelUrn ) ) {
             return result;
          }
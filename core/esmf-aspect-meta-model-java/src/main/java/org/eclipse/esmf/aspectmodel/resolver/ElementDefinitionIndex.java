@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.resolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.RDF;
+
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A lazily populated index that maps the URNs of model elements to the Aspect Model files that define
+ * them. It is used by resolution strategies when an element is not defined in the file named after it,
+ * so that the other files of the namespace do not all have to be loaded and parsed again for every such
+ * element.
+ * <p>
+ * Files are first indexed using a cheap textual scan for subjects of {@code a}/{@code rdf:type}
+ * statements. Since this scan can miss definitions in unusually formatted files, scanned entries are
+ * only used to determine which files to inspect first; once a file has been parsed, its entry is
+ * replaced by the exact set of subjects from the parsed model (see {@link #update(URI, Model)}).
+ * Entries for files in the local file system are invalidated when the file's modification time
+ * changes, as are entries for files in JAR files in the local file system when the JAR file's
+ * modification time changes; entries for other locations are assumed to never change. A lookup only
+ * checks the modification time of the files known to define the element; all candidate files are only
+ * checked when the index has no up-to-date answer.
+ * <p>
+ * Since entries are keyed by the absolute locations of the files, the resolution strategies share one
+ * index per models root (see {@link #shared(String)}), so that loaders that are created for the same
+ * root, e.g., for every command or document, can use the entries indexed by previous loaders.
+ */
+public class ElementDefinitionIndex {
+   private static final Logger LOG = LoggerFactory.getLogger( ElementDefinitionIndex.class );
+   private static final Pattern PREFIX_DECLARATION = Pattern.compile( "^\\s*(?i:@prefix|prefix)\\s+([^:\\s]*):\\s*<([^>]*)>",
+         Pattern.MULTILINE );
+   private static final Pattern TYPED_SUBJECT = Pattern.compile( "^([^\\s#@\\[(]\\S*)\\s+(?:a|rdf:type)\\s", Pattern.MULTILINE );
+   private static final long IMMUTABLE = -1L;
+   private static final Map<String, ElementDefinitionIndex> SHARED_INDEXES = new ConcurrentHashMap<>();
+
+   private final Map<URI, Entry> entries = new ConcurrentHashMap<>();
+   private final Map<String, Set<URI>> definingFiles = new ConcurrentHashMap<>();
+
+   private record Entry(
+         long lastModified,
+         Set<String> definedUrns,
+         boolean exact
+   ) {}
+
+   /**
+    * Returns the index that is shared by all resolution strategies for the given models root.
+    *
+    * @param root the identifier of the models root, e.g., the URI of its directory
+    * @return the index for the models root
+    */
+   public static ElementDefinitionIndex shared( final String root ) {
+      return SHARED_INDEXES.computeIfAbsent( root, _ -> new ElementDefinitionIndex() );
+   }
+
+   /**
+    * Determines which of the given files need to be inspected to find the definition of an element.
+    * Files that are known to define the element come first, followed by files whose contents are only
+    * known from the textual scan. Files that are known to not define the element are omitted. The
+    * relative order of the given files is retained.
+    *
+    * @param urn the URN of the element to look for
+    * @param files the candidate files, usually the contents of the element's namespace
+    * @return the files to inspect
+    */
+   public Set<URI> filesToInspect( final AspectModelUrn urn, final Collection<URI> files ) {
+      final Set<URI> candidates = new HashSet<>( files );
+      final List<URI> knownDefiningFiles = definingFiles( urn ).stream().filter( candidates::contains ).toList();
+      if ( knownDefiningFiles.isEmpty() || !knownDefiningFiles.stream().allMatch( this::isUpToDate ) ) {
+         files.forEach( this::refresh );
+      }
+
+      final Set<URI> currentDefiningFiles = definingFiles( urn );
+      final Set<URI> result = new LinkedHashSet<>();
+      final List<URI> unconfirmedFiles = new ArrayList<>();
+      for ( final URI file : files ) {
+         if ( currentDefiningFiles.contains( file ) ) {
+            result.add( file );
+         } else {
+            final Entry entry = entries.get( file );
+            if ( entry == null || !entry.exact() ) {
+               unconfirmedFiles.add( file );
+            }
+         }
+      }
+      result.addAll( unconfirmedFiles );
+      return result;
+   }
+
+   /**
+    * Replaces the index entry of a file with the exact set of elements defined in its parsed model.
+    *
+    * @param file the location of the file
+    * @param model the parsed content of the file
+    */
+   public void update( final URI file, final Model model ) {
+      final Set<String> definedUrns = new HashSet<>();
+      model.listStatements( null, RDF.type, (RDFNode) null )
+            .mapWith( Statement::getSubject )
+            .filterKeep( Resource::isURIResource )
+            .forEachRemaining( subject -> definedUrns.add( subject.getURI() ) );
+      put( file, new Entry( lastModified( file ), definedUrns, true ) );
+   }
+
+   /**
+    * Removes all entries from the index
+    */
+   public synchronized void clear() {
+      entries.clear();
+      definingFiles.clear();
+   }
+
+   private Set<URI> definingFiles( final AspectModelUrn urn ) {
+      final String urnString = urn.toString();
+      final Set<URI> files = definingFiles.getOrDefault( urnString, Set.of() );
+      final Set<URI> legacyFiles = definingFiles.getOrDefault(
+            urnString.replace( AspectModelUrn.PROTOCOL_AND_NAMESPACE_PREFIX, "urn:bamm:" ), Set.of() );
+      if ( legacyFiles.isEmpty() ) {
+         return files;
+      }
+      final Set<URI> result = new HashSet<>( files );
+      result.addAll( legacyFiles );
+      return result;
+   }
+
+   private boolean isUpToDate( final URI file ) {
+      final Entry entry = entries.get( file );
+      return entry != null && entry.lastModified() == lastModified( file );
+   }
+
+   private void refresh( final URI file ) {
+      final long lastModified = lastModified( file );
+      final Entry entry = entries.get( file );
+      if ( entry == null || entry.lastModified() != lastModified ) {
+         put( file, new Entry( lastModified, scan( file ), false ) );
+      }
+   }
+
+   private synchronized void put( final URI file, final Entry entry ) {
+      final Entry previousEntry = entries.put( file, entry );
+      if ( previousEntry != null ) {
+         for ( final String urn : previousEntry.definedUrns() ) {
+            final Set<URI> files = definingFiles.get( urn );
+            if ( files != null ) {
+               files.remove( file );
+               if ( files.isEmpty() ) {
+                  definingFiles.remove( urn );
+               }
+            }
+         }
+      }
+      for ( final String urn : entry.definedUrns() ) {
+         definingFiles.computeIfAbsent( urn, _ -> ConcurrentHashMap.newKeySet() ).add( file );
+      }
+   }
+
+   private long lastModified( final URI file ) {
+      if ( "file".equals( file.getScheme() ) ) {
+         return new File( file ).lastModified();
+      }
+      if ( "jar".equals( file.getScheme() ) ) {
+         // jar:file:/path/to/archive.jar!/path/in/archive
+         final String archive = StringUtils.substringBefore( file.getRawSchemeSpecificPart(), "!/" );
+         if ( archive.startsWith( "file:" ) ) {
+            try {
+               return new File( URI.create( archive ) ).lastModified();
+            } catch ( final IllegalArgumentException exception ) {
+               return IMMUTABLE;
+            }
+         }
+      }
+      return IMMUTABLE;
+   }
+
+   private Set<String> scan( final URI file ) {
+      final String content;
+      try ( final InputStream inputStream = file.toURL().openStream() ) {
+         content = new String( inputStream.readAllBytes(), StandardCharsets.UTF_8 );
+      } catch ( final IOException | IllegalArgumentException exception ) {
+         LOG.debug( "Could not scan {} for element definitions", file, exception );
+         return Set.of();
+      }
+
+      final Map<String, String> prefixes = new HashMap<>();
+      final Matcher prefixMatcher = PREFIX_DECLARATION.matcher( content );
+      while ( prefixMatcher.find() ) {
+         prefixes.put( prefixMatcher.group( 1 ), prefixMatcher.group( 2 ) );
+      }
+
+      final Set<String> definedUrns = new HashSet<>();
+      final Matcher subjectMatcher = TYPED_SUBJECT.matcher( content );
+      while ( subjectMatcher.find() ) {
+         final String subject = subjectMatcher.group( 1 );
+         if ( subject.startsWith( "<" ) && subject.endsWith( ">" ) ) {
+            definedUrns.add( subject.substring( 1, subject.length() - 1 ) );
+            continue;
+         }
+         final int colon = subject.indexOf( ':' );
+         if ( colon >= 0 && prefixes.containsKey( subject.substring( 0, colon ) ) ) {
+            definedUrns.add( prefixes.get( subject.substring( 0, colon ) ) + subject.substring( colon + 1 ) );
+         }
+      }
+      return definedUrns;
+   }
+}
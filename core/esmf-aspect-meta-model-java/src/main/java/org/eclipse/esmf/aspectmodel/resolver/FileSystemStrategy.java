@@ -20,9 +20,9 @@ import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.apache.jena.rdf.model.Model;
@@ -42,6 +42,7 @@ import io.vavr.control.Try;
  */
 public class FileSystemStrategy implements ResolutionStrategy {
    protected final ModelsRoot modelsRoot;
+   private final ElementDefinitionIndex definitionIndex;
 
    /**
     * Initialize the FileSystemStrategy with the root path of models. The directory
@@ -75,6 +76,7 @@ public class FileSystemStrategy implements ResolutionStrategy {
     */
    public FileSystemStrategy( final ModelsRoot modelsRoot ) {
       this.modelsRoot = modelsRoot;
+      definitionIndex = ElementDefinitionIndex.shared( modelsRoot.rootPath().toAbsolutePath().normalize().toUri().toString() );
    }
 
    /**
@@ -114,10 +116,19 @@ public class FileSystemStrategy implements ResolutionStrategy {
                "File does not exist" ) );
       }
 
-      // Element was not found in the named file. Check the other files in the directory.
+      // Element was not found in the named file. Check the other files in the directory that
+      // (possibly) contain its definition according to the index.
 
-      for ( final Iterator<URI> it = modelsRoot.namespaceContents( aspectModelUrn ).iterator(); it.hasNext(); ) {
-         final URI uri = it.next();
+      final List<URI> namespaceContents = modelsRoot.namespaceContents( aspectModelUrn ).toList();
+      final Set<URI> filesToInspect = definitionIndex.filesToInspect( aspectModelUrn, namespaceContents );
+      for ( final URI uri : namespaceContents ) {
+         if ( !filesToInspect.contains( uri ) ) {
+            checkedLocations.add( new ModelResolutionException.LoadingFailure( aspectModelUrn, Paths.get( uri ).toFile().getAbsolutePath(),
+                  "File does not contain the element definition" ) );
+         }
+      }
+
+      for ( final URI uri : filesToInspect ) {
          final File file = Paths.get( uri ).toFile();
          final Try<RawAspectModelFile> tryFile = Try.of( () -> AspectModelFileLoader.load( file ) );
          if ( tryFile.isFailure() ) {
@@ -126,6 +137,7 @@ public class FileSystemStrategy implements ResolutionStrategy {
             continue;
          }
          final AspectModelFile result = tryFile.get();
+         definitionIndex.update( uri, result.sourceModel() );
          if ( resolutionStrategySupport.containsDefinition( result, aspectModelUrn ) ) {
             return result;
          }
@@ -15,6 +15,7 @@ package org.eclipse.esmf.aspectmodel.resolver.modelfile;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
 import java.util.Arrays;
@@ -24,6 +25,7 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.esmf.aspectmodel.AspectLoadingException;
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
@@ -43,6 +45,10 @@ import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.sparql.graph.GraphReadOnly;
 
 /**
  * Enumeration of the {@link AspectModelFile}s that contain the SAMM meta model definition.
@@ -77,6 +83,18 @@ public enum MetaModelFile implements AspectModelFile {
    CHARACTERISTIC_SHAPES( "characteristic", "characteristic-shapes.ttl", SammNs.SAMMC,
          MetaModelFileType.SHAPE_DEFINITION );
 
+   /**
+    * System property that can be set to "false" to always load the meta model from RDF/Turtle instead
+    * of the binary snapshot that is generated at build time
+    */
+   public static final String SNAPSHOT_PROPERTY = "esmf.aspectmodel.metamodel.snapshot";
+
+   /**
+    * Class path location of the binary meta model snapshot files: section, meta model version and file
+    * name
+    */
+   private static final String SNAPSHOT_PATH = "samm-snapshot/%s/%s/%s.rdft";
+
    public enum MetaModelFileType {
       ELEMENT_DEFINITION, META_MODEL_DEFINITION, SHAPE_DEFINITION
    }
@@ -86,6 +104,7 @@ public enum MetaModelFile implements AspectModelFile {
    private final Model sourceModel;
    private final String filename;
    private final URL sourceUrl;
+   private final String snapshotPath;
 
    MetaModelFile( final String section, final String filename, final RdfNamespace rdfNamespace,
          final MetaModelFileType metaModelFileType ) {
@@ -93,15 +112,47 @@ public enum MetaModelFile implements AspectModelFile {
       this.rdfNamespace = rdfNamespace;
       this.metaModelFileType = metaModelFileType;
       sourceUrl = url( section, filename );
-      sourceModel = TurtleLoader.loadTurtle( sourceUrl )
-            .map( model -> {
-               final Set<Tuple2<Statement, Statement>> changeSet = determineSammUrlsToReplace( model );
-               changeSet.forEach( urlReplacement -> {
-                  model.remove( urlReplacement._1() );
-                  model.add( urlReplacement._2() );
-               } );
-               return model;
-            } ).getOrElseThrow( () -> new AspectLoadingException( "Could not load meta model file: " + filename ) );
+      snapshotPath = SNAPSHOT_PATH.formatted( section, KnownVersion.getLatest().toVersionString(), filename );
+      final Model model = loadSnapshot().orElseGet( () -> TurtleLoader.loadTurtle( sourceUrl )
+            .getOrElseThrow( () -> new AspectLoadingException( "Could not load meta model file: " + filename ) ) );
+      final Set<Tuple2<Statement, Statement>> changeSet = determineSammUrlsToReplace( model );
+      changeSet.forEach( urlReplacement -> {
+         model.remove( urlReplacement._1() );
+         model.add( urlReplacement._2() );
+      } );
+      sourceModel = model;
+   }
+
+   /**
+    * Loads the meta model file from the binary snapshot that is generated at build time. The snapshot
+    * is only used if the meta model file itself is not located in the file system (which would
+    * indicate a locally modified meta model) and the snapshot was not disabled using
+    * {@link #SNAPSHOT_PROPERTY}.
+    *
+    * @return the model, or empty if no usable snapshot exists
+    */
+   private Optional<Model> loadSnapshot() {
+      if ( "file".equals( sourceUrl.getProtocol() ) || !Boolean.parseBoolean( System.getProperty( SNAPSHOT_PROPERTY, "true" ) ) ) {
+         return Optional.empty();
+      }
+      try ( final InputStream inputStream = MetaModelFile.class.getClassLoader().getResourceAsStream( snapshotPath ) ) {
+         if ( inputStream == null ) {
+            return Optional.empty();
+         }
+         TurtleLoader.init();
+         return Optional.of( RDFParser.create().source( inputStream ).lang( Lang.RDFTHRIFT ).toModel() );
+      } catch ( final IOException | RiotException exception ) {
+         return Optional.empty();
+      }
+   }
+
+   /**
+    * Returns the class path location of the binary snapshot of this meta model file
+    *
+    * @return the snapshot path
+    */
+   String snapshotPath() {
+      return snapshotPath;
    }
 
    /**
@@ -190,26 +241,64 @@ public enum MetaModelFile implements AspectModelFile {
    }
 
    /**
-    * The SAMM meta model definitions as a single RDF model.
+    * The SAMM meta model definitions as a single RDF model. The result is a mutable copy of
+    * {@link #sharedMetaModelDefinitions()}; callers that only read the meta model definitions should
+    * use the shared model instead.
     *
     * @return the meta model definitions
     */
    public static Model metaModelDefinitions() {
-      final Model model = ModelFactory.createDefaultModel();
-      getMetaModelDefinitionsFiles().stream().map( MetaModelFile::sourceModel ).forEach( model::add );
-      getElementDefinitionsFiles().stream().map( MetaModelFile::sourceModel ).forEach( model::add );
-      return model;
+      return ModelFactory.createDefaultModel().add( sharedMetaModelDefinitions() );
    }
 
    /**
-    * The SAMM meta model shapes as a single RDF model.
+    * The SAMM meta model shapes as a single RDF model. The result is a mutable copy of
+    * {@link #sharedMetaModelShapes()}; callers that only read the meta model shapes should use the
+    * shared model instead.
     *
     * @return the meta model shapes
     */
    public static Model metaModelShapes() {
-      final Model model = ModelFactory.createDefaultModel();
-      getShapeDefinitionsFiles().stream().map( MetaModelFile::sourceModel ).forEach( model::add );
-      return model;
+      return ModelFactory.createDefaultModel().add( sharedMetaModelShapes() );
+   }
+
+   /**
+    * The SAMM meta model definitions as a single, read-only RDF model. The model is built once on first
+    * access and is shared by all callers, so it can be used concurrently from multiple threads. Any
+    * attempt to modify it throws an exception; use {@link #metaModelDefinitions()} to retrieve a copy
+    * that can be modified.
+    *
+    * @return the shared meta model definitions
+    */
+   public static Model sharedMetaModelDefinitions() {
+      return SharedModels.META_MODEL_DEFINITIONS;
+   }
+
+   /**
+    * The SAMM meta model shapes as a single, read-only RDF model. The model is built once on first
+    * access and is shared by all callers, so it can be used concurrently from multiple threads. Any
+    * attempt to modify it throws an exception; use {@link #metaModelShapes()} to retrieve a copy that
+    * can be modified.
+    *
+    * @return the shared meta model shapes
+    */
+   public static Model sharedMetaModelShapes() {
+      return SharedModels.META_MODEL_SHAPES;
+   }
+
+   /**
+    * Holder for the shared models, so that they are only built when they are first accessed
+    */
+   private static class SharedModels {
+      private static final Model META_MODEL_DEFINITIONS = readOnlyUnion( Stream.concat(
+            getMetaModelDefinitionsFiles().stream(), getElementDefinitionsFiles().stream() ).toList() );
+      private static final Model META_MODEL_SHAPES = readOnlyUnion( getShapeDefinitionsFiles() );
+
+      private static Model readOnlyUnion( final List<MetaModelFile> files ) {
+         final Model model = ModelFactory.createDefaultModel();
+         files.stream().map( MetaModelFile::sourceModel ).forEach( model::add );
+         return ModelFactory.createModelForGraph( new GraphReadOnly( model.getGraph() ) );
+      }
    }
 
    /**
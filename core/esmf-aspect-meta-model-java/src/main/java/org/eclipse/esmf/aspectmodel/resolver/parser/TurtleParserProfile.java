@@ -13,7 +13,6 @@
 
 package org.eclipse.esmf.aspectmodel.resolver.parser;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.apache.jena.datatypes.RDFDatatype;
@@ -34,6 +33,7 @@ import org.eclipse.esmf.aspectmodel.ValueParsingException;
 import org.eclipse.esmf.metamodel.datatype.SammType;
 import org.eclipse.esmf.metamodel.datatype.SammXsdType;
 import org.eclipse.esmf.treesitterturtle.ParserTokenType;
+import org.eclipse.esmf.treesitterturtle.TokenIndex;
 import org.eclipse.esmf.treesitterturtle.TurtleSyntaxTree;
 
 import org.jspecify.annotations.Nullable;
@@ -48,11 +48,14 @@ import org.slf4j.LoggerFactory;
 public class TurtleParserProfile implements ParserProfile {
    private static final Logger LOG = LoggerFactory.getLogger( TurtleParserProfile.class );
    private final ParserProfile parserProfile;
-   private final List<TurtleSyntaxTree.Token> tokens;
+   private final @Nullable TokenIndex tokenIndex;
 
    public TurtleParserProfile( final ParserProfile parserProfile, final @Nullable TurtleSyntaxTree syntaxTree ) {
       this.parserProfile = parserProfile;
-      tokens = syntaxTree == null ? List.of() : syntaxTree.tokens().toList();
+      tokenIndex = syntaxTree == null
+            ? null
+            : syntaxTree.tokenIndex( treeToken -> !treeToken.type().equals( ParserTokenType.OBJECT_LIST )
+                  && !treeToken.type().equals( ParserTokenType.TRIPLE ) );
    }
 
    @Override
@@ -70,38 +73,10 @@ public class TurtleParserProfile implements ParserProfile {
     *         found
     */
    private TurtleSyntaxTree.@Nullable Token findMatchingTreeSitterToken( final long targetLine, final long targetColumn ) {
-      if ( tokens.isEmpty() ) {
+      if ( tokenIndex == null ) {
          return null;
       }
-
-      TurtleSyntaxTree.Token exactMatch = null;
-      TurtleSyntaxTree.Token nearestMatch = null;
-      long minDistance = Long.MAX_VALUE;
-      final long originatingLine = targetLine - 1;
-      final long originatingColumn = targetColumn - 1;
-
-      for ( final TurtleSyntaxTree.Token treeToken : tokens ) {
-         if ( treeToken.type().equals( ParserTokenType.OBJECT_LIST ) || treeToken.type().equals( ParserTokenType.TRIPLE ) ) {
-            continue;
-         }
-         final int tokenLine = treeToken.location().fromLine();
-         final int tokenColumn = treeToken.location().fromColumn();
-
-         if ( tokenLine == originatingLine && tokenColumn == originatingColumn ) {
-            exactMatch = treeToken;
-            break;
-         }
-
-         // Calculate Manhattan distance for nearest match
-         final long distance = Math.abs( tokenLine - originatingLine ) * 1000 + Math.abs( tokenColumn - originatingColumn );
-
-         if ( distance < minDistance ) {
-            minDistance = distance;
-            nearestMatch = treeToken;
-         }
-      }
-
-      return exactMatch != null ? exactMatch : nearestMatch;
+      return tokenIndex.nearestToken( targetLine - 1, targetColumn - 1 );
    }
 
    /**
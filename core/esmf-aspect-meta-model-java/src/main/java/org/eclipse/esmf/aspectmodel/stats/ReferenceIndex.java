@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.stats;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.RDF;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.AspectModelFileLoader;
+import org.eclipse.esmf.aspectmodel.resolver.ModelSource;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+import org.eclipse.esmf.aspectmodel.versionupdate.MetaModelVersionMigrator;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the references between the model elements in the files of a {@link ModelSource}. An
+ * element refers to another element if the other element can be reached from it by following
+ * statements in the same file, possibly through other (named or anonymous) nodes, which corresponds
+ * to the SPARQL property path {@code ?pointer (<>|!<>)* ?pointee}. The index maps every referenced
+ * element to the files and elements referring to it, and every element to the files defining it, so
+ * that usage queries do not need to load and query the files of the model source.
+ * <p>
+ * The index is built on first use. Afterwards, {@link #refresh()} re-indexes only files that were
+ * added or whose modification time changed, loading each of them on its own if it is located in the
+ * local file system, and drops files that were removed; changes can also be reported explicitly
+ * using {@link #update(AspectModelFile)} and {@link #remove(URI)}. Files in other locations than the
+ * local file system are assumed to never change. Files are migrated to the current meta model
+ * version before they are indexed, so that references to meta model elements are found regardless
+ * of the meta model version a file uses. If the index is created with an index file, it is loaded
+ * from and saved to that file, so that subsequent processes only need to re-index changed files.
+ */
+public class ReferenceIndex {
+   private static final Logger LOG = LoggerFactory.getLogger( ReferenceIndex.class );
+   private static final int MAGIC = 0x45534d52;
+   private static final int FORMAT_VERSION = 2;
+   private static final long IMMUTABLE = -1L;
+
+   private final ModelSource modelSource;
+   private final @Nullable Path indexFile;
+   private final Map<URI, IndexedFile> files = new LinkedHashMap<>();
+   private final Map<String, Set<URI>> referringFiles = new HashMap<>();
+   private final Map<String, Set<URI>> definingFiles = new HashMap<>();
+   private final Map<URI, AspectModelFile> loadedFiles = new HashMap<>();
+   private boolean initialized;
+   private boolean modified;
+
+   /**
+    * The index entry of a file: the elements it defines and, for each element referenced in the file,
+    * the elements of the file that refer to it
+    */
+   private record IndexedFile(
+         long lastModified,
+         @Nullable String namespace,
+         Set<String> definitions,
+         Map<String, Set<String>> pointers
+   ) {}
+
+   /**
+    * Creates an index that is kept in memory only.
+    *
+    * @param modelSource the model source to index
+    */
+   public ReferenceIndex( final ModelSource modelSource ) {
+      this( modelSource, null );
+   }
+
+   /**
+    * Creates an index that is loaded from and saved to the given file.
+    *
+    * @param modelSource the model source to index
+    * @param indexFile the index file; it should not be located in a models root or other model source
+    */
+   public ReferenceIndex( final ModelSource modelSource, final @Nullable Path indexFile ) {
+      this.modelSource = modelSource;
+      this.indexFile = indexFile;
+   }
+
+   /**
+    * Brings the index up to date with the model source: Files that are new or whose modification time
+    * changed are (re-)indexed, and files that no longer exist are removed. If the index has an index
+    * file, it is loaded on the first call and saved if anything changed.
+    */
+   public synchronized void refresh() {
+      if ( !initialized && indexFile != null ) {
+         readIndexFile( indexFile );
+      }
+      initialized = true;
+
+      final Set<URI> currentLocations = modelSource.listContents().collect( Collectors.toCollection( LinkedHashSet::new ) );
+      for ( final URI location : List.copyOf( files.keySet() ) ) {
+         if ( !currentLocations.contains( location ) ) {
+            remove( location );
+         }
+      }
+      final Set<URI> staleLocations = currentLocations.stream()
+            .filter( location -> {
+               final IndexedFile indexedFile = files.get( location );
+               return indexedFile == null || indexedFile.lastModified() != lastModified( location );
+            } )
+            .collect( Collectors.toCollection( LinkedHashSet::new ) );
+      final Set<URI> unloadedLocations = new LinkedHashSet<>();
+      for ( final URI location : staleLocations ) {
+         if ( isLocalFile( location ) ) {
+            loadFile( location ).ifPresentOrElse( this::update, () -> unloadedLocations.add( location ) );
+         } else {
+            unloadedLocations.add( location );
+         }
+      }
+      // Files in other locations never change, so they are only stale when they were not indexed yet; since their
+      // namespace is not known before they are loaded, they are taken from the complete contents of the model source
+      if ( unloadedLocations.stream().anyMatch( location -> !isLocalFile( location ) ) ) {
+         modelSource.loadContents()
+               .filter( file -> file.sourceLocation().map( unloadedLocations::contains ).orElse( false ) )
+               .forEach( file -> {
+                  update( file );
+                  unloadedLocations.remove( file.sourceLocation().get() );
+               } );
+      }
+      // Listed files that could not be loaded are recorded as empty, so that they are not loaded again on every refresh
+      unloadedLocations.forEach( location ->
+            add( location, new IndexedFile( lastModified( location ), null, Set.of(), Map.of() ) ) );
+
+      if ( modified && indexFile != null ) {
+         writeIndexFile( indexFile );
+      }
+   }
+
+   /**
+    * Indexes a file that was added or changed, replacing its previous index entry. Files without a
+    * source location can not be indexed and are ignored.
+    *
+    * @param file the file; it is migrated to the current meta model version if necessary
+    */
+   public synchronized void update( final AspectModelFile file ) {
+      file.sourceLocation().ifPresent( location -> {
+         remove( location );
+         final AspectModelFile migratedFile = MetaModelVersionMigrator.INSTANCE.apply( file );
+         final Model model = migratedFile.sourceModel();
+         add( location, new IndexedFile( lastModified( location ), namespace( model ), definitions( model ), pointers( model ) ) );
+         loadedFiles.put( location, migratedFile );
+      } );
+   }
+
+   /**
+    * Removes a file from the index.
+    *
+    * @param location the location of the file
+    */
+   public synchronized void remove( final URI location ) {
+      loadedFiles.remove( location );
+      final IndexedFile indexedFile = files.remove( location );
+      if ( indexedFile == null ) {
+         return;
+      }
+      indexedFile.definitions().forEach( definition -> removeFromIndex( definingFiles, definition, location ) );
+      indexedFile.pointers().keySet().forEach( pointee -> removeFromIndex( referringFiles, pointee, location ) );
+      modified = true;
+   }
+
+   /**
+    * Saves the index to its index file. This is only needed after changes were reported using
+    * {@link #update(AspectModelFile)} or {@link #remove(URI)}, since {@link #refresh()} saves the index
+    * automatically.
+    */
+   public synchronized void save() {
+      if ( indexFile != null ) {
+         writeIndexFile( indexFile );
+      }
+   }
+
+   /**
+    * Returns the elements that refer to the given element, grouped by the locations of the files they
+    * are defined in.
+    *
+    * @param pointee the referenced element
+    * @return the referring elements by file location, in the order the files were indexed
+    */
+   public synchronized Map<URI, Set<AspectModelUrn>> referringElements( final AspectModelUrn pointee ) {
+      ensureInitialized();
+      final Map<URI, Set<AspectModelUrn>> result = new LinkedHashMap<>();
+      for ( final URI location : referringFiles.getOrDefault( pointee.toString(), Set.of() ) ) {
+         final Set<AspectModelUrn> pointers = files.get( location ).pointers().get( pointee.toString() ).stream()
+               .map( AspectModelUrn::fromUrn )
+               .collect( Collectors.toCollection( LinkedHashSet::new ) );
+         result.put( location, pointers );
+      }
+      return result;
+   }
+
+   /**
+    * Returns the location of the (first indexed) file that defines the given element.
+    *
+    * @param element the element
+    * @return the file location, or empty if no file of the model source defines the element
+    */
+   public synchronized Optional<URI> definingFile( final AspectModelUrn element ) {
+      ensureInitialized();
+      return definingFiles.getOrDefault( element.toString(), Set.of() ).stream().findFirst();
+   }
+
+   /**
+    * Returns the indexed file with the given location. Files that were indexed in a previous process
+    * are loaded on demand: files in the local file system are loaded directly, files in other locations
+    * using the contents of the file's namespace.
+    *
+    * @param location the file location
+    * @return the file, or empty if it is not part of the model source
+    */
+   public synchronized Optional<AspectModelFile> file( final URI location ) {
+      ensureInitialized();
+      final AspectModelFile loadedFile = loadedFiles.get( location );
+      if ( loadedFile != null ) {
+         return Optional.of( loadedFile );
+      }
+      final IndexedFile indexedFile = files.get( location );
+      if ( indexedFile == null ) {
+         return Optional.empty();
+      }
+      if ( isLocalFile( location ) ) {
+         loadFile( location ).ifPresent( file -> loadedFiles.put( location, file ) );
+      } else {
+         Optional.ofNullable( indexedFile.namespace() )
+               .flatMap( urn -> AspectModelUrn.from( urn ).toJavaOptional() )
+               .ifPresent( urn -> modelSource.loadContentsForNamespace( urn ).forEach( this::rememberLoadedFile ) );
+      }
+      return Optional.ofNullable( loadedFiles.get( location ) );
+   }
+
+   /**
+    * Loads a single file from the local file system and migrates it to the current meta model version
+    *
+    * @param location the location of the file, a file: URI
+    * @return the file, or empty if it could not be loaded
+    */
+   protected Optional<AspectModelFile> loadFile( final URI location ) {
+      try {
+         return Optional.of( MetaModelVersionMigrator.INSTANCE.apply( AspectModelFileLoader.load( new File( location ) ) ) );
+      } catch ( final RuntimeException exception ) {
+         LOG.debug( "Could not load {} for the reference index", location, exception );
+         return Optional.empty();
+      }
+   }
+
+   private void rememberLoadedFile( final AspectModelFile file ) {
+      file.sourceLocation()
+            .filter( location -> files.containsKey( location ) && !loadedFiles.containsKey( location ) )
+            .ifPresent( location -> loadedFiles.put( location, MetaModelVersionMigrator.INSTANCE.apply( file ) ) );
+   }
+
+   private void ensureInitialized() {
+      if ( !initialized ) {
+         refresh();
+      }
+   }
+
+   private void add( final URI location, final IndexedFile indexedFile ) {
+      files.put( location, indexedFile );
+      indexedFile.definitions().forEach( definition -> definingFiles.computeIfAbsent( definition, key -> new LinkedHashSet<>() )
+            .add( location ) );
+      indexedFile.pointers().keySet().forEach( pointee -> referringFiles.computeIfAbsent( pointee, key -> new LinkedHashSet<>() )
+            .add( location ) );
+      modified = true;
+   }
+
+   private static void removeFromIndex( final Map<String, Set<URI>> index, final String key, final URI location ) {
+      final Set<URI> locations = index.get( key );
+      if ( locations != null ) {
+         locations.remove( location );
+         if ( locations.isEmpty() ) {
+            index.remove( key );
+         }
+      }
+   }
+
+   private static @Nullable String namespace( final Model model ) {
+      final String namespace = model.getNsPrefixURI( "" );
+      return namespace == null ? null : namespace.replace( "#", "" );
+   }
+
+   private static Set<String> definitions( final Model model ) {
+      final Set<String> definitions = new LinkedHashSet<>();
+      model.listStatements( null, RDF.type, (RDFNode) null )
+            .mapWith( Statement::getSubject )
+            .filterKeep( Resource::isURIResource )
+            .forEachRemaining( subject -> definitions.add( subject.getURI() ) );
+      return definitions;
+   }
+
+   /**
+    * Determines for each element that is referenced in the model the named elements that refer to it,
+    * by following the statements of the model from each named subject.
+    */
+   private static Map<String, Set<String>> pointers( final Model model ) {
+      final Map<Resource, List<Resource>> objects = new HashMap<>();
+      model.listStatements().forEachRemaining( statement -> {
+         if ( statement.getObject().isResource() ) {
+            objects.computeIfAbsent( statement.getSubject(), subject -> new ArrayList<>() ).add( statement.getObject().asResource() );
+         }
+      } );
+
+      final Map<String, Set<String>> result = new HashMap<>();
+      for ( final Resource pointer : objects.keySet() ) {
+         if ( !pointer.isURIResource() || AspectModelUrn.from( pointer.getURI() ).isFailure() ) {
+            continue;
+         }
+         final Set<Resource> reachable = new HashSet<>();
+         final Deque<Resource> pending = new ArrayDeque<>( objects.get( pointer ) );
+         while ( !pending.isEmpty() ) {
+            final Resource node = pending.pop();
+            if ( reachable.add( node ) ) {
+               pending.addAll( objects.getOrDefault( node, List.of() ) );
+            }
+         }
+         for ( final Resource pointee : reachable ) {
+            if ( pointee.isURIResource() && !pointee.equals( pointer ) && AspectModelUrn.from( pointee.getURI() ).isSuccess() ) {
+               result.computeIfAbsent( pointee.getURI(), key -> new LinkedHashSet<>() ).add( pointer.getURI() );
+            }
+         }
+      }
+      return result;
+   }
+
+   private static boolean isLocalFile( final URI location ) {
+      return "file".equals( location.getScheme() );
+   }
+
+   private static long lastModified( final URI location ) {
+      if ( isLocalFile( location ) ) {
+         return new File( location ).lastModified();
+      }
+      return IMMUTABLE;
+   }
+
+   private void readIndexFile( final Path path ) {
+      if ( !Files.isRegularFile( path ) ) {
+         return;
+      }
+      try ( final DataInputStream input = new DataInputStream( new BufferedInputStream( Files.newInputStream( path ) ) ) ) {
+         if ( input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION ) {
+            throw new IOException( "Invalid index file format" );
+         }
+         final int numberOfFiles = input.readInt();
+         for ( int i = 0; i < numberOfFiles; i++ ) {
+            final URI location = URI.create( input.readUTF() );
+            final long lastModified = input.readLong();
+            final String namespace = input.readBoolean() ? input.readUTF() : null;
+            final Set<String> definitions = readStrings( input );
+            final int numberOfPointees = input.readInt();
+            final Map<String, Set<String>> pointers = new HashMap<>();
+            for ( int j = 0; j < numberOfPointees; j++ ) {
+               pointers.put( input.readUTF(), readStrings( input ) );
+            }
+            add( location, new IndexedFile( lastModified, namespace, definitions, pointers ) );
+         }
+         modified = false;
+      } catch ( final IOException | RuntimeException exception ) {
+         LOG.debug( "Discarding unreadable reference index {}", path, exception );
+         files.clear();
+         definingFiles.clear();
+         referringFiles.clear();
+      }
+   }
+
+   private void writeIndexFile( final Path path ) {
+      Path temporaryFile = null;
+      try {
+         final Path directory = path.toAbsolutePath().getParent();
+         Files.createDirectories( directory );
+         temporaryFile = Files.createTempFile( directory, path.getFileName().toString(), ".tmp" );
+         try ( final DataOutputStream output =
+               new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+            output.writeInt( MAGIC );
+            output.writeInt( FORMAT_VERSION );
+            output.writeInt( files.size() );
+            for ( final Map.Entry<URI, IndexedFile> entry : files.entrySet() ) {
+               final IndexedFile indexedFile = entry.getValue();
+               output.writeUTF( entry.getKey().toString() );
+               output.writeLong( indexedFile.lastModified() );
+               output.writeBoolean( indexedFile.namespace() != null );
+               if ( indexedFile.namespace() != null ) {
+                  output.writeUTF( indexedFile.namespace() );
+               }
+               writeStrings( output, indexedFile.definitions() );
+               output.writeInt( indexedFile.pointers().size() );
+               for ( final Map.Entry<String, Set<String>> pointers : indexedFile.pointers().entrySet() ) {
+                  output.writeUTF( pointers.getKey() );
+                  writeStrings( output, pointers.getValue() );
+               }
+            }
+         }
+         Files.move( temporaryFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+         modified = false;
+      } catch ( final IOException | RuntimeException exception ) {
+         LOG.debug( "Could not write reference index {}", path, exception );
+         deleteQuietly( temporaryFile );
+      }
+   }
+
+   private static void deleteQuietly( final @Nullable Path path ) {
+      if ( path == null ) {
+         return;
+      }
+      try {
+         Files.deleteIfExists( path );
+      } catch ( final IOException exception ) {
+         LOG.debug( "Could not delete {}", path, exception );
+      }
+   }
+
+   private static void writeStrings( final DataOutputStream output, final Collection<String> values ) throws IOException {
+      output.writeInt( values.size() );
+      for ( final String value : values ) {
+         output.writeUTF( value );
+      }
+   }
+
+   private static Set<String> readStrings( final DataInputStream input ) throws IOException {
+      final int size = input.readInt();
+      final Set<String> values = new LinkedHashSet<>( size );
+      for ( int i = 0; i < size; i++ ) {
+         values.add( input.readUTF() );
+      }
+      return values;
+   }
+}
@@ -13,11 +13,11 @@
 
 package org.eclipse.esmf.aspectmodel.stats;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
-import org.eclipse.esmf.aspectmodel.RdfUtil;
 import org.eclipse.esmf.aspectmodel.resolver.ModelSource;
 import org.eclipse.esmf.aspectmodel.resolver.exceptions.ModelResolutionException;
 import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
@@ -29,48 +29,53 @@ import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.vocabulary.RDF;
 
 public class Usage {
-   private final ModelSource modelSource;
+   private final ReferenceIndex referenceIndex;
 
    public Usage( final ModelSource modelSource ) {
-      this.modelSource = modelSource;
+      this( new ReferenceIndex( modelSource ) );
+   }
+
+   /**
+    * Creates a usage query that answers from the given reference index. The index is refreshed on every query.
+    *
+    * @param referenceIndex the reference index
+    */
+   public Usage( final ReferenceIndex referenceIndex ) {
+      this.referenceIndex = referenceIndex;
    }
 
    public List<Reference> referencesTo( final AspectModelUrn targetElement ) {
+      referenceIndex.refresh();
       return referencesTo( targetElement, Optional.empty() );
    }
 
    private List<Reference> referencesTo( final AspectModelUrn targetElement, final Optional<AspectModelFile> targetSource ) {
-      final List<AspectModelFile> cachedContents = modelSource.loadContents().toList();
-      return cachedContents.stream().flatMap( file -> {
-         final Resource targetResource = file.sourceModel().createResource( targetElement.toString() );
-         return RdfUtil.getNamedElementsReferringTo( targetResource ).stream()
-               .map( Resource::getURI )
-               .map( AspectModelUrn::fromUrn )
+      return referenceIndex.referringElements( targetElement ).entrySet().stream().flatMap( entry -> {
+         final AspectModelFile pointerSource = indexedFile( entry.getKey() );
+         final AspectModelFile pointeeSource = targetSource.orElseGet( () -> fileThatContainsDefinition( targetElement ) );
+         return entry.getValue().stream()
                .map( urn -> ReferenceBuilder.builder()
                      .pointee( targetElement )
-                     .pointeeSource( targetSource.orElseGet( () -> fileThatContainsDefinition( targetElement, cachedContents ) ) )
+                     .pointeeSource( pointeeSource )
                      .pointer( urn )
-                     .pointerSource( file )
+                     .pointerSource( pointerSource )
                      .build() );
       } ).toList();
    }
 
-   private AspectModelFile fileThatContainsDefinition( final AspectModelUrn targetElement, final List<AspectModelFile> contents ) {
-      return contents.stream()
-            .filter( file -> {
-               final Resource targetResource = file.sourceModel().createResource( targetElement.toString() );
-               return Streams.stream( file.sourceModel().listStatements( targetResource, RDF.type, (RDFNode) null ) )
-                     .map( Statement::getSubject )
-                     .filter( Resource::isURIResource )
-                     .map( Resource::getURI )
-                     .map( AspectModelUrn::fromUrn )
-                     .findFirst()
-                     .isPresent();
-            } ).findFirst()
+   private AspectModelFile fileThatContainsDefinition( final AspectModelUrn targetElement ) {
+      return referenceIndex.definingFile( targetElement )
+            .map( this::indexedFile )
             .orElseThrow( () -> new ModelResolutionException( "Could not determine file that contains " + targetElement ) );
    }
 
+   private AspectModelFile indexedFile( final URI location ) {
+      return referenceIndex.file( location )
+            .orElseThrow( () -> new ModelResolutionException( "Could not load " + location ) );
+   }
+
    public List<Reference> referencesToAnyElementIn( final AspectModelFile file ) {
+      referenceIndex.refresh();
       return Streams.stream( file.sourceModel().listStatements( null, RDF.type, (RDFNode) null ) )
             .map( Statement::getSubject )
             .filter( Resource::isURIResource )
@@ -15,14 +15,15 @@ package org.eclipse.esmf.aspectmodel.versionupdate;
 
 import static org.eclipse.esmf.aspectmodel.StreamUtil.asMap;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.esmf.metamodel.vocabulary.RdfNamespace;
 import org.eclipse.esmf.samm.KnownVersion;
 
-import com.google.common.collect.Streams;
 import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.Model;
@@ -111,19 +112,46 @@ public abstract class AbstractUriRewriter extends AbstractSammMigrator {
 
    @Override
    public Model migrate( final Model sourceModel ) {
-      final Model targetModel = ModelFactory.createDefaultModel();
-
-      final Map<String, String> targetPrefixes = RdfNamespace.createPrefixMap( getTargetKnownVersion() );
-      final Map<String, String> oldToNewNamespaces = buildReplacementPrefixMap( sourceModel, targetPrefixes );
+      return rewrite( List.of( this ), sourceModel );
+   }
 
-      Streams.stream( sourceModel.listStatements() ).map( statement -> targetModel
-            .createStatement(
-                  updateResource( statement.getSubject(), oldToNewNamespaces ),
-                  updateProperty( statement.getPredicate(), oldToNewNamespaces ),
-                  updateRdfNode( statement.getObject(), oldToNewNamespaces )
-            ) ).forEach( targetModel::add );
+   /**
+    * Applies multiple URI rewriters in a single pass over the statements of the source model. The
+    * result is the same as applying the rewriters one after another using {@link #migrate(Model)}, but
+    * no intermediate models are created: Each node of a statement is passed through all rewriters
+    * before the statement is added to the target model. Rewriters after the first one are passed
+    * models that only contain the prefixes of the respective intermediate result.
+    *
+    * @param rewriters the rewriters in the order they are applied
+    * @param sourceModel the source model
+    * @return the migrated model
+    */
+   public static Model rewrite( final List<? extends AbstractUriRewriter> rewriters, final Model sourceModel ) {
+      final List<Map<String, String>> replacements = new ArrayList<>( rewriters.size() );
+      Model prefixes = sourceModel;
+      for ( final AbstractUriRewriter rewriter : rewriters ) {
+         final Map<String, String> targetPrefixes = RdfNamespace.createPrefixMap( rewriter.getTargetKnownVersion() );
+         final Map<String, String> oldToNewNamespaces = rewriter.buildReplacementPrefixMap( prefixes, targetPrefixes );
+         replacements.add( oldToNewNamespaces );
+         final Model rewrittenPrefixes = ModelFactory.createDefaultModel();
+         rewrittenPrefixes.setNsPrefixes( rewriter.buildPrefixMap( prefixes, targetPrefixes, oldToNewNamespaces ) );
+         prefixes = rewrittenPrefixes;
+      }
 
-      targetModel.setNsPrefixes( buildPrefixMap( sourceModel, targetPrefixes, oldToNewNamespaces ) );
+      final Model targetModel = ModelFactory.createDefaultModel();
+      sourceModel.listStatements().forEachRemaining( statement -> {
+         Resource subject = statement.getSubject();
+         Property predicate = statement.getPredicate();
+         RDFNode object = statement.getObject();
+         for ( int i = 0; i < rewriters.size(); i++ ) {
+            final AbstractUriRewriter rewriter = rewriters.get( i );
+            subject = rewriter.updateResource( subject, replacements.get( i ) );
+            predicate = rewriter.updateProperty( predicate, replacements.get( i ) );
+            object = rewriter.updateRdfNode( object, replacements.get( i ) );
+         }
+         targetModel.add( subject, predicate, object );
+      } );
+      targetModel.setNsPrefixes( prefixes.getNsPrefixMap() );
       return targetModel;
    }
 }
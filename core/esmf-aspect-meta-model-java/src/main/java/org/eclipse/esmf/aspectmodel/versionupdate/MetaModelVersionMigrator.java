@@ -12,8 +12,11 @@
  */
 package org.eclipse.esmf.aspectmodel.versionupdate;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -32,7 +35,6 @@ import org.eclipse.esmf.samm.KnownVersion;
 import com.google.common.collect.ImmutableList;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.RDFNode;
-import org.apache.jena.rdf.model.Resource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +45,7 @@ public class MetaModelVersionMigrator implements UnaryOperator<AspectModelFile>
    public static final MetaModelVersionMigrator INSTANCE = new MetaModelVersionMigrator();
    private static final Logger LOG = LoggerFactory.getLogger( MetaModelVersionMigrator.class );
    private static final VersionNumber LATEST_SAMM = VersionNumber.parse( KnownVersion.getLatest().toVersionString() );
+   private static final String BAMM_URN_PREFIX = "urn:bamm:";
 
    private MetaModelVersionMigrator() {}
 
@@ -69,6 +72,20 @@ public class MetaModelVersionMigrator implements UnaryOperator<AspectModelFile>
       return bamm200UriRewriter.migrate( bamm100UriRewriter.migrate( model ) );
    }
 
+   /**
+    * Cheaply determines whether a model is known to use the latest meta model version, without looking
+    * at its statements: This is the case if it declares the "samm" prefix for the latest meta model
+    * namespace and no prefix refers to a legacy BAMM namespace. Such models do not need any migration.
+    *
+    * @param model an Aspect model
+    * @return true if the model uses the latest meta model version
+    */
+   private boolean isUpToDate( final Model model ) {
+      final Map<String, String> prefixes = model.getNsPrefixMap();
+      return SammNs.SAMM.getNamespace().equals( prefixes.get( SammNs.SAMM.getShortForm() ) )
+            && prefixes.values().stream().noneMatch( uri -> uri.startsWith( BAMM_URN_PREFIX ) );
+   }
+
    /**
     * Returns the meta model version used in the model
     *
@@ -87,13 +104,14 @@ public class MetaModelVersionMigrator implements UnaryOperator<AspectModelFile>
       // The file does not contain a "@prefix samm:" declaration: Determine the version from the triple
       // URIs
       final String sammUrnStart = String.format( "%s:%s", AspectModelUrn.VALID_PROTOCOL, AspectModelUrn.VALID_NAMESPACE_IDENTIFIER );
-      final Set<VersionNumber> result = model.listObjects()
-            .toList()
-            .stream()
-            .filter( RDFNode::isURIResource )
-            .map( RDFNode::asResource )
-            .map( Resource::getURI )
-            .filter( uri -> uri.startsWith( sammUrnStart ) )
+      // Only one URI per namespace needs to be parsed to determine the namespace's version
+      final Map<String, String> urisByNamespace = new HashMap<>();
+      model.listObjects()
+            .filterKeep( RDFNode::isURIResource )
+            .mapWith( node -> node.asResource().getURI() )
+            .filterKeep( uri -> uri.startsWith( sammUrnStart ) )
+            .forEachRemaining( uri -> urisByNamespace.putIfAbsent( namespace( uri ), uri ) );
+      final Set<VersionNumber> result = urisByNamespace.values().stream()
             .flatMap( uri -> AspectModelUrn.from( uri ).toJavaStream() )
             .filter( urn -> ( urn.getElementType().equals( ElementType.META_MODEL ) || urn.getElementType()
                   .equals( ElementType.CHARACTERISTIC ) ) )
@@ -110,6 +128,11 @@ public class MetaModelVersionMigrator implements UnaryOperator<AspectModelFile>
       }
    }
 
+   private static String namespace( final String uri ) {
+      final int separator = uri.indexOf( '#' );
+      return separator < 0 ? uri : uri.substring( 0, separator + 1 );
+   }
+
    /**
     * Semantically migrates an Aspect model file from its current meta model version to a given target
     * meta model version. This is done by composing the {@link Migrator}s that update from one version
@@ -121,6 +144,10 @@ public class MetaModelVersionMigrator implements UnaryOperator<AspectModelFile>
     */
    @Override
    public AspectModelFile apply( final AspectModelFile modelFile ) {
+      if ( isUpToDate( modelFile.sourceModel() ) ) {
+         return modelFile;
+      }
+
       // Before any semantic migration, perform the mechanical translation of legacy BAMM models
       final Model input = convertBammToSamm( modelFile.sourceModel() );
       final VersionNumber sourceVersion = getUsedMetaModelVersion( input );
@@ -151,10 +178,30 @@ public class MetaModelVersionMigrator implements UnaryOperator<AspectModelFile>
             .takeWhile( migrator -> !migrator.targetVersion().greaterThan( targetVersion ) )
             .toList();
 
+      // Consecutive URI rewriters are fused into a single pass over the model
       Model migratorTargetModel = targetModel;
+      final List<AbstractUriRewriter> uriRewriters = new ArrayList<>();
       for ( final Migrator migrator : migratorSet ) {
+         if ( migrator instanceof final AbstractUriRewriter uriRewriter ) {
+            uriRewriters.add( uriRewriter );
+            continue;
+         }
+         migratorTargetModel = rewriteUris( uriRewriters, migratorTargetModel );
+         uriRewriters.clear();
          migratorTargetModel = execute( migrator, migratorTargetModel );
       }
-      return migratorTargetModel;
+      return rewriteUris( uriRewriters, migratorTargetModel );
+   }
+
+   private Model rewriteUris( final List<AbstractUriRewriter> uriRewriters, final Model sourceModel ) {
+      if ( uriRewriters.isEmpty() ) {
+         return sourceModel;
+      }
+      if ( LOG.isDebugEnabled() ) {
+         LOG.debug( "Migration steps {}", uriRewriters.stream()
+               .map( rewriter -> rewriter.getClass().getSimpleName() + " " + rewriter.getDescription().orElse( "" ) )
+               .toList() );
+      }
+      return AbstractUriRewriter.rewrite( uriRewriters, sourceModel );
    }
 }
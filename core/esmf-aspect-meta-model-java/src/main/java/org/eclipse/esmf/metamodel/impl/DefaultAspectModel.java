@@ -13,20 +13,35 @@
 
 package org.eclipse.esmf.metamodel.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+import org.eclipse.esmf.metamodel.Aspect;
 import org.eclipse.esmf.metamodel.AspectModel;
 import org.eclipse.esmf.metamodel.ModelElement;
 import org.eclipse.esmf.metamodel.Namespace;
 
 import org.apache.jena.rdf.model.Model;
 
+/**
+ * Default implementation of {@link AspectModel}. Lookups of elements by URN, type and file, as well
+ * as of files by namespace, use indexes that are built on first use and dropped when the elements
+ * or files are replaced using {@link #setElements(List)} or {@link #setFiles(List)}. Changes to the
+ * lists returned by {@link #elements()} and {@link #files()} are not reflected in the indexes.
+ */
 public class DefaultAspectModel implements AspectModel {
    private Model mergedModel;
    private List<ModelElement> elements;
    private List<AspectModelFile> files;
+   private volatile Indexes indexes;
 
    public DefaultAspectModel( final List<AspectModelFile> files, final Model mergedModel, final List<ModelElement> elements ) {
       this.files = files;
@@ -36,10 +51,7 @@ public class DefaultAspectModel implements AspectModel {
 
    @Override
    public List<Namespace> namespaces() {
-      return files().stream()
-            .map( AspectModelFile::namespace )
-            .collect( Collectors.toSet() )
-            .stream().toList();
+      return indexes().namespaces();
    }
 
    @Override
@@ -57,8 +69,34 @@ public class DefaultAspectModel implements AspectModel {
       return mergedModel;
    }
 
+   @Override
+   public Optional<ModelElement> findElementByUrn( final AspectModelUrn urn ) {
+      return Optional.ofNullable( indexes().elementsByUrn().get( urn ) );
+   }
+
+   @Override
+   public <T extends ModelElement> List<T> elementsOfType( final Class<T> type ) {
+      return indexes().elementsOfType( type );
+   }
+
+   @Override
+   public List<ModelElement> elementsOfFile( final AspectModelFile file ) {
+      return indexes().elementsByFile().getOrDefault( file, List.of() );
+   }
+
+   @Override
+   public List<AspectModelFile> filesOfNamespace( final AspectModelUrn namespaceUrn ) {
+      return indexes().filesByNamespace().getOrDefault( namespaceUrn, List.of() );
+   }
+
+   @Override
+   public List<Aspect> aspects() {
+      return elementsOfType( Aspect.class );
+   }
+
    public void setFiles( final List<AspectModelFile> files ) {
       this.files = files;
+      indexes = null;
    }
 
    public void setMergedModel( final Model mergedModel ) {
@@ -67,5 +105,82 @@ public class DefaultAspectModel implements AspectModel {
 
    public void setElements( final List<ModelElement> elements ) {
       this.elements = elements;
+      indexes = null;
+   }
+
+   private Indexes indexes() {
+      Indexes result = indexes;
+      if ( result == null ) {
+         result = new Indexes( files, elements );
+         indexes = result;
+      }
+      return result;
+   }
+
+   /**
+    * The immutable indexes over a given list of files and elements. The elements of a given type are
+    * only collected when they are requested for the first time.
+    */
+   private record Indexes(
+         List<ModelElement> elements,
+         List<Namespace> namespaces,
+         Map<AspectModelUrn, ModelElement> elementsByUrn,
+         Map<AspectModelFile, List<ModelElement>> elementsByFile,
+         Map<AspectModelUrn, List<AspectModelFile>> filesByNamespace,
+         Map<Class<?>, List<? extends ModelElement>> elementsByType
+   ) {
+      private Indexes( final List<AspectModelFile> files, final List<ModelElement> elements ) {
+         this( List.copyOf( elements ), namespaces( files ), elementsByUrn( elements ), elementsByFile( elements ),
+               filesByNamespace( files ), new ConcurrentHashMap<>() );
+      }
+
+      @SuppressWarnings( "unchecked" )
+      private <T extends ModelElement> List<T> elementsOfType( final Class<T> type ) {
+         return (List<T>) elementsByType.computeIfAbsent( type, key -> elements.stream()
+               .filter( element -> element.is( type ) )
+               .map( element -> element.as( type ) )
+               .toList() );
+      }
+
+      private static List<Namespace> namespaces( final List<AspectModelFile> files ) {
+         return files.stream()
+               .map( AspectModelFile::namespace )
+               .distinct()
+               .toList();
+      }
+
+      private static Map<AspectModelUrn, ModelElement> elementsByUrn( final List<ModelElement> elements ) {
+         final Map<AspectModelUrn, ModelElement> result = new HashMap<>();
+         for ( final ModelElement element : elements ) {
+            if ( !element.isAnonymous() ) {
+               result.putIfAbsent( element.urn(), element );
+            }
+         }
+         return Collections.unmodifiableMap( result );
+      }
+
+      private static Map<AspectModelFile, List<ModelElement>> elementsByFile( final List<ModelElement> elements ) {
+         // Files are compared by identity, because their equality depends on their (mutable) list of elements
+         final Map<AspectModelFile, List<ModelElement>> result = new IdentityHashMap<>();
+         for ( final ModelElement element : elements ) {
+            if ( element.getSourceFile() != null ) {
+               result.computeIfAbsent( element.getSourceFile(), file -> new ArrayList<>() ).add( element );
+            }
+         }
+         result.replaceAll( ( file, fileElements ) -> List.copyOf( fileElements ) );
+         return Collections.unmodifiableMap( result );
+      }
+
+      private static Map<AspectModelUrn, List<AspectModelFile>> filesByNamespace( final List<AspectModelFile> files ) {
+         final Map<AspectModelUrn, List<AspectModelFile>> result = new HashMap<>();
+         for ( final AspectModelFile file : files ) {
+            final Namespace namespace = file.namespace();
+            if ( namespace != null ) {
+               result.computeIfAbsent( namespace.urn(), urn -> new ArrayList<>() ).add( file );
+            }
+         }
+         result.replaceAll( ( urn, namespaceFiles ) -> List.copyOf( namespaceFiles ) );
+         return Collections.unmodifiableMap( result );
+      }
    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.listeners.StatementListener;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.shared.AddDeniedException;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.jupiter.api.Test;
+
+class MergedGraphTest {
+   private final Model first = ModelFactory.createDefaultModel();
+   private final Model second = ModelFactory.createDefaultModel();
+   private final Model shared = ModelFactory.createDefaultModel();
+   private final Resource a = first.createResource( "urn:test:a" );
+   private final Resource b = first.createResource( "urn:test:b" );
+
+   MergedGraphTest() {
+      first.add( a, RDF.type, RDFS.Class );
+      second.add( b, RDF.type, RDFS.Class );
+      second.add( a, RDF.type, RDFS.Class );
+      shared.add( RDFS.Class, RDF.type, RDFS.Class );
+      shared.add( a, RDF.type, RDFS.Class );
+   }
+
+   @Test
+   void testMergedModelContainsUnionOfModels() {
+      final Model merged = RdfUtil.mergedModel( List.of( first, second ), shared );
+      assertThat( merged.size() ).isEqualTo( 3 );
+      assertThat( merged.listStatements( null, RDF.type, RDFS.Class ).toList() ).hasSize( 3 );
+      assertThat( merged.listStatements( a, null, (RDFNode) null ).toList() ).hasSize( 1 );
+      assertThat( merged.contains( RDFS.Class, RDF.type, RDFS.Class ) ).isTrue();
+   }
+
+   @Test
+   void testMergedGraphRetainsOriginalNodes() {
+      final Triple original = first.getGraph().find().next();
+      final Triple merged = new MergedGraph( List.of( first.getGraph() ), shared.getGraph() ).find( original ).next();
+      assertThat( merged.getSubject() ).isSameAs( original.getSubject() );
+   }
+
+   @Test
+   void testMergedGraphIsReadOnly() {
+      final Model merged = RdfUtil.mergedModel( List.of( first ), shared );
+      assertThatThrownBy( () -> merged.add( b, RDFS.label, "b" ) ).isInstanceOf( AddDeniedException.class );
+   }
+
+   @Test
+   void testMergedModelIsSnapshotAndMergedViewIsLive() {
+      final Model mergedModel = RdfUtil.mergedModel( List.of( first ), shared );
+      final Model mergedView = RdfUtil.mergedView( Map.of( URI.create( "urn:test:first" ), first ) );
+      first.add( b, RDFS.label, "b" );
+      assertThat( mergedModel.contains( b, RDFS.label ) ).isFalse();
+      assertThat( mergedView.contains( b, RDFS.label ) ).isTrue();
+   }
+
+   @Test
+   void testUpdateNotifiesListenersAboutChangedTriples() {
+      final Model merged = RdfUtil.mergedModel( List.of( first, second ), shared );
+      final List<Statement> addedStatements = new ArrayList<>();
+      final List<Statement> removedStatements = new ArrayList<>();
+      merged.register( new StatementListener() {
+         @Override
+         public void addedStatement( final Statement statement ) {
+            addedStatements.add( statement );
+         }
+
+         @Override
+         public void removedStatement( final Statement statement ) {
+            removedStatements.add( statement );
+         }
+      } );
+
+      final Model added = ModelFactory.createDefaultModel();
+      added.add( b, RDFS.label, "b" );
+      // Already contained in the merged graph, no notification
+      added.add( a, RDF.type, RDFS.Class );
+      final Model removed = ModelFactory.createDefaultModel();
+      // Still contained in the second graph, no notification
+      removed.add( a, RDF.type, RDFS.Class );
+      first.remove( a, RDF.type, RDFS.Class );
+      first.add( added );
+      ( (MergedGraph) merged.getGraph() ).update( added.getGraph(), removed.getGraph(), List.of( first.getGraph(), second.getGraph() ) );
+
+      assertThat( addedStatements ).containsExactly( merged.createStatement( b, RDFS.label, merged.createLiteral( "b" ) ) );
+      assertThat( removedStatements ).isEmpty();
+
+      second.remove( b, RDF.type, RDFS.Class );
+      final Model removedFromSecond = ModelFactory.createDefaultModel();
+      removedFromSecond.add( b, RDF.type, RDFS.Class );
+      ( (MergedGraph) merged.getGraph() ).update( ModelFactory.createDefaultModel().getGraph(), removedFromSecond.getGraph(),
+            List.of( first.getGraph(), second.getGraph() ) );
+
+      assertThat( removedStatements ).containsExactly( merged.createStatement( b, RDF.type, RDFS.Class ) );
+      assertThat( merged.contains( b, RDF.type, RDFS.Class ) ).isFalse();
+   }
+}
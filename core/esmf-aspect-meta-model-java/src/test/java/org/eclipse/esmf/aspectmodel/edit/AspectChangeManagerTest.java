@@ -40,6 +40,7 @@ import org.eclipse.esmf.aspectmodel.resolver.modelfile.RawAspectModelFileBuilder
 import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
 import org.eclipse.esmf.metamodel.Aspect;
 import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.metamodel.ModelElement;
 import org.eclipse.esmf.metamodel.Namespace;
 import org.eclipse.esmf.metamodel.Property;
 import org.eclipse.esmf.metamodel.impl.DefaultNamespace;
@@ -49,6 +50,7 @@ import org.eclipse.esmf.test.TestAspect;
 import org.eclipse.esmf.test.TestResources;
 
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.vocabulary.RDF;
@@ -120,6 +122,67 @@ class AspectChangeManagerTest {
       assertThat( aspectModel ).hasSingleAspectThat().hasSinglePropertyThat().hasName( newPropertyName );
    }
 
+   @Test
+   void testUnaffectedElementsAreKeptAfterChange() {
+      final AspectModel aspectModel = TestResources.load( TestAspect.ASPECT_WITH_PROPERTY );
+      final Aspect aspect = aspectModel.aspect();
+      final AspectModelUrn propertyUrn = aspect.getProperties().getFirst().urn();
+      final ModelElement property = aspectModel.elements().stream()
+            .filter( element -> element.urn().equals( propertyUrn ) )
+            .findFirst()
+            .orElseThrow();
+
+      final String newAspectName = "RenamedAspect";
+      final AspectChangeManager changeManager = new AspectChangeManager( aspectModel );
+      changeManager.applyChanges( List.of( new RenameElement( aspect.urn(), newAspectName ) ) );
+      assertThat( aspectModel ).hasSingleAspectThat().hasName( newAspectName );
+      assertThat( aspectModel.aspect() ).isNotSameAs( aspect );
+      assertThat( aspectModel.elements() ).anySatisfy( element -> assertThat( element ).isSameAs( property ) );
+      assertThat( aspectModel.files().getFirst().elements() ).anySatisfy( element -> assertThat( element ).isSameAs( property ) );
+      assertThat( aspectModel.mergedModel().contains( aspectModel.mergedModel().createResource( aspect.urn().toString() ), RDF.type ) )
+            .isFalse();
+      assertThat( changeManager.modifiedFiles() ).containsExactly( aspectModel.files().getFirst() );
+
+      changeManager.undoChange();
+      assertThat( aspectModel ).hasSingleAspectThat().hasName( aspect.getName() );
+      assertThat( aspectModel.mergedModel().contains( aspectModel.mergedModel().createResource( aspect.urn().toString() ), RDF.type ) )
+            .isTrue();
+   }
+
+   @Test
+   void testAddingAndRemovingStatementsInOneChangeGroup() {
+      final AspectModel aspectModel = TestResources.load( TestAspect.ASPECT_WITH_PROPERTY );
+      final AspectModelFile file = aspectModel.files().getFirst();
+      final String namespace = aspectModel.aspect().urn().getUrnPrefix();
+      final AspectModelUrn createdPropertyUrn = AspectModelUrn.fromUrn( namespace + "createdProperty" );
+      final AspectModelUrn renamedPropertyUrn = AspectModelUrn.fromUrn( namespace + "renamedProperty" );
+      final Model definition = createModel( """
+            @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:%1$s#> .
+            @prefix samm-c: <urn:samm:org.eclipse.esmf.samm:characteristic:%1$s#> .
+
+            <%2$s> a samm:Property ;
+               samm:characteristic samm-c:Text .
+            """.formatted( KnownVersion.getLatest().toVersionString(), createdPropertyUrn ) );
+
+      final AspectChangeManager changeManager = new AspectChangeManager( aspectModel );
+      changeManager.applyChanges( List.of(
+            new AddElementDefinition( createdPropertyUrn, definition, file ),
+            new RenameElement( createdPropertyUrn, renamedPropertyUrn.getName() ) ) );
+
+      final Model mergedModel = aspectModel.mergedModel();
+      assertThat( mergedModel.listStatements( mergedModel.createResource( createdPropertyUrn.toString() ), null, (RDFNode) null )
+            .toList() ).isEmpty();
+      assertThat( mergedModel.contains( mergedModel.createResource( renamedPropertyUrn.toString() ), RDF.type, SammNs.SAMM.Property() ) )
+            .isTrue();
+      assertThat( aspectModel.elements() ).extracting( ModelElement::urn )
+            .contains( renamedPropertyUrn )
+            .doesNotContain( createdPropertyUrn );
+
+      changeManager.undoChange();
+      assertThat( mergedModel.listStatements( mergedModel.createResource( renamedPropertyUrn.toString() ), null, (RDFNode) null )
+            .toList() ).isEmpty();
+   }
+
    @Test
    void testCreateFile() {
       final AspectModel aspectModel = new AspectModelLoader().emptyModel();
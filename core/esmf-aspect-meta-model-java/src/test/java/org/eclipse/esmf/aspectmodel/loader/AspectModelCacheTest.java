@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.shared.AddDeniedException;
+import org.apache.jena.vocabulary.RDF;
+
+import org.eclipse.esmf.aspectmodel.edit.AspectChangeManager;
+import org.eclipse.esmf.aspectmodel.edit.ModelChangeException;
+import org.eclipse.esmf.aspectmodel.resolver.ClasspathStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.FileSystemStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.fs.ModelsRoot;
+import org.eclipse.esmf.aspectmodel.resolver.fs.StructuredModelsRoot;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.samm.KnownVersion;
+import org.eclipse.esmf.test.TestAspect;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AspectModelCacheTest {
+   private static final String ASPECT = """
+         @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.2.0#> .
+         @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+
+         :Aspect a samm:Aspect ;
+            samm:properties ( ) ;
+            samm:operations ( ) .
+         """;
+
+   private AspectModelCache newCache() {
+      return new AspectModelCache( new ClasspathStrategy( "valid/" + KnownVersion.getLatest().toString().toLowerCase() ) );
+   }
+
+   @Test
+   void testRepeatedLookupReturnsCachedModel() {
+      final AspectModelCache cache = newCache();
+      final AspectModel first = cache.get( TestAspect.ASPECT_WITH_PROPERTY.getUrn() );
+      final AspectModel second = cache.get( TestAspect.ASPECT_WITH_PROPERTY.getUrn() );
+      assertThat( second ).isSameAs( first );
+      assertThat( first.aspect().urn() ).isEqualTo( TestAspect.ASPECT_WITH_PROPERTY.getUrn() );
+   }
+
+   @Test
+   void testConcurrentLookupsLoadModelOnce() throws Exception {
+      final AspectModelCache cache = newCache();
+      try ( final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor() ) {
+         final List<Future<AspectModel>> results = IntStream.range( 0, 16 )
+               .mapToObj( i -> executor.submit( () -> cache.get( TestAspect.ASPECT_WITH_ENTITY.getUrn() ) ) )
+               .toList();
+         final AspectModel expected = results.getFirst().get();
+         for ( final Future<AspectModel> result : results ) {
+            assertThat( result.get() ).isSameAs( expected );
+         }
+      }
+   }
+
+   @Test
+   void testInvalidatingFileEvictsModelsContainingIt() {
+      final AspectModelCache cache = newCache();
+      final AspectModel aspectModel = cache.get( TestAspect.ASPECT_WITH_PROPERTY.getUrn() );
+      final URI location = aspectModel.files().getFirst().sourceLocation().orElseThrow();
+
+      cache.invalidate( location );
+      assertThat( cache.getIfPresent( TestAspect.ASPECT_WITH_PROPERTY.getUrn() ) ).isEmpty();
+      final AspectModel reloaded = cache.get( TestAspect.ASPECT_WITH_PROPERTY.getUrn() );
+      assertThat( reloaded ).isNotSameAs( aspectModel );
+      assertThat( reloaded.elements() ).hasSameSizeAs( aspectModel.elements() );
+   }
+
+   @Test
+   void testCachedModelsAreReadOnly() {
+      final AspectModel aspectModel = newCache().get( TestAspect.ASPECT_WITH_PROPERTY.getUrn() );
+      assertThatThrownBy( () -> aspectModel.mergedModel().add( ResourceFactory.createResource( "urn:test" ), RDF.type, RDF.Property ) )
+            .isInstanceOf( AddDeniedException.class );
+      assertThatThrownBy( () -> aspectModel.elements().clear() ).isInstanceOf( UnsupportedOperationException.class );
+      assertThatThrownBy( () -> new AspectChangeManager( aspectModel ) ).isInstanceOf( ModelChangeException.class );
+   }
+
+   @Test
+   void testFilesInNewDirectoryTreesAreWatched( @TempDir final Path directory ) throws IOException, InterruptedException {
+      final ModelsRoot modelsRoot = new StructuredModelsRoot( directory );
+      final AspectModelUrn urn = AspectModelUrn.fromUrn( "urn:samm:org.eclipse.esmf.test:1.0.0#Aspect" );
+      try ( final AspectModelCache cache = new AspectModelCache( new FileSystemStrategy( modelsRoot ) ) ) {
+         cache.watch( modelsRoot );
+         final Path file = Files.createDirectories( directory.resolve( "org.eclipse.esmf.test" ).resolve( "1.0.0" ) )
+               .resolve( "Aspect.ttl" );
+         Files.writeString( file, ASPECT );
+         cache.get( urn );
+
+         // The new directories are registered asynchronously, so the file is touched until the change is noticed
+         final long deadline = System.currentTimeMillis() + 10_000;
+         while ( cache.getIfPresent( urn ).isPresent() && System.currentTimeMillis() < deadline ) {
+            Files.writeString( file, ASPECT );
+            Thread.sleep( 100 );
+         }
+         assertThat( cache.getIfPresent( urn ) ).isEmpty();
+      }
+   }
+}
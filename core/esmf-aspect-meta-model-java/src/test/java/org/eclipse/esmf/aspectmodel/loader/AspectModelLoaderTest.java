@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -30,12 +32,19 @@ import org.assertj.core.api.Assertions;
 import org.eclipse.esmf.aspectmodel.AspectLoadingException;
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
 import org.eclipse.esmf.aspectmodel.ValueParsingException;
+import org.eclipse.esmf.aspectmodel.resolver.AspectModelFileLoader;
+import org.eclipse.esmf.aspectmodel.resolver.ClasspathStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.FromLoadedFileStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategySupport;
 import org.eclipse.esmf.aspectmodel.resolver.exceptions.ModelResolutionException;
 import org.eclipse.esmf.aspectmodel.resolver.modelfile.RawAspectModelFileBuilder;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
 import org.eclipse.esmf.metamodel.AbstractEntity;
 import org.eclipse.esmf.metamodel.AspectModel;
 import org.eclipse.esmf.metamodel.ComplexType;
 import org.eclipse.esmf.metamodel.ModelElement;
+import org.eclipse.esmf.samm.KnownVersion;
 import org.eclipse.esmf.test.InvalidTestAspect;
 import org.eclipse.esmf.test.OrderingTestAspect;
 import org.eclipse.esmf.test.TestAspect;
@@ -63,6 +72,80 @@ class AspectModelLoaderTest {
       }
    }
 
+   @ParameterizedTest
+   @Execution( ExecutionMode.CONCURRENT )
+   @EnumSource( TestAspect.class )
+   void testParallelResolutionYieldsSameModelAsSequentialResolution( final TestAspect testAspect ) {
+      final ResolutionStrategy strategy = new ClasspathStrategy( "valid/" + KnownVersion.getLatest().toString().toLowerCase() );
+      final URI location = URI.create( "testmodel:" + testAspect.getName() );
+      final AspectModel sequential = new AspectModelLoader( strategy )
+            .load( TestResources.testModelSource( testAspect ), location );
+      final AspectModel parallel = new AspectModelLoader( strategy ).withParallelResolution()
+            .load( TestResources.testModelSource( testAspect ), location );
+
+      assertThat( parallel.files().stream().map( AspectModelFile::sourceLocation ).toList() )
+            .isEqualTo( sequential.files().stream().map( AspectModelFile::sourceLocation ).toList() );
+      assertThat( parallel.elements().stream().filter( element -> !element.isAnonymous() ).map( ModelElement::urn ).toList() )
+            .isEqualTo( sequential.elements().stream().filter( element -> !element.isAnonymous() ).map( ModelElement::urn ).toList() );
+   }
+
+   @Test
+   void testParallelResolutionLooksUpEachNamespaceFileOnce() {
+      final AspectModelFile dependency = AspectModelFileLoader.load( """
+            @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.2.0#> .
+            @prefix samm-c: <urn:samm:org.eclipse.esmf.samm:characteristic:2.2.0#> .
+            @prefix : <urn:samm:org.eclipse.esmf.test.dependency:1.0.0#> .
+
+            :first a samm:Property ;
+               samm:characteristic samm-c:Text .
+
+            :second a samm:Property ;
+               samm:characteristic samm-c:Text .
+            """, URI.create( "inmemory:dependency" ) );
+      final String aspect = """
+            @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.2.0#> .
+            @prefix dependency: <urn:samm:org.eclipse.esmf.test.dependency:1.0.0#> .
+            @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+
+            :Aspect a samm:Aspect ;
+               samm:properties ( dependency:first dependency:second ) ;
+               samm:operations ( ) .
+            """;
+      final AtomicInteger lookups = new AtomicInteger();
+      final ResolutionStrategy strategy = new FromLoadedFileStrategy( dependency ) {
+         @Override
+         public AspectModelFile apply( final AspectModelUrn aspectModelUrn, final ResolutionStrategySupport resolutionStrategySupport ) {
+            lookups.incrementAndGet();
+            return super.apply( aspectModelUrn, resolutionStrategySupport );
+         }
+      };
+
+      final AspectModel aspectModel = new AspectModelLoader( strategy ).withParallelResolution()
+            .load( aspect, URI.create( "inmemory:aspect" ) );
+
+      assertThat( aspectModel.files() ).hasSize( 2 );
+      assertThat( lookups ).hasValue( 1 );
+   }
+
+   @Test
+   void testResolutionStopsWhenThreadIsInterrupted() {
+      final String aspect = """
+            @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.2.0#> .
+            @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+
+            :Aspect a samm:Aspect ;
+               samm:properties ( ) ;
+               samm:operations ( ) .
+            """;
+      Thread.currentThread().interrupt();
+      try {
+         assertThatThrownBy( () -> new AspectModelLoader().load( aspect, URI.create( "inmemory:aspect" ) ) )
+               .isInstanceOf( CancellationException.class );
+      } finally {
+         Thread.interrupted();
+      }
+   }
+
    @Test
    void loadAspectModelWithoutCharacteristicDatatype() {
       assertThatThrownBy( () -> TestResources.load( InvalidTestAspect.INVALID_CHARACTERISTIC_DATATYPE ) )
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.resolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+import org.eclipse.esmf.aspectmodel.resolver.modelfile.RawAspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.parser.SmartToken;
+import org.eclipse.esmf.aspectmodel.resolver.parser.TokenRegistry;
+
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AspectModelFileCacheTest {
+   private static final String MODEL = """
+         # Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+         # SPDX-License-Identifier: MPL-2.0
+
+         @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.2.0#> .
+         @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+
+         :TestAspect a samm:Aspect ;
+            samm:description "An Aspect"@en ;
+            samm:properties ( ) ;
+            samm:operations ( ) .
+         """;
+
+   @Test
+   void testCachedFileIsEquivalentToParsedFile( @TempDir final Path cacheDirectory ) {
+      final AspectModelFileCache cache = new AspectModelFileCache( cacheDirectory );
+      final URI location = URI.create( "testmodel:cache" );
+      assertThat( cache.get( MODEL, location ) ).isEmpty();
+
+      final RawAspectModelFile parsedFile = AspectModelFileLoader.load( MODEL, location );
+      cache.put( parsedFile );
+      final RawAspectModelFile cachedFile = cache.get( MODEL, location ).orElseThrow();
+
+      assertThat( cachedFile.sourceModel().isIsomorphicWith( parsedFile.sourceModel() ) ).isTrue();
+      assertThat( cachedFile.sourceModel().getNsPrefixMap() ).isEqualTo( parsedFile.sourceModel().getNsPrefixMap() );
+      assertThat( cachedFile.headerComment() ).isEqualTo( parsedFile.headerComment() );
+      assertThat( cachedFile.sourceRepresentation() ).isEqualTo( MODEL );
+      assertThat( cachedFile.sourceLocation() ).contains( location );
+   }
+
+   @Test
+   void testCachedFileKeepsTokenLocations( @TempDir final Path cacheDirectory ) {
+      final AspectModelFileCache cache = new AspectModelFileCache( cacheDirectory );
+      final URI location = URI.create( "testmodel:cache" );
+      cache.put( AspectModelFileLoader.load( MODEL, location ) );
+      final RawAspectModelFile cachedFile = cache.get( MODEL, location ).orElseThrow();
+
+      final Resource aspect = cachedFile.sourceModel().createResource( "urn:samm:org.eclipse.esmf.test:1.0.0#TestAspect" );
+      final Statement statement = cachedFile.sourceModel().listStatements( aspect, null, (RDFNode) null ).next();
+      assertThat( TokenRegistry.getToken( statement.getSubject().asNode() ) )
+            .map( SmartToken::line )
+            .contains( 7 );
+   }
+
+   @Test
+   void testChangedContentIsNotServedFromCache( @TempDir final Path cacheDirectory ) {
+      final AspectModelFileCache cache = new AspectModelFileCache( cacheDirectory );
+      final URI location = URI.create( "testmodel:cache" );
+      cache.put( AspectModelFileLoader.load( MODEL, location ) );
+      assertThat( cache.get( MODEL.replace( "An Aspect", "Another Aspect" ), location ) ).isEmpty();
+   }
+}
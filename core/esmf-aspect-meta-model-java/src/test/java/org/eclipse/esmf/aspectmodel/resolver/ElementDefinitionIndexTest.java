@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.resolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ElementDefinitionIndexTest {
+   private static final String PREFIXES = """
+         @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.2.0#> .
+         @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+
+         """;
+
+   private final AspectModelUrn property = AspectModelUrn.fromUrn( "urn:samm:org.eclipse.esmf.test:1.0.0#property" );
+
+   @Test
+   void testFilesDefiningTheElementAreInspectedFirst( @TempDir final Path directory ) throws IOException {
+      final URI first = write( directory.resolve( "First.ttl" ), ":other a samm:Property ." );
+      final URI second = write( directory.resolve( "Second.ttl" ), ":property a samm:Property ." );
+
+      final ElementDefinitionIndex index = new ElementDefinitionIndex();
+      assertThat( index.filesToInspect( property, List.of( first, second ) ) ).containsExactly( second, first );
+   }
+
+   @Test
+   void testParsedFilesNotDefiningTheElementAreSkipped( @TempDir final Path directory ) throws IOException {
+      final URI first = write( directory.resolve( "First.ttl" ), ":other a samm:Property ." );
+      final URI second = write( directory.resolve( "Second.ttl" ), ":property a samm:Property ." );
+
+      final ElementDefinitionIndex index = new ElementDefinitionIndex();
+      index.update( first, AspectModelFileLoader.load( first ).sourceModel() );
+      assertThat( index.filesToInspect( property, List.of( first, second ) ) ).containsExactly( second );
+   }
+
+   @Test
+   void testModifiedFilesAreScannedAgain( @TempDir final Path directory ) throws IOException {
+      final Path path = directory.resolve( "First.ttl" );
+      final URI file = write( path, ":other a samm:Property ." );
+
+      final ElementDefinitionIndex index = new ElementDefinitionIndex();
+      index.update( file, AspectModelFileLoader.load( file ).sourceModel() );
+      assertThat( index.filesToInspect( property, List.of( file ) ) ).isEmpty();
+
+      write( path, ":property a samm:Property ." );
+      Files.setLastModifiedTime( path, FileTime.fromMillis( Files.getLastModifiedTime( path ).toMillis() + 10_000 ) );
+      assertThat( index.filesToInspect( property, List.of( file ) ) ).containsExactly( file );
+   }
+
+   @Test
+   void testDefinitionMovedToAnotherFileIsFound( @TempDir final Path directory ) throws IOException {
+      final Path firstPath = directory.resolve( "First.ttl" );
+      final Path secondPath = directory.resolve( "Second.ttl" );
+      final URI first = write( firstPath, ":property a samm:Property ." );
+      final URI second = write( secondPath, ":other a samm:Property ." );
+
+      final ElementDefinitionIndex index = new ElementDefinitionIndex();
+      index.update( first, AspectModelFileLoader.load( first ).sourceModel() );
+      index.update( second, AspectModelFileLoader.load( second ).sourceModel() );
+      assertThat( index.filesToInspect( property, List.of( first, second ) ) ).containsExactly( first );
+
+      write( firstPath, ":other a samm:Property ." );
+      write( secondPath, ":property a samm:Property ." );
+      for ( final Path path : List.of( firstPath, secondPath ) ) {
+         Files.setLastModifiedTime( path, FileTime.fromMillis( Files.getLastModifiedTime( path ).toMillis() + 10_000 ) );
+      }
+      assertThat( index.filesToInspect( property, List.of( first, second ) ) ).containsExactly( second, first );
+   }
+
+   @Test
+   void testIndexIsSharedPerModelsRoot( @TempDir final Path directory ) {
+      final String root = directory.toUri().toString();
+      assertThat( ElementDefinitionIndex.shared( root ) ).isSameAs( ElementDefinitionIndex.shared( root ) );
+      assertThat( ElementDefinitionIndex.shared( root ) ).isNotSameAs( ElementDefinitionIndex.shared( root + "other/" ) );
+   }
+
+   private URI write( final Path path, final String content ) throws IOException {
+      Files.writeString( path, PREFIXES + content + "\n" );
+      return path.toUri();
+   }
+}
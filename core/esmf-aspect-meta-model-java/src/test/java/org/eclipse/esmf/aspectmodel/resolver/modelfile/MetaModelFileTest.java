@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.resolver.modelfile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.esmf.aspectmodel.resolver.services.TurtleLoader;
+import org.eclipse.esmf.samm.KnownVersion;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.shared.JenaException;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.jupiter.api.Test;
+
+class MetaModelFileTest {
+   @Test
+   void testMetaModelFileIsEquivalentToTurtleSource() {
+      final URL turtleSource = MetaModelFileTest.class.getClassLoader().getResource(
+            "samm/meta-model/%s/aspect-meta-model-definitions.ttl".formatted( KnownVersion.getLatest().toVersionString() ) );
+      final Model expected = TurtleLoader.loadTurtle( turtleSource ).get();
+      assertThat( MetaModelFile.ASPECT_META_MODEL_DEFINITIONS.sourceModel().isIsomorphicWith( expected ) ).isTrue();
+   }
+
+   @Test
+   void testSnapshotContainsExactlyTheMetaModelFiles() throws URISyntaxException, IOException {
+      // The snapshot is written at build time by GenerateMetaModelSnapshot, which can not use this enum and keeps its own list
+      final URL snapshotRoot = MetaModelFileTest.class.getClassLoader().getResource( "samm-snapshot" );
+      assertThat( snapshotRoot ).isNotNull();
+      final Path snapshotDirectory = Path.of( snapshotRoot.toURI() );
+      try ( final Stream<Path> files = Files.walk( snapshotDirectory ) ) {
+         final List<String> snapshotPaths = files.filter( Files::isRegularFile )
+               .map( file -> "samm-snapshot/" + snapshotDirectory.relativize( file ).toString().replace( File.separatorChar, '/' ) )
+               .toList();
+         assertThat( snapshotPaths ).containsExactlyInAnyOrderElementsOf(
+               Arrays.stream( MetaModelFile.values() ).map( MetaModelFile::snapshotPath ).toList() );
+      }
+   }
+
+   @Test
+   void testSharedMetaModelDefinitionsAreBuiltOnceAndReadOnly() {
+      final Model shared = MetaModelFile.sharedMetaModelDefinitions();
+      assertThat( MetaModelFile.sharedMetaModelDefinitions() ).isSameAs( shared );
+      assertThat( shared.containsAll( MetaModelFile.ASPECT_META_MODEL_DEFINITIONS.sourceModel() ) ).isTrue();
+      assertThat( shared.containsAll( MetaModelFile.UNITS.sourceModel() ) ).isTrue();
+      assertThatThrownBy( () -> shared.add( ResourceFactory.createResource( "urn:test#element" ), RDF.type, RDF.Property ) )
+            .isInstanceOf( JenaException.class );
+   }
+
+   @Test
+   void testMetaModelDefinitionsReturnsMutableCopy() {
+      final Model copy = MetaModelFile.metaModelDefinitions();
+      assertThat( copy.isIsomorphicWith( MetaModelFile.sharedMetaModelDefinitions() ) ).isTrue();
+      copy.add( ResourceFactory.createResource( "urn:test#element" ), RDF.type, RDF.Property );
+      assertThat( MetaModelFile.sharedMetaModelDefinitions().containsResource( ResourceFactory.createResource( "urn:test#element" ) ) )
+            .isFalse();
+      assertThat( MetaModelFile.sharedMetaModelShapes().isIsomorphicWith( MetaModelFile.metaModelShapes() ) ).isTrue();
+   }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.FileSystemStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.ModelSource;
+import org.eclipse.esmf.aspectmodel.resolver.fs.StructuredModelsRoot;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReferenceIndexTest {
+   private static final String PREFIXES = """
+         @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.2.0#> .
+         @prefix samm-c: <urn:samm:org.eclipse.esmf.samm:characteristic:2.2.0#> .
+         @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+
+         """;
+
+   private static final String SHARED = PREFIXES + """
+         :sharedProperty a samm:Property ;
+            samm:characteristic samm-c:Text .
+         """;
+
+   private static final String ASPECT = PREFIXES + """
+         :Aspect a samm:Aspect ;
+            samm:properties ( :sharedProperty ) ;
+            samm:operations ( ) .
+         """;
+
+   private static final AspectModelUrn SHARED_PROPERTY = AspectModelUrn.fromUrn( "urn:samm:org.eclipse.esmf.test:1.0.0#sharedProperty" );
+   private static final AspectModelUrn ASPECT_URN = AspectModelUrn.fromUrn( "urn:samm:org.eclipse.esmf.test:1.0.0#Aspect" );
+
+   private CountingModelSource modelSource;
+   private Path namespaceDirectory;
+   private Path indexFile;
+
+   // Do not clean tempDir to work around file locking issues on windows
+   @TempDir( cleanup = CleanupMode.NEVER )
+   Path modelsRoot;
+
+   @TempDir( cleanup = CleanupMode.NEVER )
+   Path indexDirectory;
+
+   @BeforeEach
+   void setUp() throws IOException {
+      namespaceDirectory = Files.createDirectories( modelsRoot.resolve( "org.eclipse.esmf.test" ).resolve( "1.0.0" ) );
+      Files.writeString( namespaceDirectory.resolve( "sharedProperty.ttl" ), SHARED );
+      Files.writeString( namespaceDirectory.resolve( "Aspect.ttl" ), ASPECT );
+      modelSource = new CountingModelSource( new FileSystemStrategy( new StructuredModelsRoot( modelsRoot ) ) );
+      indexFile = indexDirectory.resolve( "reference-index" );
+   }
+
+   @Test
+   void testReferencesAreIndexed() {
+      final ReferenceIndex index = new ReferenceIndex( modelSource );
+      final URI aspectLocation = namespaceDirectory.resolve( "Aspect.ttl" ).toUri();
+
+      assertThat( index.referringElements( SHARED_PROPERTY ) ).containsOnlyKeys( aspectLocation );
+      assertThat( index.referringElements( SHARED_PROPERTY ).get( aspectLocation ) ).containsExactly( ASPECT_URN );
+      assertThat( index.referringElements( ASPECT_URN ) ).isEmpty();
+      assertThat( index.definingFile( SHARED_PROPERTY ) ).hasValue( namespaceDirectory.resolve( "sharedProperty.ttl" ).toUri() );
+      assertThat( new Usage( index ).referencesTo( SHARED_PROPERTY ) ).singleElement().satisfies( reference -> {
+         assertThat( reference.pointer() ).isEqualTo( ASPECT_URN );
+         assertThat( reference.pointerSource().sourceLocation() ).hasValue( aspectLocation );
+         assertThat( reference.pointeeSource().sourceLocation() ).hasValue( namespaceDirectory.resolve( "sharedProperty.ttl" ).toUri() );
+      } );
+   }
+
+   @Test
+   void testPersistedIndexIsReused() {
+      final CountingReferenceIndex index = new CountingReferenceIndex( modelSource, indexFile );
+      index.refresh();
+      assertThat( indexFile ).exists();
+      assertThat( index.loadedLocations ).hasSize( 2 );
+
+      final CountingReferenceIndex reloaded = new CountingReferenceIndex( modelSource, indexFile );
+      assertThat( reloaded.referringElements( SHARED_PROPERTY ) ).hasSize( 1 );
+      assertThat( reloaded.loadedLocations ).isEmpty();
+      assertThat( modelSource.contentLoads ).hasValue( 0 );
+   }
+
+   @Test
+   void testIndexedFileIsLoadedOnItsOwn() {
+      new ReferenceIndex( modelSource, indexFile ).refresh();
+      final URI sharedLocation = namespaceDirectory.resolve( "sharedProperty.ttl" ).toUri();
+
+      final CountingReferenceIndex reloaded = new CountingReferenceIndex( modelSource, indexFile );
+      assertThat( reloaded.file( sharedLocation ) ).hasValueSatisfying( file ->
+            assertThat( file.sourceLocation() ).hasValue( sharedLocation ) );
+      assertThat( reloaded.loadedLocations ).containsExactly( sharedLocation );
+      assertThat( modelSource.contentLoads ).hasValue( 0 );
+   }
+
+   @Test
+   void testChangedAndRemovedFilesAreReindexed() throws IOException {
+      final CountingReferenceIndex index = new CountingReferenceIndex( modelSource, indexFile );
+      index.refresh();
+      index.loadedLocations.clear();
+
+      final Path aspectFile = namespaceDirectory.resolve( "Aspect.ttl" );
+      Files.writeString( aspectFile, ASPECT.replace( "( :sharedProperty )", "( )" ) );
+      Files.setLastModifiedTime( aspectFile, FileTime.fromMillis( Files.getLastModifiedTime( aspectFile ).toMillis() + 1000 ) );
+      index.refresh();
+      assertThat( index.referringElements( SHARED_PROPERTY ) ).isEmpty();
+      assertThat( index.loadedLocations ).containsExactly( aspectFile.toUri() );
+
+      Files.delete( namespaceDirectory.resolve( "sharedProperty.ttl" ) );
+      final ReferenceIndex reloaded = new ReferenceIndex( modelSource, indexFile );
+      assertThat( reloaded.definingFile( SHARED_PROPERTY ) ).isEmpty();
+      assertThat( reloaded.definingFile( ASPECT_URN ) ).hasValue( aspectFile.toUri() );
+      assertThat( modelSource.contentLoads ).hasValue( 0 );
+   }
+
+   @Test
+   void testFilesUsingLegacyMetaModelVersionAreMigrated() throws IOException {
+      final Path legacyFile = namespaceDirectory.resolve( "legacyProperty.ttl" );
+      Files.writeString( legacyFile, """
+            @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.1.0#> .
+            @prefix samm-c: <urn:samm:org.eclipse.esmf.samm:characteristic:2.1.0#> .
+            @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+
+            :legacyProperty a samm:Property ;
+               samm:characteristic samm-c:Boolean .
+            """ );
+      final AspectModelUrn legacyProperty = AspectModelUrn.fromUrn( "urn:samm:org.eclipse.esmf.test:1.0.0#legacyProperty" );
+      final AspectModelUrn currentBoolean = AspectModelUrn.fromUrn( "urn:samm:org.eclipse.esmf.samm:characteristic:2.2.0#Boolean" );
+      new ReferenceIndex( modelSource, indexFile ).refresh();
+
+      final ReferenceIndex reloaded = new ReferenceIndex( modelSource, indexFile );
+      assertThat( reloaded.referringElements( currentBoolean ) ).containsOnlyKeys( legacyFile.toUri() );
+      assertThat( reloaded.referringElements( currentBoolean ).get( legacyFile.toUri() ) ).containsExactly( legacyProperty );
+      assertThat( reloaded.file( legacyFile.toUri() ) ).hasValueSatisfying( file ->
+            assertThat( file.sourceModel().containsResource( file.sourceModel().createResource( currentBoolean.toString() ) ) ).isTrue() );
+   }
+
+   @Test
+   void testTemporaryIndexFileIsRemovedWhenWritingFails() throws IOException {
+      // A directory in place of the index file makes the final move fail
+      Files.createDirectories( indexFile.resolve( "occupied" ) );
+      new ReferenceIndex( modelSource, indexFile ).refresh();
+      try ( final Stream<Path> contents = Files.list( indexDirectory ) ) {
+         assertThat( contents ).containsExactly( indexFile );
+      }
+   }
+
+   private static class CountingReferenceIndex extends ReferenceIndex {
+      private final List<URI> loadedLocations = new ArrayList<>();
+
+      private CountingReferenceIndex( final ModelSource modelSource, final Path indexFile ) {
+         super( modelSource, indexFile );
+      }
+
+      @Override
+      protected Optional<AspectModelFile> loadFile( final URI location ) {
+         loadedLocations.add( location );
+         return super.loadFile( location );
+      }
+   }
+
+   private static class CountingModelSource implements ModelSource {
+      private final ModelSource delegate;
+      private final AtomicInteger contentLoads = new AtomicInteger();
+
+      private CountingModelSource( final ModelSource delegate ) {
+         this.delegate = delegate;
+      }
+
+      @Override
+      public Stream<URI> listContents() {
+         return delegate.listContents();
+      }
+
+      @Override
+      public Stream<URI> listContentsForNamespace( final AspectModelUrn namespace ) {
+         return delegate.listContentsForNamespace( namespace );
+      }
+
+      @Override
+      public Stream<AspectModelFile> loadContents() {
+         contentLoads.incrementAndGet();
+         return delegate.loadContents();
+      }
+
+      @Override
+      public Stream<AspectModelFile> loadContentsForNamespace( final AspectModelUrn namespace ) {
+         return delegate.loadContentsForNamespace( namespace );
+      }
+   }
+}
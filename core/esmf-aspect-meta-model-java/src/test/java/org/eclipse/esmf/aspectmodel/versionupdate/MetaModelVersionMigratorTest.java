@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.versionupdate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.modelfile.RawAspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.services.TurtleLoader;
+import org.eclipse.esmf.metamodel.vocabulary.SammNs;
+import org.eclipse.esmf.samm.KnownVersion;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.jupiter.api.Test;
+
+class MetaModelVersionMigratorTest {
+   private static final String MODEL = """
+         @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:%1$s#> .
+         @prefix samm-c: <urn:samm:org.eclipse.esmf.samm:characteristic:%1$s#> .
+         @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+         @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+
+         :Aspect a samm:Aspect ;
+            samm:properties ( :property ) ;
+            samm:operations ( ) .
+
+         :property a samm:Property ;
+            samm:characteristic samm-c:Text .
+         """;
+
+   private AspectModelFile modelFile( final KnownVersion version ) {
+      final String source = MODEL.formatted( version.toVersionString() );
+      return new RawAspectModelFile( source, TurtleLoader.loadTurtle( source ).get(), List.of(), Optional.empty() );
+   }
+
+   @Test
+   void testModelWithLatestVersionIsNotMigrated() {
+      final AspectModelFile modelFile = modelFile( KnownVersion.getLatest() );
+      assertThat( MetaModelVersionMigrator.INSTANCE.apply( modelFile ) ).isSameAs( modelFile );
+   }
+
+   @Test
+   void testLegacyModelIsMigratedToLatestVersion() {
+      final AspectModelFile migrated = MetaModelVersionMigrator.INSTANCE.apply( modelFile( KnownVersion.SAMM_2_0_0 ) );
+      final Model model = migrated.sourceModel();
+      assertThat( model.getNsPrefixURI( SammNs.SAMM.getShortForm() ) ).isEqualTo( SammNs.SAMM.getNamespace() );
+      assertThat( model.getNsPrefixURI( SammNs.SAMMC.getShortForm() ) ).isEqualTo( SammNs.SAMMC.getNamespace() );
+      assertThat( model.contains( ResourceFactory.createResource( "urn:samm:org.eclipse.esmf.test:1.0.0#property" ),
+            SammNs.SAMM.characteristic(), SammNs.SAMMC.Text() ) ).isTrue();
+      assertThat( MetaModelVersionMigrator.INSTANCE.apply( migrated ) ).isSameAs( migrated );
+   }
+
+   @Test
+   void testFusedUriRewritersMatchSequentialRewriting() {
+      final List<SammMetaModelVersionUriRewriter> rewriters = List.of(
+            new SammMetaModelVersionUriRewriter( KnownVersion.SAMM_2_0_0, KnownVersion.SAMM_2_1_0 ),
+            new SammMetaModelVersionUriRewriter( KnownVersion.SAMM_2_1_0, KnownVersion.SAMM_2_2_0 ) );
+      final Model source = modelFile( KnownVersion.SAMM_2_0_0 ).sourceModel();
+
+      Model expected = source;
+      for ( final SammMetaModelVersionUriRewriter rewriter : rewriters ) {
+         expected = rewriter.migrate( expected );
+      }
+      final Model fused = AbstractUriRewriter.rewrite( rewriters, source );
+
+      assertThat( fused.isIsomorphicWith( expected ) ).isTrue();
+      assertThat( fused.getNsPrefixMap() ).isEqualTo( expected.getNsPrefixMap() );
+      assertThat( fused.contains( null, RDF.type, SammNs.SAMM.Aspect() ) ).isTrue();
+   }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.metamodel.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.metamodel.Aspect;
+import org.eclipse.esmf.metamodel.AspectModel;
+import org.eclipse.esmf.metamodel.ModelElement;
+import org.eclipse.esmf.metamodel.Property;
+import org.eclipse.esmf.test.TestAspect;
+import org.eclipse.esmf.test.TestResources;
+
+import org.junit.jupiter.api.Test;
+
+class DefaultAspectModelTest {
+   @Test
+   void testIndexedLookupsMatchElements() {
+      final AspectModel aspectModel = TestResources.load( TestAspect.ASPECT_WITH_ENTITY );
+      final AspectModelFile file = aspectModel.files().getFirst();
+
+      for ( final ModelElement element : aspectModel.elements() ) {
+         assertThat( aspectModel.findElementByUrn( element.urn() ) ).containsSame( element );
+      }
+      assertThat( aspectModel.elementsOfType( Property.class ) ).containsExactlyElementsOf( aspectModel.elements().stream()
+            .filter( element -> element.is( Property.class ) )
+            .map( element -> element.as( Property.class ) )
+            .toList() );
+      assertThat( aspectModel.elementsOfFile( file ) ).containsExactlyElementsOf( file.elements() );
+      assertThat( aspectModel.filesOfNamespace( file.namespaceUrn() ) ).containsExactly( file );
+      assertThat( aspectModel.namespaces() ).containsExactly( file.namespace() );
+   }
+
+   @Test
+   void testIndexesAreRebuiltAfterSettingElements() {
+      final DefaultAspectModel aspectModel = (DefaultAspectModel) TestResources.load( TestAspect.ASPECT_WITH_ENTITY );
+      final Aspect aspect = aspectModel.aspect();
+      assertThat( aspectModel.findElementByUrn( aspect.urn() ) ).containsSame( aspect );
+
+      aspectModel.setElements( aspectModel.elements().stream().filter( element -> element != aspect ).toList() );
+      assertThat( aspectModel.findElementByUrn( aspect.urn() ) ).isEmpty();
+      assertThat( aspectModel.aspects() ).isEmpty();
+      assertThat( aspectModel.elementsOfFile( aspect.getSourceFile() ) ).doesNotContain( aspect );
+
+      aspectModel.setElements( List.of( aspect ) );
+      assertThat( aspectModel.aspects() ).containsExactly( aspect );
+   }
+}
@@ -88,7 +88,7 @@ public class AspectModelDocumentationGenerator extends
       return targetLanguages.stream().map( language -> {
          logMissingTranslations( aspect(), language );
          templateContext.put( "i18n", new I18nLanguageBundle( language ) );
-         final TemplateEngine templateEngine = new TemplateEngine( templateContext, engineConfiguration );
+         final TemplateEngine templateEngine = TemplateEngine.shared( templateContext, engineConfiguration );
          final String artifactName = "%s_%s.html".formatted( aspect().getName(), language.toLanguageTag() );
          String source = templateEngine.apply( DOCU_ROOT_DIR + "/templates/html/aspect-model-documentation" );
          source = insertAspectModelDiagram( source, language );
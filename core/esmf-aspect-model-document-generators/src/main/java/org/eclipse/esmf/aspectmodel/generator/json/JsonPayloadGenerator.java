@@ -13,6 +13,7 @@
 
 package org.eclipse.esmf.aspectmodel.generator.json;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -105,6 +107,23 @@ public class JsonPayloadGenerator<S extends StructureElement>
       return Stream.of( new JsonPayloadArtifact( element.getName() + ".json", json ) );
    }
 
+   /**
+    * Generates a number of random payloads and writes them as JSON Lines, i.e., one compact JSON object per
+    * line. In contrast to {@link #generate()}, the payloads are written directly to the output without
+    * building JSON trees, and the structure of the payload is analyzed only once for all payloads. The
+    * random values are drawn from independent random streams per batch of payloads that are split from a
+    * seed taken from the configured {@link JsonPayloadGenerationConfig#randomStrategy()}, so that a seeded
+    * random strategy leads to the same output regardless of whether the payloads are generated in parallel.
+    *
+    * @param numberOfPayloads the number of payloads to generate
+    * @param parallel whether to generate batches of payloads in parallel
+    * @param output the output stream to write to; it is flushed, but not closed
+    */
+   public void generateJsonLines( final long numberOfPayloads, final boolean parallel, final OutputStream output ) {
+      new JsonPayloadTemplate( this, structureElement(), config, objectMapper )
+            .writeJsonLines( numberOfPayloads, config.randomStrategy().nextLong(), parallel, output );
+   }
+
    /**
     * The context while traversing the input model
     *
@@ -119,7 +138,7 @@ public class JsonPayloadGenerator<S extends StructureElement>
          Map<Entity, JsonNode> visitedEntities,
          boolean ignoreExampleValue
    ) {
-      private Context() {
+      Context() {
          this( List.of(), new HashSet<>(), new HashMap<>(), false );
       }
 
@@ -644,40 +663,62 @@ public class JsonPayloadGenerator<S extends StructureElement>
 
    protected BigDecimal randomFloatingPointNumber( final @Nullable BigDecimal start, final @Nullable BigDecimal end,
          final Optional<FixedPointConstraint> fixedPointConstraint ) {
+      return randomFloatingPointNumber( config.randomStrategy(), start, end, fixedPointConstraint );
+   }
+
+   protected byte[] randomBytes( final int minLength, final int maxLength ) {
+      return randomBytes( config.randomStrategy(), minLength, maxLength );
+   }
+
+   protected String randomString( final int minLength, final int maxLength ) {
+      return randomString( config.randomStrategy(), minLength, maxLength );
+   }
+
+   protected BigDecimal randomNumber( final @Nullable BigDecimal minInclusive, final @Nullable BigDecimal maxInclusive ) {
+      return randomNumber( config.randomStrategy(), minInclusive, maxInclusive );
+   }
+
+   protected int randomInt( final int startInclusive, final int endInclusive ) {
+      return randomInt( config.randomStrategy(), startInclusive, endInclusive );
+   }
+
+   static BigDecimal randomFloatingPointNumber( final Random random, final @Nullable BigDecimal start, final @Nullable BigDecimal end,
+         final Optional<FixedPointConstraint> fixedPointConstraint ) {
       return fixedPointConstraint.map( constraint -> {
          final int integerDigits = constraint.getInteger();
          final int scale = constraint.getScale();
          final int intMin = (int) Math.pow( 10, integerDigits - 1 );
          final int intMax = (int) Math.pow( 10, integerDigits ) - 1;
-         final int integerPart = randomInt( intMin, intMax );
+         final int integerPart = randomInt( random, intMin, intMax );
 
          if ( scale <= 0 ) {
             return BigDecimal.valueOf( integerPart );
          }
          final int scaleMin = (int) Math.pow( 10, scale - 1 );
          final int scaleMax = (int) Math.pow( 10, scale ) - 1;
-         final int fractionalValue = randomInt( scaleMin, scaleMax );
+         final int fractionalValue = randomInt( random, scaleMin, scaleMax );
          final double fractionalPart = fractionalValue / Math.pow( 10, scale );
          final double result = integerPart + fractionalPart;
          return BigDecimal.valueOf( result ).setScale( scale, RoundingMode.DOWN );
-      } ).orElseGet( () -> randomNumber( start, end ) );
+      } ).orElseGet( () -> randomNumber( random, start, end ) );
    }
 
-   protected byte[] randomBytes( final int minLength, final int maxLength ) {
-      return randomString( minLength, maxLength ).getBytes( StandardCharsets.UTF_8 );
+   static byte[] randomBytes( final Random random, final int minLength, final int maxLength ) {
+      return randomString( random, minLength, maxLength ).getBytes( StandardCharsets.UTF_8 );
    }
 
-   protected String randomString( final int minLength, final int maxLength ) {
+   static String randomString( final Random random, final int minLength, final int maxLength ) {
       final String characters = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
-      final int length = randomInt( minLength, maxLength );
+      final int length = randomInt( random, minLength, maxLength );
       final StringBuilder builder = new StringBuilder( length );
       for ( int i = 0; i < length; i++ ) {
-         builder.append( characters.charAt( config.randomStrategy().nextInt( characters.length() ) ) );
+         builder.append( characters.charAt( random.nextInt( characters.length() ) ) );
       }
       return builder.toString();
    }
 
-   protected BigDecimal randomNumber( final @Nullable BigDecimal minInclusive, final @Nullable BigDecimal maxInclusive ) {
+   static BigDecimal randomNumber( final Random random, final @Nullable BigDecimal minInclusive,
+         final @Nullable BigDecimal maxInclusive ) {
       final BigDecimal min = minInclusive == null ? BigDecimal.valueOf( Long.MIN_VALUE ) : minInclusive;
       final BigDecimal max = maxInclusive == null ? BigDecimal.valueOf( Long.MAX_VALUE ) : maxInclusive;
       if ( min.equals( max ) ) {
@@ -689,18 +730,18 @@ public class JsonPayloadGenerator<S extends StructureElement>
       final int numDigits = Math.max( min.precision(), max.precision() );
       final int numBits = (int) ( numDigits / Math.log10( 2.0 ) );
       // Factor will be between 0..1
-      final BigDecimal factor = new BigDecimal( new BigInteger( numBits, config.randomStrategy() ) ).movePointLeft( numDigits );
+      final BigDecimal factor = new BigDecimal( new BigInteger( numBits, random ) ).movePointLeft( numDigits );
       return min.add( max.subtract( min ).multiply( factor, new MathContext( numDigits ) ) );
    }
 
-   protected int randomInt( final int startInclusive, final int endInclusive ) {
+   static int randomInt( final Random random, final int startInclusive, final int endInclusive ) {
       if ( startInclusive == endInclusive ) {
          return startInclusive;
       }
       if ( startInclusive > endInclusive ) {
          throw new IllegalArgumentException( "Random range is inverted" );
       }
-      return config.randomStrategy().nextInt( startInclusive, endInclusive == Integer.MAX_VALUE ? Integer.MAX_VALUE : endInclusive + 1 );
+      return random.nextInt( startInclusive, endInclusive == Integer.MAX_VALUE ? Integer.MAX_VALUE : endInclusive + 1 );
    }
 
    @SuppressWarnings( "FinalMethod" ) // Needs to be final for @SafeVarargs
@@ -0,0 +1,619 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.generator.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.eclipse.esmf.aspectmodel.generator.DocumentGenerationException;
+import org.eclipse.esmf.aspectmodel.generator.Range;
+import org.eclipse.esmf.aspectmodel.visitor.AspectVisitor;
+import org.eclipse.esmf.metamodel.AbstractEntity;
+import org.eclipse.esmf.metamodel.Aspect;
+import org.eclipse.esmf.metamodel.Characteristic;
+import org.eclipse.esmf.metamodel.Entity;
+import org.eclipse.esmf.metamodel.Event;
+import org.eclipse.esmf.metamodel.ModelElement;
+import org.eclipse.esmf.metamodel.Property;
+import org.eclipse.esmf.metamodel.Scalar;
+import org.eclipse.esmf.metamodel.StructureElement;
+import org.eclipse.esmf.metamodel.Value;
+import org.eclipse.esmf.metamodel.characteristic.Collection;
+import org.eclipse.esmf.metamodel.characteristic.Either;
+import org.eclipse.esmf.metamodel.characteristic.Enumeration;
+import org.eclipse.esmf.metamodel.characteristic.SortedSet;
+import org.eclipse.esmf.metamodel.characteristic.State;
+import org.eclipse.esmf.metamodel.characteristic.Trait;
+import org.eclipse.esmf.metamodel.constraint.FixedPointConstraint;
+import org.eclipse.esmf.metamodel.constraint.RegularExpressionConstraint;
+import org.eclipse.esmf.metamodel.datatype.CurieType;
+import org.eclipse.esmf.metamodel.datatype.SammType;
+import org.eclipse.esmf.metamodel.datatype.SammXsdType;
+import org.eclipse.esmf.metamodel.vocabulary.SammNs;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.curiousoddman.rgxgen.RgxGen;
+import com.github.curiousoddman.rgxgen.parsing.dflt.RgxGenParseException;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * The payload structure of a StructureElement as determined by the {@link JsonPayloadGenerator},
+ * compiled into writers that stream random payloads to a {@link JsonGenerator}. The model is traversed
+ * only once, in the same way as by the JsonPayloadGenerator: example values and enumeration values are
+ * serialized once, and value ranges, fixed point constraints and regular expression
+ * generators are determined once per Property, so that writing a payload only draws the random values.
+ * Dates and times are drawn from the year following a fixed reference time instead of being based on
+ * the current time, so that the payloads only depend on the seed.
+ */
+class JsonPayloadTemplate implements AspectVisitor<JsonPayloadTemplate.ValueWriter, JsonPayloadGenerator.Context> {
+   private static final Logger LOG = LoggerFactory.getLogger( JsonPayloadTemplate.class );
+   private static final int BATCH_SIZE = 1000;
+   private static final LocalDateTime REFERENCE_TIME = LocalDateTime.of( 2025, 1, 1, 0, 0 );
+   private static final long TIME_RANGE_SECONDS = Duration.ofDays( 365 ).toSeconds();
+
+   private final JsonPayloadGenerator<?> treeGenerator;
+   private final JsonPayloadGenerationConfig config;
+   private final ObjectMapper objectMapper;
+   private final Map<Entity, ValueWriter> visitedEntities = new HashMap<>();
+   private final Map<String, ValueWriter> regularExpressions = new HashMap<>();
+   private final ValueWriter root;
+
+   /**
+    * Writes (part of) a payload
+    */
+   @FunctionalInterface
+   interface ValueWriter {
+      void write( JsonGenerator generator, Random random );
+   }
+
+   private record PropertyWriter(
+         String payloadName,
+         ValueWriter writer
+   ) {}
+
+   private record Batch(
+         long size,
+         SplittableRandom random
+   ) {}
+
+   JsonPayloadTemplate( final JsonPayloadGenerator<?> treeGenerator, final StructureElement element,
+         final JsonPayloadGenerationConfig config, final ObjectMapper objectMapper ) {
+      this.treeGenerator = treeGenerator;
+      this.config = config;
+      this.objectMapper = objectMapper;
+      root = element.accept( this, new JsonPayloadGenerator.Context( List.of(), new HashSet<>(), new HashMap<>(), false ) );
+   }
+
+   /**
+    * Writes payloads as JSON Lines. The payloads are written in batches, each of which draws its random
+    * values from its own random stream split from the seed in order. Batches are written in order, so
+    * the output only depends on the seed, also if the batches are generated in parallel.
+    *
+    * @param numberOfPayloads the number of payloads
+    * @param seed the seed for the random streams
+    * @param parallel whether to generate batches in parallel
+    * @param output the output stream
+    */
+   void writeJsonLines( final long numberOfPayloads, final long seed, final boolean parallel, final OutputStream output ) {
+      final SplittableRandom seedRandom = new SplittableRandom( seed );
+      final ObjectWriter lineWriter = objectMapper.writer().withRootValueSeparator( "\n" );
+      final long numberOfBatches = ( numberOfPayloads + BATCH_SIZE - 1 ) / BATCH_SIZE;
+      // Limits the number of batches that are kept in memory before they are written
+      final int batchesPerRound = parallel ? Runtime.getRuntime().availableProcessors() * 2 : 1;
+      try {
+         for ( long firstBatch = 0; firstBatch < numberOfBatches; firstBatch += batchesPerRound ) {
+            final List<Batch> batches = new ArrayList<>( batchesPerRound );
+            for ( long batch = firstBatch; batch < Math.min( firstBatch + batchesPerRound, numberOfBatches ); batch++ ) {
+               batches.add( new Batch( Math.min( BATCH_SIZE, numberOfPayloads - batch * BATCH_SIZE ), seedRandom.split() ) );
+            }
+            final Stream<Batch> batchStream = parallel ? batches.parallelStream() : batches.stream();
+            for ( final byte[] lines : batchStream.map( batch -> writeBatch( batch, lineWriter ) ).toList() ) {
+               output.write( lines );
+            }
+         }
+         output.flush();
+      } catch ( final IOException exception ) {
+         throw new DocumentGenerationException( exception );
+      }
+   }
+
+   private byte[] writeBatch( final Batch batch, final ObjectWriter lineWriter ) {
+      final Random random = Random.from( batch.random() );
+      final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      try ( final JsonGenerator generator = lineWriter.createGenerator( buffer ) ) {
+         for ( long i = 0; i < batch.size(); i++ ) {
+            root.write( generator, random );
+         }
+      }
+      buffer.write( '\n' );
+      return buffer.toByteArray();
+   }
+
+   private ValueWriter constant( final JsonNode value ) {
+      final String json = objectMapper.writeValueAsString( value );
+      return ( generator, random ) -> generator.writeRawValue( json );
+   }
+
+   private static ValueWriter orNull( final @Nullable ValueWriter writer ) {
+      return writer == null ? ( generator, random ) -> generator.writeNull() : writer;
+   }
+
+   private static ValueWriter object( final List<PropertyWriter> properties, final @Nullable String type ) {
+      return ( generator, random ) -> {
+         generator.writeStartObject();
+         for ( final PropertyWriter property : properties ) {
+            generator.writeName( property.payloadName() );
+            property.writer().write( generator, random );
+         }
+         if ( type != null ) {
+            generator.writeStringProperty( "@type", type );
+         }
+         generator.writeEndObject();
+      };
+   }
+
+   private static ValueWriter oneOf( final String... values ) {
+      return ( generator, random ) -> generator.writeString( values[JsonPayloadGenerator.randomInt( random, 0, values.length - 1 )] );
+   }
+
+   @Override
+   public ValueWriter visitBase( final ModelElement modelElement, final JsonPayloadGenerator.Context context ) {
+      throw new UnsupportedOperationException();
+   }
+
+   @Override
+   public ValueWriter visitStructureElement( final StructureElement structureElement, final JsonPayloadGenerator.Context context ) {
+      final List<PropertyWriter> properties = new ArrayList<>();
+      structureElement.getProperties().stream()
+            .filter( property -> property.getCharacteristic().isPresent() )
+            .forEach( property -> {
+               final ValueWriter propertyWriter = property.accept( this, context );
+               if ( propertyWriter != null ) {
+                  properties.add( new PropertyWriter( property.getPayloadName(), propertyWriter ) );
+               }
+            } );
+      return object( properties, null );
+   }
+
+   @Override
+   public ValueWriter visitAspect( final Aspect aspect, final JsonPayloadGenerator.Context context ) {
+      return visitStructureElement( aspect, context );
+   }
+
+   @Override
+   public ValueWriter visitEntity( final Entity entity, final JsonPayloadGenerator.Context context ) {
+      if ( visitedEntities.containsKey( entity ) && !context.ignoreExampleValue() ) {
+         return visitedEntities.get( entity );
+      }
+      final List<PropertyWriter> properties = new ArrayList<>();
+      entity.getAllProperties().stream()
+            .filter( Objects::nonNull )
+            .filter( property -> property.getCharacteristic() != null && property.getCharacteristic().isPresent() )
+            .forEach( property -> {
+               final ValueWriter propertyWriter = property.accept( this, context );
+               if ( propertyWriter != null ) {
+                  properties.add( new PropertyWriter( property.getPayloadName(), propertyWriter ) );
+               }
+            } );
+      final String type = entity.getExtends().isPresent() && config.addTypeAttributeForEntityInheritance() ? entity.getName() : null;
+      final ValueWriter result = object( properties, type );
+      visitedEntities.put( entity, result );
+      return result;
+   }
+
+   @Override
+   public ValueWriter visitEvent( final Event event, final JsonPayloadGenerator.Context context ) {
+      return visitStructureElement( event, context );
+   }
+
+   @Override
+   public ValueWriter visitAbstractEntity( final AbstractEntity abstractEntity, final JsonPayloadGenerator.Context context ) {
+      throw new IllegalArgumentException( "Invalid model: AbstractEntity " + abstractEntity.getUrn() + " is used as a datatype" );
+   }
+
+   @Override
+   public @Nullable ValueWriter visitProperty( final Property property, final JsonPayloadGenerator.Context context ) {
+      if ( property.isNotInPayload() ) {
+         return null;
+      }
+      if ( property.isOptional() && context.visitedProperties().contains( property ) ) {
+         return null;
+      }
+      context.visitedProperties().add( property );
+
+      if ( context.ignoreExampleValue() ) {
+         return property.getCharacteristic()
+               .map( c -> c.accept( this, context.doIgnoreExampleValue( false ) ) )
+               .orElse( null );
+      } else {
+         return property.getExampleValue()
+               .map( value -> value.accept( this, context ) )
+               .orElseGet( () -> property.getCharacteristic()
+                     .map( c -> c.accept( this, context ) )
+                     .orElse( null ) );
+      }
+   }
+
+   @Override
+   public @Nullable ValueWriter visitCharacteristic( final Characteristic characteristic, final JsonPayloadGenerator.Context context ) {
+      return characteristic.getDataType()
+            .map( t -> t.accept( this, context ) )
+            .orElse( null );
+   }
+
+   @Override
+   public ValueWriter visitCollection( final Collection collection, final JsonPayloadGenerator.Context context ) {
+      final ModelElement collectionElementType =
+            collection.getElementCharacteristic()
+                  .map( ModelElement.class::cast )
+                  .or( collection::getDataType )
+                  .orElseThrow( () -> new IllegalArgumentException(
+                        "Collection " + collection.getName() + " has neither dataType nor elementCharacteristic" ) );
+
+      final Range range = Range.fromLengthConstraints( context.constraints() );
+      final int numberOfElements = Optional.ofNullable( range.min() ).map( BigDecimal::intValue ).orElse( 1 );
+      if ( numberOfElements == 0 ) {
+         return ( generator, random ) -> {
+            generator.writeStartArray();
+            generator.writeEndArray();
+         };
+      }
+      final JsonPayloadGenerator.Context contextForSubsequentElements = context.withConstraints( List.of() );
+      final JsonPayloadGenerator.Context contextForFirstElement = contextForSubsequentElements.doIgnoreExampleValue( false );
+      final ValueWriter firstElement = orNull( collectionElementType.accept( this, contextForFirstElement ) );
+      // Only compiled if needed, because visiting the element type again changes the visited Properties
+      final ValueWriter subsequentElements = numberOfElements > 1
+            ? orNull( collectionElementType.accept( this, contextForSubsequentElements ) )
+            : firstElement;
+      return ( generator, random ) -> {
+         generator.writeStartArray();
+         firstElement.write( generator, random );
+         for ( int i = 1; i < numberOfElements; i++ ) {
+            subsequentElements.write( generator, random );
+         }
+         generator.writeEndArray();
+      };
+   }
+
+   @Override
+   public ValueWriter visitSet( final org.eclipse.esmf.metamodel.characteristic.Set set, final JsonPayloadGenerator.Context context ) {
+      return visitCollection( set, context.doIgnoreExampleValue( true ) );
+   }
+
+   @Override
+   public ValueWriter visitSortedSet( final SortedSet sortedSet, final JsonPayloadGenerator.Context context ) {
+      return visitCollection( sortedSet, context.doIgnoreExampleValue( true ) );
+   }
+
+   @Override
+   public ValueWriter visitEither( final Either either, final JsonPayloadGenerator.Context context ) {
+      final ValueWriter left = orNull( either.getLeft().accept( this, context ) );
+      final ValueWriter right = orNull( either.getRight().accept( this, context ) );
+      final String leftName = SammNs.SAMMC.left().getLocalName();
+      final String rightName = SammNs.SAMMC.right().getLocalName();
+      return ( generator, random ) -> {
+         generator.writeStartObject();
+         if ( random.nextBoolean() ) {
+            generator.writeName( leftName );
+            left.write( generator, random );
+         } else {
+            generator.writeName( rightName );
+            right.write( generator, random );
+         }
+         generator.writeEndObject();
+      };
+   }
+
+   @Override
+   public ValueWriter visitEnumeration( final Enumeration enumeration, final JsonPayloadGenerator.Context context ) {
+      return enumeration.getValues().getFirst().accept( this, context );
+   }
+
+   @Override
+   public ValueWriter visitState( final State state, final JsonPayloadGenerator.Context context ) {
+      return state.getDefaultValue().accept( this, context );
+   }
+
+   @Override
+   public ValueWriter visitTrait( final Trait trait, final JsonPayloadGenerator.Context context ) {
+      return trait.getBaseCharacteristic().accept( this, context.withConstraints( trait.getConstraints() ) );
+   }
+
+   /**
+    * Values (example values, enumeration values and State default values) do not depend on random
+    * values, so they are turned into JSON once.
+    */
+   @Override
+   public ValueWriter visitValue( final Value value, final JsonPayloadGenerator.Context context ) {
+      return constant( value.accept( treeGenerator, context ) );
+   }
+
+   @Override
+   public ValueWriter visitScalar( final Scalar scalar, final JsonPayloadGenerator.Context context ) {
+      final SammType<?> sammType = SammXsdType.ALL_TYPES.stream()
+            .filter( type -> type.getUrn().equals( scalar.getUrn() ) )
+            .findFirst()
+            .orElseThrow( () -> new IllegalArgumentException( "Encountered unknown type: " + scalar.getUrn() ) );
+      return sammType.accept( this, context );
+   }
+
+   @Override
+   public ValueWriter visitXsdBoolean( final SammType.XsdBoolean booleanType, final JsonPayloadGenerator.Context context ) {
+      return ( generator, random ) -> generator.writeBoolean( random.nextBoolean() );
+   }
+
+   @Override
+   public ValueWriter visitXsdDecimal( final SammType.XsdDecimal decimal, final JsonPayloadGenerator.Context context ) {
+      return visitXsdDouble( null, context );
+   }
+
+   @Override
+   public ValueWriter visitXsdDouble( final SammType.@Nullable XsdDouble doubleType, final JsonPayloadGenerator.Context context ) {
+      final Range range = Range.fromRangeConstraints( context.constraints(), true ).clamp( -100000, 100000 );
+      final Optional<FixedPointConstraint> fixedPointConstraint = fixedPointConstraint( context );
+      return ( generator, random ) -> generator.writeNumber(
+            JsonPayloadGenerator.randomFloatingPointNumber( random, range.min(), range.max(), fixedPointConstraint ).doubleValue() );
+   }
+
+   @Override
+   public ValueWriter visitXsdFloat( final SammType.XsdFloat floatType, final JsonPayloadGenerator.Context context ) {
+      final Range range = Range.fromRangeConstraints( context.constraints(), true ).clamp( -100000, 100000 );
+      final Optional<FixedPointConstraint> fixedPointConstraint = fixedPointConstraint( context );
+      return ( generator, random ) -> generator.writeNumber(
+            JsonPayloadGenerator.randomFloatingPointNumber( random, range.min(), range.max(), fixedPointConstraint ).floatValue() );
+   }
+
+   private Optional<FixedPointConstraint> fixedPointConstraint( final JsonPayloadGenerator.Context context ) {
+      return context.constraints().stream()
+            .filter( c -> c.is( FixedPointConstraint.class ) )
+            .map( c -> c.as( FixedPointConstraint.class ) )
+            .findFirst();
+   }
+
+   private ValueWriter integer( final SammType.IntegerType<?> integerType, final JsonPayloadGenerator.Context context,
+         final @Nullable Long min, final @Nullable Long max ) {
+      final Range range = Range.fromRangeConstraints( context.constraints(), false )
+            .clamp( integerType.lowerBound(), integerType.upperBound() )
+            .clamp( min, max );
+      return ( generator, random ) -> generator.writeNumber(
+            JsonPayloadGenerator.randomNumber( random, range.min(), range.max() ).toBigInteger() );
+   }
+
+   @Override
+   public ValueWriter visitXsdInteger( final SammType.XsdInteger integerType, final JsonPayloadGenerator.Context context ) {
+      return integer( integerType, context, null, null );
+   }
+
+   @Override
+   public ValueWriter visitXsdByte( final SammType.XsdByte byteType, final JsonPayloadGenerator.Context context ) {
+      return integer( byteType, context, null, null );
+   }
+
+   @Override
+   public ValueWriter visitXsdShort( final SammType.XsdShort shortType, final JsonPayloadGenerator.Context context ) {
+      return integer( shortType, context, null, null );
+   }
+
+   @Override
+   public ValueWriter visitXsdInt( final SammType.XsdInt intType, final JsonPayloadGenerator.Context context ) {
+      return integer( intType, context, null, null );
+   }
+
+   @Override
+   public ValueWriter visitXsdLong( final SammType.XsdLong longType, final JsonPayloadGenerator.Context context ) {
+      return integer( longType, context, null, null );
+   }
+
+   @Override
+   public ValueWriter visitXsdUnsignedByte( final SammType.XsdUnsignedByte unsignedByte, final JsonPayloadGenerator.Context context ) {
+      return integer( unsignedByte, context, null, null );
+   }
+
+   @Override
+   public ValueWriter visitXsdUnsignedShort( final SammType.XsdUnsignedShort unsignedShort, final JsonPayloadGenerator.Context context ) {
+      return integer( unsignedShort, context, null, null );
+   }
+
+   @Override
+   public ValueWriter visitXsdUnsignedInt( final SammType.XsdUnsignedInt unsignedInt, final JsonPayloadGenerator.Context context ) {
+      return integer( unsignedInt, context, null, null );
+   }
+
+   @Override
+   public ValueWriter visitXsdUnsignedLong( final SammType.XsdUnsignedLong unsignedLong, final JsonPayloadGenerator.Context context ) {
+      return integer( unsignedLong, context, null, null );
+   }
+
+   @Override
+   public ValueWriter visitXsdPositiveInteger( final SammType.XsdPositiveInteger positiveInteger,
+         final JsonPayloadGenerator.Context context ) {
+      return integer( positiveInteger, context, null, 100000L );
+   }
+
+   @Override
+   public ValueWriter visitXsdNonNegativeInteger( final SammType.XsdNonNegativeInteger nonNegativeInteger,
+         final JsonPayloadGenerator.Context context ) {
+      return integer( nonNegativeInteger, context, null, 100000L );
+   }
+
+   @Override
+   public ValueWriter visitXsdNegativeInteger( final SammType.XsdNegativeInteger negativeInteger,
+         final JsonPayloadGenerator.Context context ) {
+      return integer( negativeInteger, context, -100000L, null );
+   }
+
+   @Override
+   public ValueWriter visitXsdNonPositiveInteger( final SammType.XsdNonPositiveInteger nonPositiveInteger,
+         final JsonPayloadGenerator.Context context ) {
+      return integer( nonPositiveInteger, context, -100000L, null );
+   }
+
+   @Override
+   public ValueWriter visitXsdDate( final SammType.XsdDate date, final JsonPayloadGenerator.Context context ) {
+      return randomTime( value -> "%04d-%02d-%02dZ".formatted( value.getYear(), value.getMonthValue(), value.getDayOfMonth() ) );
+   }
+
+   @Override
+   public ValueWriter visitXsdTime( final SammType.XsdTime time, final JsonPayloadGenerator.Context context ) {
+      return randomTime( value -> "%02d:%02d:%02dZ".formatted( value.getHour(), value.getMinute(), value.getSecond() ) );
+   }
+
+   @Override
+   public ValueWriter visitXsdDateTime( final SammType.@Nullable XsdDateTime dateTime, final JsonPayloadGenerator.Context context ) {
+      return randomTime( value -> "%04d-%02d-%02dT%02d:%02d:%02dZ".formatted( value.getYear(), value.getMonthValue(), value.getDayOfMonth(),
+            value.getHour(), value.getMinute(), value.getSecond() ) );
+   }
+
+   @Override
+   public ValueWriter visitXsdDateTimeStamp( final SammType.XsdDateTimeStamp dateTimeStamp, final JsonPayloadGenerator.Context context ) {
+      return visitXsdDateTime( null, context );
+   }
+
+   @Override
+   public ValueWriter visitXsdGYear( final SammType.XsdGYear gYear, final JsonPayloadGenerator.Context context ) {
+      return randomTime( value -> "%04d".formatted( value.getYear() ) );
+   }
+
+   @Override
+   public ValueWriter visitXsdGMonth( final SammType.XsdGMonth gMonth, final JsonPayloadGenerator.Context context ) {
+      return randomTime( value -> "--%02d".formatted( value.getMonthValue() ) );
+   }
+
+   @Override
+   public ValueWriter visitXsdGDay( final SammType.XsdGDay gDay, final JsonPayloadGenerator.Context context ) {
+      return randomTime( value -> "---%02d".formatted( value.getDayOfMonth() ) );
+   }
+
+   @Override
+   public ValueWriter visitXsdGYearMonth( final SammType.XsdGYearMonth gYearMonth, final JsonPayloadGenerator.Context context ) {
+      return randomTime( value -> "%04d-%02d".formatted( value.getYear(), value.getMonthValue() ) );
+   }
+
+   @Override
+   public ValueWriter visitXsdGMonthDay( final SammType.XsdMonthDay monthDay, final JsonPayloadGenerator.Context context ) {
+      return randomTime( value -> "--%02d-%02d".formatted( value.getMonthValue(), value.getDayOfMonth() ) );
+   }
+
+   private ValueWriter randomTime( final Function<LocalDateTime, String> format ) {
+      return ( generator, random ) ->
+            generator.writeString( format.apply( REFERENCE_TIME.plusSeconds( random.nextLong( TIME_RANGE_SECONDS ) ) ) );
+   }
+
+   @Override
+   public ValueWriter visitXsdDuration( final SammType.XsdDuration duration, final JsonPayloadGenerator.Context context ) {
+      return ( generator, random ) -> generator.writeString( "P%02dD".formatted( JsonPayloadGenerator.randomInt( random, 1, 10 ) ) );
+   }
+
+   @Override
+   public ValueWriter visitXsdYearMonthDuration( final SammType.XsdYearMonthDuration yearMonthDuration,
+         final JsonPayloadGenerator.Context context ) {
+      return oneOf( "P10M", "P5Y2M" );
+   }
+
+   @Override
+   public ValueWriter visitXsdDayTimeDuration( final SammType.XsdDayTimeDuration dayTimeDuration,
+         final JsonPayloadGenerator.Context context ) {
+      return oneOf( "P30D", "P1DT5H", "PT1H5M0S" );
+   }
+
+   @Override
+   public ValueWriter visitXsdHexBinary( final SammType.XsdHexBinary hexBinary, final JsonPayloadGenerator.Context context ) {
+      final Range range = Range.fromLengthConstraints( context.constraints() ).clamp( 1, 10 );
+      final int minLength = Optional.ofNullable( range.min() ).map( BigDecimal::intValue ).orElse( 0 );
+      final int maxLength = Optional.ofNullable( range.max() ).map( BigDecimal::intValue ).orElse( 0 );
+      return ( generator, random ) -> generator.writeString(
+            hexBinary.serialize( JsonPayloadGenerator.randomBytes( random, minLength, maxLength ) ) );
+   }
+
+   @Override
+   public ValueWriter visitXsdBase64Binary( final SammType.XsdBase64Binary base64Binary, final JsonPayloadGenerator.Context context ) {
+      final Range range = Range.fromLengthConstraints( context.constraints() ).clamp( 1, 10 );
+      final int minLength = Optional.ofNullable( range.min() ).map( BigDecimal::intValue ).orElse( 0 );
+      final int maxLength = Optional.ofNullable( range.max() ).map( BigDecimal::intValue ).orElse( 0 );
+      return ( generator, random ) -> generator.writeString(
+            base64Binary.serialize( JsonPayloadGenerator.randomBytes( random, minLength, maxLength ) ) );
+   }
+
+   @Override
+   public ValueWriter visitXsdAnyUri( final SammType.XsdAnyUri anyUri, final JsonPayloadGenerator.Context context ) {
+      return ( generator, random ) -> generator.writeString( "https://example.com/" + JsonPayloadGenerator.randomString( random, 5, 10 ) );
+   }
+
+   @Override
+   public ValueWriter visitCurieType( final CurieType curieType, final JsonPayloadGenerator.Context context ) {
+      return oneOf( "unit:kilometre", "unit:hectopascal", "unit:newton" );
+   }
+
+   @Override
+   public ValueWriter visitXsdString( final SammType.@Nullable XsdString string, final JsonPayloadGenerator.Context context ) {
+      final Optional<String> regularExpression = context.constraints().stream()
+            .filter( RegularExpressionConstraint.class::isInstance )
+            .map( RegularExpressionConstraint.class::cast )
+            .map( RegularExpressionConstraint::getValue )
+            .findFirst();
+      if ( regularExpression.isPresent() ) {
+         return regularExpressions.computeIfAbsent( regularExpression.get(), this::regularExpression );
+      }
+      final Range range = Range.fromLengthConstraints( context.constraints() ).clamp( 1, 10 );
+      final int minLength = Optional.ofNullable( range.min() ).map( BigDecimal::intValue ).orElse( 0 );
+      final int maxLength = Optional.ofNullable( range.max() ).map( BigDecimal::intValue ).orElse( 0 );
+      return ( generator, random ) -> generator.writeString( JsonPayloadGenerator.randomString( random, minLength, maxLength ) );
+   }
+
+   private ValueWriter regularExpression( final String regex ) {
+      try {
+         final RgxGen rgxGen = RgxGen.parse( regex );
+         return ( generator, random ) -> generator.writeString( rgxGen.generate( random ) );
+      } catch ( final RgxGenParseException exception ) {
+         if ( config.failOnInvalidRegularExpressions() ) {
+            throw new IllegalArgumentException( "Unable to generate random value for complex regular expression: " + regex );
+         }
+         LOG.debug( "Could not generate JSON for regex: '{}', using empty string instead", regex );
+         return ( generator, random ) -> generator.writeString( "" );
+      }
+   }
+
+   @Override
+   public ValueWriter visitRdfLangString( final SammType.RdfLangString langString, final JsonPayloadGenerator.Context context ) {
+      final ValueWriter value = visitXsdString( null, context );
+      return ( generator, random ) -> {
+         generator.writeStartObject();
+         generator.writeName( random.nextBoolean() ? "en" : "de" );
+         value.write( generator, random );
+         generator.writeEndObject();
+      };
+   }
+}
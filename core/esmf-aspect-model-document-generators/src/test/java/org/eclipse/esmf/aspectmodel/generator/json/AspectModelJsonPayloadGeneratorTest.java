@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -143,9 +144,56 @@ class AspectModelJsonPayloadGeneratorTest {
                .typeFactory( JsonMapper.builder().build().getTypeFactory().withClassLoader( compilationResult.classLoader() ) )
                .build();
          mapper.readValue( payload, aspectClass );
+
+         final ByteArrayOutputStream jsonLines = new ByteArrayOutputStream();
+         new AspectModelJsonPayloadGenerator( aspect, AspectModelJsonPayloadGenerator.DEFAULT_CONFIG )
+               .generateJsonLines( 3, false, jsonLines );
+         final List<String> lines = jsonLines.toString( StandardCharsets.UTF_8 ).lines().toList();
+         assertThat( lines ).hasSize( 3 );
+         for ( final String line : lines ) {
+            mapper.readValue( line, aspectClass );
+         }
       } ).doesNotThrowAnyException();
    }
 
+   @Test
+   void testJsonLinesAreReproducible() {
+      final Aspect aspect = TestResources.load( TestAspect.ASPECT_WITH_CONSTRAINTS ).aspect();
+      final String sequential = generateJsonLines( aspect, 2500, false );
+      final String parallel = generateJsonLines( aspect, 2500, true );
+
+      assertThat( sequential ).isEqualTo( parallel );
+      assertThat( sequential ).endsWith( "\n" );
+      assertThat( sequential.lines() ).hasSize( 2500 ).doesNotHaveDuplicates();
+      assertThat( sequential ).isNotEqualTo( generateJsonLines( aspect, 2500, false, 43 ) );
+   }
+
+   @Test
+   void testJsonLinesWithDatesAndTimesAreReproducible() throws InterruptedException {
+      final Aspect aspect = TestResources.load( TestAspect.ASPECT_WITH_SIMPLE_TYPES ).aspect();
+      final String firstRun = generateJsonLines( aspect, 20, false );
+      // Dates and times must not depend on the current time, which has changed by the second run
+      Thread.sleep( 1100 );
+      final String secondRun = generateJsonLines( aspect, 20, false );
+
+      assertThat( firstRun ).isEqualTo( secondRun );
+      assertThat( firstRun ).contains( "\"dateTimeProperty\"" );
+      assertThat( firstRun.lines() ).hasSize( 20 ).doesNotHaveDuplicates();
+   }
+
+   private String generateJsonLines( final Aspect aspect, final long numberOfPayloads, final boolean parallel ) {
+      return generateJsonLines( aspect, numberOfPayloads, parallel, 42 );
+   }
+
+   private String generateJsonLines( final Aspect aspect, final long numberOfPayloads, final boolean parallel, final long seed ) {
+      final JsonPayloadGenerationConfig config = JsonPayloadGenerationConfigBuilder.builder()
+            .randomStrategy( new Random( seed ) )
+            .build();
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      new AspectModelJsonPayloadGenerator( aspect, config ).generateJsonLines( numberOfPayloads, parallel, output );
+      return output.toString( StandardCharsets.UTF_8 );
+   }
+
    /**
     * Tests the combination of code generation using JsonTypeInfo.Id.NAME with corresponding JSON
     * payload that contains a @type attribute for the case that there are ambiguous entities inheriting
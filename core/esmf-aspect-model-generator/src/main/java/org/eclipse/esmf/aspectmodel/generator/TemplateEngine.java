@@ -15,12 +15,14 @@ package org.eclipse.esmf.aspectmodel.generator;
 
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
-import com.google.common.collect.ImmutableMap;
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.VelocityEngine;
@@ -28,29 +30,63 @@ import org.apache.velocity.runtime.RuntimeConstants;
 import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 
 /**
- * Uses the Velocity engine to load templates and apply context maps to them
+ * Uses the Velocity engine to load templates and apply context maps to them. Instances created using
+ * {@link #shared(Map, Properties)} use a {@link VelocityEngine} that is initialized only once per
+ * engine configuration and caches the parsed templates, so that generators that render the same
+ * templates for many model elements do not need to set up the engine and parse the templates and
+ * macro libraries again for every element.
  */
 public class TemplateEngine implements UnaryOperator<String> {
+   private static final Map<Map<String, String>, VelocityEngine> SHARED_ENGINES = new ConcurrentHashMap<>();
+
    private final VelocityEngine engine;
    private final Map<String, Object> context;
+   private final VelocityContext baseContext;
 
    /**
-    * Creates a new instance for the given context
+    * Creates a new instance for the given context that uses its own {@link VelocityEngine}.
     *
     * @param context the context, i.e. keys and values to inject into the templates
     * @param engineConfiguration the configuration properties used to setup the {@link VelocityEngine}
     */
    public TemplateEngine( final Map<String, Object> context, final Properties engineConfiguration ) {
-      this( new VelocityEngine(), context );
-      engine.setProperty( RuntimeConstants.RESOURCE_LOADERS, "classpath, file" );
-      engine.setProperty( "resource.loader.classpath.class", ClasspathResourceLoader.class.getName() );
-      engine.setProperties( engineConfiguration );
-      engine.init();
+      this( createEngine( engineConfiguration, false ), context );
    }
 
    private TemplateEngine( final VelocityEngine engine, final Map<String, Object> context ) {
       this.engine = engine;
-      this.context = context;
+      // Context values may be null, so the map is copied instead of using an immutable collection
+      this.context = Collections.unmodifiableMap( new HashMap<>( context ) );
+      baseContext = new VelocityContext( this.context );
+   }
+
+   /**
+    * Creates a new instance for the given context that uses the shared, thread-safe
+    * {@link VelocityEngine} for the given configuration. Parsed templates are cached by the engine.
+    *
+    * @param context the context, i.e. keys and values to inject into the templates
+    * @param engineConfiguration the configuration properties used to setup the {@link VelocityEngine}
+    * @return the template engine
+    */
+   public static TemplateEngine shared( final Map<String, Object> context, final Properties engineConfiguration ) {
+      final Map<String, String> configurationKey = engineConfiguration.entrySet().stream()
+            .collect( Collectors.toUnmodifiableMap( entry -> entry.getKey().toString(), entry -> entry.getValue().toString() ) );
+      final VelocityEngine engine = SHARED_ENGINES.computeIfAbsent( configurationKey,
+            key -> createEngine( engineConfiguration, true ) );
+      return new TemplateEngine( engine, context );
+   }
+
+   private static VelocityEngine createEngine( final Properties engineConfiguration, final boolean cacheTemplates ) {
+      final VelocityEngine engine = new VelocityEngine();
+      engine.setProperty( RuntimeConstants.RESOURCE_LOADERS, "classpath, file" );
+      engine.setProperty( "resource.loader.classpath.class", ClasspathResourceLoader.class.getName() );
+      if ( cacheTemplates ) {
+         engine.setProperty( "resource.loader.classpath.cache", true );
+         engine.setProperty( "resource.loader.file.cache", true );
+      }
+      engine.setProperties( engineConfiguration );
+      engine.init();
+      return engine;
    }
 
    /**
@@ -63,8 +99,8 @@ public class TemplateEngine implements UnaryOperator<String> {
    public String apply( final String templateName ) {
       final Template template = engine.getTemplate( templateName + ".vm", StandardCharsets.UTF_8.name() );
       final StringWriter stringWriter = new StringWriter();
-      final Map<String, Object> mutableContext = new HashMap<>( context );
-      final VelocityContext velocityContext = new VelocityContext( mutableContext );
+      // Variables set by the template go to the per-render context, the base context stays unchanged
+      final VelocityContext velocityContext = new VelocityContext( new HashMap<>(), baseContext );
       template.merge( velocityContext, stringWriter );
       return stringWriter.toString();
    }
@@ -77,7 +113,8 @@ public class TemplateEngine implements UnaryOperator<String> {
     * @return the template engine with the updated context
     */
    public TemplateEngine with( final String key, final Object value ) {
-      return new TemplateEngine( engine,
-            ImmutableMap.<String, Object>builder().putAll( context ).put( key, value ).build() );
+      final Map<String, Object> newContext = new HashMap<>( context );
+      newContext.put( key, value );
+      return new TemplateEngine( engine, newContext );
    }
 }
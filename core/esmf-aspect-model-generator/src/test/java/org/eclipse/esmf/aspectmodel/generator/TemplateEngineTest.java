@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+class TemplateEngineTest {
+   @Test
+   void testSharedEngineRendersContext() {
+      final TemplateEngine engine = TemplateEngine.shared( Map.of( "name", "World" ), new Properties() );
+      assertThat( engine.apply( "template-engine-test/greeting" ) ).isEqualTo( "Hello, World!" );
+      // A second engine for the same configuration reuses the cached template with its own context
+      final TemplateEngine otherEngine = TemplateEngine.shared( Map.of( "name", "Aspect" ), new Properties() );
+      assertThat( otherEngine.apply( "template-engine-test/greeting" ) ).isEqualTo( "Hello, Aspect!" );
+      assertThat( engine.apply( "template-engine-test/greeting" ) ).isEqualTo( "Hello, World!" );
+   }
+
+   @Test
+   void testContextMayContainNullValues() {
+      final Map<String, Object> context = new HashMap<>();
+      context.put( "counter", null );
+      final TemplateEngine engine = new TemplateEngine( context, new Properties() );
+      assertThat( engine.apply( "template-engine-test/counter" ) ).isEqualTo( "counter is not set" );
+      assertThat( engine.with( "name", null ).apply( "template-engine-test/counter" ) ).isEqualTo( "counter is not set" );
+   }
+
+   @Test
+   void testVariablesSetByTemplateDoNotLeakIntoBaseContext() {
+      final TemplateEngine engine = TemplateEngine.shared( Map.of(), new Properties() );
+      assertThat( engine.apply( "template-engine-test/counter" ) ).isEqualTo( "counter is not set" );
+      assertThat( engine.apply( "template-engine-test/counter" ) ).isEqualTo( "counter is not set" );
+   }
+
+   @Test
+   void testWithOverlaysContextWithoutChangingOriginal() {
+      final TemplateEngine engine = TemplateEngine.shared( Map.of( "name", "World" ), new Properties() );
+      final TemplateEngine derivedEngine = engine.with( "name", "Aspect" );
+      assertThat( derivedEngine.apply( "template-engine-test/greeting" ) ).isEqualTo( "Hello, Aspect!" );
+      assertThat( engine.apply( "template-engine-test/greeting" ) ).isEqualTo( "Hello, World!" );
+      assertThat( engine.with( "counter", 1 ).apply( "template-engine-test/counter" ) ).isEqualTo( "counter is set" );
+   }
+}
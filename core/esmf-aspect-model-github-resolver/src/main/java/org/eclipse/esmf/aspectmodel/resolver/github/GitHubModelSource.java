@@ -16,24 +16,32 @@ package org.eclipse.esmf.aspectmodel.resolver.github;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
 import org.eclipse.esmf.aspectmodel.resolver.AspectModelFileLoader;
-import org.eclipse.esmf.util.download.Download;
 import org.eclipse.esmf.aspectmodel.resolver.GithubRepository;
 import org.eclipse.esmf.aspectmodel.resolver.ModelSource;
 import org.eclipse.esmf.aspectmodel.resolver.modelfile.RawAspectModelFile;
 import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+import org.eclipse.esmf.util.download.Download;
+import org.eclipse.esmf.util.download.DownloadException;
 
 import com.google.common.collect.Streams;
 import io.vavr.control.Try;
@@ -41,14 +49,31 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A model source for remote GitHub repositories
+ * A model source for remote GitHub repositories. The repository is downloaded as a .zip archive,
+ * which is kept in the configured cache directory (see {@link GithubModelSourceConfig#cacheDirectory()}).
+ * On subsequent uses, also in other processes, the cached archive is revalidated using its ETag and
+ * only downloaded again if the repository has changed; in offline mode, the cached archive is used
+ * without contacting the server. Only the directory of the archive is read initially; the Aspect
+ * Model files it contains are parsed when they are requested for the first time.
  */
 public class GitHubModelSource implements ModelSource {
    private static final Logger LOG = LoggerFactory.getLogger( GitHubModelSource.class );
    File repositoryZipFile = null;
-   private List<AspectModelFile> files = null;
+   private Map<String, List<ArchiveEntry>> entriesByNamespace = null;
+   private final Map<String, Optional<AspectModelFile>> parsedFiles = new ConcurrentHashMap<>();
    protected final GithubModelSourceConfig config;
 
+   /**
+    * An Aspect Model file in the repository archive
+    *
+    * @param name the name of the zip entry
+    * @param sourceLocation the location of the file on GitHub
+    */
+   private record ArchiveEntry(
+         String name,
+         URI sourceLocation
+   ) {}
+
    public GitHubModelSource( final GithubModelSourceConfig config ) {
       this.config = config;
    }
@@ -76,86 +101,221 @@ public class GitHubModelSource implements ModelSource {
             filename );
    }
 
-   private void init() {
+   /**
+    * Returns the location the repository archive is downloaded from
+    *
+    * @return the archive location
+    */
+   protected URL archiveLocation() {
+      return config.repository().zipLocation();
+   }
+
+   /**
+    * Returns the location of the cached archive of the configured repository and ref
+    *
+    * @return the path of the cached archive
+    */
+   Path cachedArchive() {
+      final GithubRepository repository = config.repository();
+      return config.cacheDirectory()
+            .resolve( sanitize( repository.host() ) )
+            .resolve( sanitize( repository.owner() ) )
+            .resolve( sanitize( repository.repository() ) )
+            .resolve( sanitize( repository.branchOrTag().refType() + "-" + repository.branchOrTag().name() ) + ".zip" );
+   }
+
+   private static String sanitize( final String pathElement ) {
+      return pathElement.replaceAll( "[^A-Za-z0-9._-]", "_" );
+   }
+
+   private synchronized void init() {
+      if ( entriesByNamespace != null ) {
+         return;
+      }
+      if ( repositoryZipFile == null ) {
+         repositoryZipFile = fetchArchive().toFile();
+      }
+      indexZipFile();
+   }
+
+   /**
+    * Makes sure the cache contains an up-to-date archive of the repository
+    *
+    * @return the path of the cached archive
+    */
+   private Path fetchArchive() {
+      final Path archive = cachedArchive();
+      final Path etagFile = archive.resolveSibling( archive.getFileName() + ".etag" );
+      final boolean isCached = Files.isRegularFile( archive );
+      if ( config.offline() ) {
+         if ( !isCached ) {
+            throw new GitHubResolverException( "Offline mode is enabled, but the repository " + config.repository()
+                  + " is not contained in the cache " + config.cacheDirectory() );
+         }
+         LOG.debug( "Offline mode is enabled, using cached repository archive {}", archive );
+         return archive;
+      }
+
+      final Map<String, String> headers = new HashMap<>();
+      headers.put( "Accept", "application/vnd.github+json" );
+      headers.put( "X-GitHub-Api-Version", "2022-11-28" );
+      if ( config.token() != null ) {
+         headers.put( "Authorization", "Bearer " + config.token() );
+      }
+      if ( isCached && Files.isRegularFile( etagFile ) ) {
+         Try.of( () -> Files.readString( etagFile, StandardCharsets.UTF_8 ).trim() )
+               .filter( etag -> !etag.isEmpty() )
+               .forEach( etag -> headers.put( "If-None-Match", etag ) );
+      }
+
+      final HttpResponse<byte[]> response;
       try {
-         final Path tempDirectory = Files.createTempDirectory( "esmf" );
-         final File outputZipFile = tempDirectory.resolve( ZonedDateTime.now( ZoneId.systemDefault() )
-               .format( DateTimeFormatter.ofPattern( "uuuu-MM-dd.HH.mm.ss" ) ) + ".zip" ).toFile();
-         final Map<String, String> headers = new HashMap<>();
-         headers.put( "Accept", "application/vnd.github+json" );
-         headers.put( "X-GitHub-Api-Version", "2022-11-28" );
-         if ( config.token() != null ) {
-            headers.put( "Authorization", "Bearer " + config.token() );
+         response = new Download( config.proxyConfig() ).downloadFileAsResponse( archiveLocation(), headers );
+      } catch ( final DownloadException exception ) {
+         if ( isCached ) {
+            LOG.warn( "Could not download {}, using cached repository archive {}", archiveLocation(), archive, exception );
+            return archive;
          }
-         repositoryZipFile = new Download( config.proxyConfig() )
-               .downloadFile( config.repository().zipLocation(), headers, outputZipFile );
-         loadFilesFromZip();
-         final boolean packageIsDeleted = outputZipFile.delete() && tempDirectory.toFile().delete();
-         if ( packageIsDeleted ) {
-            LOG.debug( "Temporary package file {} was deleted", outputZipFile.getName() );
+         throw new GitHubResolverException( "Could not download repository archive " + archiveLocation(), exception );
+      }
+
+      if ( response.statusCode() == 304 && isCached ) {
+         LOG.debug( "Cached repository archive {} is up to date", archive );
+         return archive;
+      }
+      if ( response.statusCode() < 200 || response.statusCode() >= 300 ) {
+         if ( isCached ) {
+            LOG.warn( "Could not download {} (status code: {}), using cached repository archive {}", archiveLocation(),
+                  response.statusCode(), archive );
+            return archive;
+         }
+         throw new GitHubResolverException( "Could not download repository archive " + archiveLocation() + " (status code: "
+               + response.statusCode() + ")" );
+      }
+
+      try {
+         Files.createDirectories( archive.getParent() );
+         writeAtomically( archive, response.body() );
+         final Optional<String> etag = response.headers().firstValue( "ETag" );
+         if ( etag.isPresent() ) {
+            writeAtomically( etagFile, etag.get().getBytes( StandardCharsets.UTF_8 ) );
+         } else {
+            Files.deleteIfExists( etagFile );
          }
       } catch ( final IOException exception ) {
-         throw new GitHubResolverException( "Could not create temporary directory", exception );
+         throw new GitHubResolverException( "Could not write repository archive to cache " + archive, exception );
       }
+      LOG.info( "Downloaded {} to {}", archiveLocation(), archive );
+      return archive;
    }
 
    /**
-    * Loads the AspectModelFiles from the downloaded .zip
+    * Writes a file in the cache via a temporary file, so that processes using the same cache never read a
+    * partially written file. The temporary file is removed if writing or moving it fails.
     */
-   void loadFilesFromZip() {
+   private static void writeAtomically( final Path target, final byte[] content ) throws IOException {
+      final Path temporaryFile = Files.createTempFile( target.getParent(), target.getFileName().toString(), ".tmp" );
+      try {
+         Files.write( temporaryFile, content );
+         Files.move( temporaryFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+      } catch ( final IOException | RuntimeException exception ) {
+         try {
+            Files.deleteIfExists( temporaryFile );
+         } catch ( final IOException deletionException ) {
+            exception.addSuppressed( deletionException );
+         }
+         throw exception;
+      }
+   }
+
+   /**
+    * Reads the directory of the repository archive and groups the contained Aspect Model files by the
+    * namespace path they are located in. The files themselves are not parsed yet.
+    */
+   void indexZipFile() {
       try ( final ZipFile zipFile = new ZipFile( repositoryZipFile ) ) {
-         LOG.debug( "Loading Aspect Model files from {}", repositoryZipFile );
-         files = Streams.stream( zipFile.entries().asIterator() ).flatMap( zipEntry -> {
-            final String path = zipEntry.getName().substring( zipEntry.getName().indexOf( '/' ) + 1 );
-            if ( !zipEntry.getName().endsWith( ".ttl" ) ) {
-               return Stream.empty();
-            }
-            final String[] parts = path.split( "/" );
-            if ( parts.length < 3 || AspectModelUrn.from( parts[parts.length - 3], parts[parts.length - 2] ).isFailure() ) {
-               LOG.debug( "Tried to load file {} but the path contains no valid URN structure", zipEntry.getName() );
-               return Stream.<AspectModelFile>empty();
-            }
-            final URI uri = URI.create( sourceUrl( path ) );
-            final Try<RawAspectModelFile> file = Try.of( () -> zipFile.getInputStream( zipEntry ) )
-                  .map( inputStream -> AspectModelFileLoader.load( inputStream, uri ) );
-            if ( file.isFailure() ) {
-               LOG.debug( "Tried to load {}, but it failed", uri );
-            }
-            return file.toJavaStream();
-         } ).toList();
+         LOG.debug( "Indexing Aspect Model files in {}", repositoryZipFile );
+         final Map<String, List<ArchiveEntry>> index = new LinkedHashMap<>();
+         Streams.stream( zipFile.entries().asIterator() )
+               .map( ZipEntry::getName )
+               .filter( name -> name.endsWith( ".ttl" ) )
+               .forEach( name -> {
+                  final String path = name.substring( name.indexOf( '/' ) + 1 );
+                  final String[] parts = path.split( "/" );
+                  if ( parts.length < 3 || AspectModelUrn.from( parts[parts.length - 3], parts[parts.length - 2] ).isFailure() ) {
+                     LOG.debug( "Tried to load file {} but the path contains no valid URN structure", name );
+                     return;
+                  }
+                  index.computeIfAbsent( namespacePath( parts[parts.length - 3], parts[parts.length - 2] ), key -> new ArrayList<>() )
+                        .add( new ArchiveEntry( name, URI.create( sourceUrl( path ) ) ) );
+               } );
+         parsedFiles.clear();
+         entriesByNamespace = index;
       } catch ( final IOException exception ) {
-         throw new GitHubResolverException( "Unable to load files from temporary file", exception );
+         throw new GitHubResolverException( "Unable to read repository archive " + repositoryZipFile, exception );
       }
    }
 
+   private static String namespacePath( final String namespaceMainPart, final String version ) {
+      return namespaceMainPart + "/" + version;
+   }
+
+   private List<ArchiveEntry> entries( final AspectModelUrn namespace ) {
+      init();
+      return entriesByNamespace.getOrDefault( namespacePath( namespace.getNamespaceMainPart(), namespace.getVersion() ), List.of() );
+   }
+
+   private List<ArchiveEntry> entries() {
+      init();
+      return entriesByNamespace.values().stream().flatMap( Collection::stream ).toList();
+   }
+
+   /**
+    * Parses the given archive entries, unless they have been parsed before
+    */
+   private Stream<AspectModelFile> load( final List<ArchiveEntry> entries ) {
+      final List<ArchiveEntry> unparsedEntries = entries.stream()
+            .filter( entry -> !parsedFiles.containsKey( entry.name() ) )
+            .toList();
+      if ( !unparsedEntries.isEmpty() ) {
+         try ( final ZipFile zipFile = new ZipFile( repositoryZipFile ) ) {
+            for ( final ArchiveEntry entry : unparsedEntries ) {
+               parsedFiles.computeIfAbsent( entry.name(), name -> parse( zipFile, entry ) );
+            }
+         } catch ( final IOException exception ) {
+            throw new GitHubResolverException( "Unable to load files from repository archive " + repositoryZipFile, exception );
+         }
+      }
+      return entries.stream().flatMap( entry -> parsedFiles.getOrDefault( entry.name(), Optional.empty() ).stream() );
+   }
+
+   private Optional<AspectModelFile> parse( final ZipFile zipFile, final ArchiveEntry entry ) {
+      final ZipEntry zipEntry = zipFile.getEntry( entry.name() );
+      final Try<RawAspectModelFile> file = Try.of( () -> zipFile.getInputStream( zipEntry ) )
+            .map( inputStream -> AspectModelFileLoader.load( inputStream, entry.sourceLocation() ) );
+      if ( file.isFailure() ) {
+         LOG.debug( "Tried to load {}, but it failed", entry.sourceLocation() );
+      }
+      return file.toJavaOptional().map( AspectModelFile.class::cast );
+   }
+
    @Override
    public Stream<URI> listContents() {
-      if ( files == null ) {
-         init();
-      }
-      return files.stream().flatMap( file -> file.sourceLocation().stream() );
+      return entries().stream().map( ArchiveEntry::sourceLocation );
    }
 
    @Override
    public Stream<URI> listContentsForNamespace( final AspectModelUrn namespace ) {
-      return listContents()
-            .filter( uri -> uri.toString().contains( namespace.getNamespaceMainPart() + "/" + namespace.getVersion() + "/" ) );
+      return entries( namespace ).stream().map( ArchiveEntry::sourceLocation );
    }
 
    @Override
    public Stream<AspectModelFile> loadContents() {
-      if ( files == null ) {
-         init();
-      }
-      return files.stream();
+      return load( entries() );
    }
 
    @Override
    public Stream<AspectModelFile> loadContentsForNamespace( final AspectModelUrn namespace ) {
-      if ( files == null ) {
-         init();
-      }
-      return files.stream()
-            .filter( uri -> uri.toString().contains( namespace.getNamespaceMainPart() + "/" + namespace.getVersion() + "/" ) );
+      return load( entries( namespace ) );
    }
 }
@@ -13,6 +13,7 @@
 
 package org.eclipse.esmf.aspectmodel.resolver.github;
 
+import java.nio.file.Path;
 import java.util.Optional;
 
 import org.eclipse.esmf.aspectmodel.resolver.GithubRepository;
@@ -20,15 +21,30 @@ import org.eclipse.esmf.util.download.ProxyConfig;
 
 import io.soabase.recordbuilder.core.RecordBuilder;
 
+/**
+ * Configuration of a {@link GitHubModelSource}
+ *
+ * @param repository the repository
+ * @param directory the relative directory inside the repository
+ * @param proxyConfig the proxy settings
+ * @param token the token used for authentication, or null
+ * @param cacheDirectory the directory in which downloaded repository archives are kept across runs; by default
+ *        {@code .esmf/cache/github} in the user's home directory
+ * @param offline if true, only the cached repository archive is used and nothing is downloaded
+ */
 @RecordBuilder
 public record GithubModelSourceConfig(
       GithubRepository repository,
       String directory,
       ProxyConfig proxyConfig,
-      String token
+      String token,
+      Path cacheDirectory,
+      boolean offline
 ) {
    public GithubModelSourceConfig {
       directory = Optional.ofNullable( directory ).map( d -> d.endsWith( "/" ) ? d.substring( 0, d.length() - 1 ) : d ).orElse( "" );
       proxyConfig = Optional.ofNullable( proxyConfig ).orElse( ProxyConfig.detectProxySettings() );
+      cacheDirectory = Optional.ofNullable( cacheDirectory )
+            .orElseGet( () -> Path.of( System.getProperty( "user.home" ), ".esmf", "cache", "github" ) );
    }
 }
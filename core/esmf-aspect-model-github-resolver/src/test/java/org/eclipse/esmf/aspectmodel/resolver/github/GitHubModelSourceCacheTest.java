@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.resolver.github;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.GithubRepository;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GitHubModelSourceCacheTest {
+   private static final String ETAG = "\"archive-v1\"";
+   private static final AspectModelUrn TEST_NAMESPACE = AspectModelUrn.fromUrn( "urn:samm:org.eclipse.esmf.test:1.0.0" );
+
+   private final GithubRepository esmfSdk = new GithubRepository( "eclipse-esmf", "esmf-sdk", new GithubRepository.Branch( "main" ) );
+   private final List<Integer> responseCodes = new CopyOnWriteArrayList<>();
+   private HttpServer server;
+   private int port;
+   private byte[] archive;
+
+   @TempDir
+   Path cacheDirectory;
+
+   @BeforeEach
+   void startServer() throws IOException {
+      try ( final InputStream input = getClass().getClassLoader().getResourceAsStream( "github-export.zip" ) ) {
+         assertThat( input ).isNotNull();
+         archive = input.readAllBytes();
+      }
+      server = HttpServer.create( new InetSocketAddress( "localhost", 0 ), 0 );
+      server.createContext( "/zipball", exchange -> {
+         final boolean notModified = ETAG.equals( exchange.getRequestHeaders().getFirst( "If-None-Match" ) );
+         exchange.getResponseHeaders().add( "ETag", ETAG );
+         if ( notModified ) {
+            exchange.sendResponseHeaders( 304, -1 );
+         } else {
+            exchange.sendResponseHeaders( 200, archive.length );
+            try ( final OutputStream output = exchange.getResponseBody() ) {
+               output.write( archive );
+            }
+         }
+         responseCodes.add( notModified ? 304 : 200 );
+         exchange.close();
+      } );
+      server.start();
+      port = server.getAddress().getPort();
+   }
+
+   @AfterEach
+   void stopServer() {
+      if ( server != null ) {
+         server.stop( 0 );
+      }
+   }
+
+   private GitHubModelSource modelSource( final boolean offline ) {
+      final GithubModelSourceConfig config = GithubModelSourceConfigBuilder.builder()
+            .repository( esmfSdk )
+            .directory( "core/esmf-test-aspect-models/src/main/resources/valid" )
+            .cacheDirectory( cacheDirectory )
+            .offline( offline )
+            .build();
+      return new GitHubModelSource( config ) {
+         @Override
+         protected URL archiveLocation() {
+            try {
+               return URI.create( "http://localhost:" + port + "/zipball" ).toURL();
+            } catch ( final MalformedURLException exception ) {
+               throw new IllegalStateException( exception );
+            }
+         }
+      };
+   }
+
+   @Test
+   void testArchiveIsCachedAndRevalidated() {
+      final GitHubModelSource first = modelSource( false );
+      assertThat( first.loadContentsForNamespace( TEST_NAMESPACE ) ).hasSize( 1 );
+      assertThat( responseCodes ).containsExactly( 200 );
+      assertThat( first.cachedArchive() ).exists();
+
+      final List<AspectModelFile> files = modelSource( false ).loadContents().toList();
+      assertThat( responseCodes ).containsExactly( 200, 304 );
+      assertThat( files ).hasSize( 1 );
+      assertThat( files.getFirst().sourceLocation() ).hasValueSatisfying( location -> assertThat( location.toString() )
+            .startsWith( "https://github.com/eclipse-esmf/esmf-sdk/blob/main/" )
+            .endsWith( "/Aspect.ttl" ) );
+   }
+
+   @Test
+   void testOfflineModeUsesCachedArchiveOnly() {
+      assertThatThrownBy( () -> modelSource( true ).listContents() ).isInstanceOf( GitHubResolverException.class );
+      assertThat( responseCodes ).isEmpty();
+
+      modelSource( false ).listContents().toList();
+      assertThat( modelSource( true ).loadContentsForNamespace( TEST_NAMESPACE ) ).hasSize( 1 );
+      assertThat( responseCodes ).containsExactly( 200 );
+   }
+
+   @Test
+   void testCachedArchiveIsUsedWhenServerIsUnavailable() throws IOException {
+      modelSource( false ).listContents().toList();
+      server.stop( 0 );
+      server = null;
+
+      assertThat( modelSource( false ).listContentsForNamespace( TEST_NAMESPACE ) ).hasSize( 1 );
+      assertThat( Files.size( modelSource( false ).cachedArchive() ) ).isEqualTo( archive.length );
+   }
+
+   @Test
+   void testFilesOfOtherNamespacesAreNotListed() {
+      final GitHubModelSource modelSource = modelSource( false );
+      assertThat( modelSource.listContentsForNamespace( AspectModelUrn.fromUrn( "urn:samm:org.eclipse.esmf.other:1.0.0" ) ) ).isEmpty();
+      assertThat( modelSource.loadContentsForNamespace( AspectModelUrn.fromUrn( "urn:samm:org.eclipse.esmf.test:2.0.0" ) ) ).isEmpty();
+   }
+}
@@ -137,7 +137,7 @@ public class GitHubStrategyTest {
 
    private void inject( final GitHubModelSource gitHubModelSource, final File tempFile ) {
       gitHubModelSource.repositoryZipFile = tempFile;
-      gitHubModelSource.loadFilesFromZip();
+      gitHubModelSource.indexZipFile();
    }
 
    @Test
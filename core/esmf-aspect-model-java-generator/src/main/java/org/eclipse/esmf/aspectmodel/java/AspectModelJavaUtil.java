@@ -66,6 +66,7 @@ import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.XSD;
+import org.jboss.forge.roaster.Roaster;
 
 public class AspectModelJavaUtil {
 
@@ -77,6 +78,17 @@ public class AspectModelJavaUtil {
 
    private AspectModelJavaUtil() {}
 
+   /**
+    * Formats generated Java source code, unless formatting is disabled in the configuration.
+    *
+    * @param source the generated source code
+    * @param codeGenerationConfig the configuration for code generation
+    * @return the formatted source code
+    */
+   public static String formatSource( final String source, final JavaCodeGenerationConfig codeGenerationConfig ) {
+      return codeGenerationConfig.formatSources() ? Roaster.format( source ) : source;
+   }
+
    /**
     * Determines the type of a property and wraps it in an Optional if it has been marked as optional.
     *
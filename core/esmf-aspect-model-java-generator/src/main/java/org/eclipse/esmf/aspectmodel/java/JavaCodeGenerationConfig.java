@@ -38,6 +38,9 @@ import io.soabase.recordbuilder.core.RecordBuilder;
  * @param enableSetters controls whether setters should be generated for the properties of the
  *        generated Java classes
  * @param setterStyle the style of setters to be generated, if {@code enableSetters} is true
+ * @param formatSources controls whether the generated sources are formatted; defaults to true.
+ *        Formatting takes a significant share of the generation time, so it can be disabled when
+ *        the sources are formatted by a later build step anyway
  */
 @RecordBuilder
 public record JavaCodeGenerationConfig(
@@ -51,7 +54,8 @@ public record JavaCodeGenerationConfig(
       String namePrefix,
       String namePostfix,
       boolean enableSetters,
-      SetterStyle setterStyle
+      SetterStyle setterStyle,
+      Boolean formatSources
 ) implements GenerationConfig {
    public enum JsonTypeInfoType {
       NONE, CLASS, MINIMAL_CLASS, NAME, SIMPLE_NAME, DEDUCTION, CUSTOM
@@ -89,5 +93,8 @@ public record JavaCodeGenerationConfig(
       if ( setterStyle == null ) {
          setterStyle = SetterStyle.STANDARD;
       }
+      if ( formatSources == null ) {
+         formatSources = true;
+      }
    }
 }
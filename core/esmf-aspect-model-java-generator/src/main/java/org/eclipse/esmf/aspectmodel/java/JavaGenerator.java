@@ -12,16 +12,149 @@
  */
 package org.eclipse.esmf.aspectmodel.java;
 
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.esmf.aspectmodel.ConcurrencyUtil;
 import org.eclipse.esmf.aspectmodel.generator.Artifact;
+import org.eclipse.esmf.aspectmodel.generator.ArtifactGenerator;
 import org.eclipse.esmf.aspectmodel.generator.AspectGenerator;
+import org.eclipse.esmf.functions.ThrowingFunction;
 import org.eclipse.esmf.metamodel.Aspect;
+import org.eclipse.esmf.metamodel.ModelElement;
+
+import org.jspecify.annotations.Nullable;
 
 /**
- * Base class for all generators that want to create Java source code.
+ * Base class for all generators that want to create Java source code. Subclasses provide one
+ * generation task per artifact (see {@link #generationTasks()}); the tasks are run one after another
+ * or, when enabled using {@link #withParallelGeneration()}, concurrently.
  */
 public abstract class JavaGenerator extends
       AspectGenerator<QualifiedName, String, JavaCodeGenerationConfig, Artifact<QualifiedName, String>> {
+   private @Nullable Executor generationExecutor = null;
+
    public JavaGenerator( final Aspect aspect, final JavaCodeGenerationConfig config ) {
       super( aspect, config );
    }
+
+   /**
+    * Enables parallel generation: The artifacts are rendered and formatted concurrently using the
+    * common fork-join pool, and {@link #generate(Function)} and {@link #generateThrowing(ThrowingFunction)}
+    * write each artifact as soon as it is complete. Since each artifact is generated using its own
+    * {@link ImportTracker}, the generated classes only contain their own imports.
+    *
+    * @return this generator
+    */
+   public JavaGenerator withParallelGeneration() {
+      return withParallelGeneration( ForkJoinPool.commonPool() );
+   }
+
+   /**
+    * Enables parallel generation, see {@link #withParallelGeneration()}, using the given executor. The
+    * caller is responsible for shutting down the executor.
+    *
+    * @param executor the executor to run the generation on
+    * @return this generator
+    */
+   public JavaGenerator withParallelGeneration( final Executor executor ) {
+      generationExecutor = executor;
+      return this;
+   }
+
+   /**
+    * Returns the tasks that generate the artifacts, one task per artifact.
+    *
+    * @return the generation tasks
+    */
+   protected abstract Stream<Supplier<Artifact<QualifiedName, String>>> generationTasks();
+
+   /**
+    * Returns the tasks that apply an artifact generator to all elements of the given type.
+    *
+    * @param clazz the element type
+    * @param artifactGenerator the artifact generator
+    * @param <E> the element type
+    * @return the generation tasks
+    */
+   protected <E extends ModelElement> Stream<Supplier<Artifact<QualifiedName, String>>> generationTasks( final Class<E> clazz,
+         final ArtifactGenerator<QualifiedName, String, E, JavaCodeGenerationConfig, Artifact<QualifiedName, String>> artifactGenerator ) {
+      return elements( clazz ).<Supplier<Artifact<QualifiedName, String>>>map( element ->
+            () -> artifactGenerator.apply( element, elementConfig() ) );
+   }
+
+   private JavaCodeGenerationConfig elementConfig() {
+      if ( generationExecutor == null ) {
+         return config;
+      }
+      // The import tracker collects the imports of the class that is being generated and can therefore not be shared between
+      // concurrently generated classes
+      return JavaCodeGenerationConfigBuilder.builder( config ).importTracker( new ImportTracker() ).build();
+   }
+
+   @Override
+   public Stream<Artifact<QualifiedName, String>> generate() {
+      if ( generationExecutor == null ) {
+         return generationTasks()
+               .map( Supplier::get )
+               .collect( Collectors.toSet() )
+               .stream();
+      }
+      final Executor executor = generationExecutor;
+      final List<CompletableFuture<Artifact<QualifiedName, String>>> artifacts = generationTasks()
+            .map( task -> CompletableFuture.supplyAsync( task, executor ) )
+            .toList();
+      return artifacts.stream()
+            .map( ConcurrencyUtil::join )
+            .collect( Collectors.toSet() )
+            .stream();
+   }
+
+   @Override
+   public void generate( final Function<QualifiedName, OutputStream> nameMapper ) {
+      if ( generationExecutor == null ) {
+         super.generate( nameMapper );
+         return;
+      }
+      generateAndWrite( artifact -> write( artifact, nameMapper ) );
+   }
+
+   @Override
+   public <E extends Throwable> void generateThrowing( final ThrowingFunction<QualifiedName, OutputStream, E> nameMapper ) {
+      if ( generationExecutor == null ) {
+         super.generateThrowing( nameMapper );
+         return;
+      }
+      generateAndWrite( artifact -> writeThrowing( artifact, nameMapper ) );
+   }
+
+   /**
+    * Runs the generation tasks concurrently and writes each artifact as soon as it is complete. The
+    * artifacts are written one at a time, so the writer does not need to be thread-safe.
+    */
+   private void generateAndWrite( final Consumer<Artifact<QualifiedName, String>> writer ) {
+      final Executor executor = generationExecutor;
+      final Set<Artifact<QualifiedName, String>> writtenArtifacts = ConcurrentHashMap.newKeySet();
+      final Object writeLock = new Object();
+      final List<CompletableFuture<Void>> results = generationTasks()
+            .map( task -> CompletableFuture.supplyAsync( task, executor ).thenAccept( artifact -> {
+               if ( writtenArtifacts.add( artifact ) ) {
+                  synchronized ( writeLock ) {
+                     writer.accept( artifact );
+                  }
+               }
+            } ) )
+            .toList();
+      results.forEach( ConcurrencyUtil::join );
+   }
 }
@@ -109,7 +109,6 @@ import org.apache.commons.text.StringEscapeUtils;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.vocabulary.XSD;
 import org.apache.velocity.runtime.RuntimeConstants;
-import org.jboss.forge.roaster.Roaster;
 
 /**
  * A {@link ArtifactGenerator} that generates static meta classes for {@link StructureElement}s in
@@ -233,10 +232,10 @@ public class StaticMetaModelJavaArtifactGenerator<E extends StructureElement> im
          engineConfiguration.put( RuntimeConstants.FILE_RESOURCE_LOADER_PATH, config.templateLibFile().getParent() );
       }
 
-      final String generatedSource = new TemplateEngine( context, engineConfiguration ).apply( "java-static-class" );
+      final String generatedSource = TemplateEngine.shared( context, engineConfiguration ).apply( "java-static-class" );
       try {
-         return new JavaArtifact( Roaster.format( generatedSource ), "Meta" + AspectModelJavaUtil.generateClassName( element, config ),
-               config.packageName() );
+         return new JavaArtifact( AspectModelJavaUtil.formatSource( generatedSource, config ),
+               "Meta" + AspectModelJavaUtil.generateClassName( element, config ), config.packageName() );
       } catch ( final Exception exception ) {
          throw new CodeGenerationException( generatedSource, exception );
       }
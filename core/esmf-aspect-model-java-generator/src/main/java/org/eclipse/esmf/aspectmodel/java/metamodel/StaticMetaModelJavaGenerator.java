@@ -12,7 +12,7 @@
  */
 package org.eclipse.esmf.aspectmodel.java.metamodel;
 
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.eclipse.esmf.aspectmodel.generator.Artifact;
@@ -31,10 +31,7 @@ public class StaticMetaModelJavaGenerator extends JavaGenerator {
    }
 
    @Override
-   public Stream<Artifact<QualifiedName, String>> generate() {
-      final StaticMetaModelJavaArtifactGenerator<StructureElement> template = new StaticMetaModelJavaArtifactGenerator<>();
-      return applyArtifactGenerator( StructureElement.class, template, config )
-            .collect( Collectors.toSet() )
-            .stream();
+   protected Stream<Supplier<Artifact<QualifiedName, String>>> generationTasks() {
+      return generationTasks( StructureElement.class, new StaticMetaModelJavaArtifactGenerator<>() );
    }
 }
@@ -14,6 +14,7 @@ package org.eclipse.esmf.aspectmodel.java.pojo;
 
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,17 +36,15 @@ public class AspectModelJavaGenerator extends JavaGenerator {
    }
 
    @Override
-   public Stream<Artifact<QualifiedName, String>> generate() {
+   protected Stream<Supplier<Artifact<QualifiedName, String>>> generationTasks() {
       final Set<ComplexType> structureElements = elements( ComplexType.class )
             .filter( element -> element.getExtends().isPresent() )
             .collect( Collectors.toSet() );
       return Stream.of(
-            applyArtifactGenerator( Aspect.class, new StructureElementJavaArtifactGenerator<>(), config ),
-            applyArtifactGenerator( ComplexType.class, new StructureElementJavaArtifactGenerator<>( structureElements ), config ),
-            applyArtifactGenerator( Event.class, new StructureElementJavaArtifactGenerator<>(), config ),
-            applyArtifactGenerator( Enumeration.class, new EnumerationJavaArtifactGenerator<>(), config ) )
-            .flatMap( Function.identity() )
-            .collect( Collectors.toSet() )
-            .stream();
+            generationTasks( Aspect.class, new StructureElementJavaArtifactGenerator<>() ),
+            generationTasks( ComplexType.class, new StructureElementJavaArtifactGenerator<>( structureElements ) ),
+            generationTasks( Event.class, new StructureElementJavaArtifactGenerator<>() ),
+            generationTasks( Enumeration.class, new EnumerationJavaArtifactGenerator<>() ) )
+            .flatMap( Function.identity() );
    }
 }
@@ -39,7 +39,6 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.common.collect.ImmutableMap;
 import org.apache.velocity.runtime.RuntimeConstants;
-import org.jboss.forge.roaster.Roaster;
 
 /**
  * A {@link ArtifactGenerator} that generates Java Pojo code for {@link Enumeration}s
@@ -83,8 +82,8 @@ public class EnumerationJavaArtifactGenerator<E extends Enumeration> implements
             engineConfiguration.put( RuntimeConstants.FILE_RESOURCE_LOADER_PATH, config.templateLibFile().getParent() );
          }
 
-         final String generatedSource = new TemplateEngine( context, engineConfiguration ).apply( "java-enumeration" );
-         return new JavaArtifact( Roaster.format( generatedSource ), element.getName(),
+         final String generatedSource = TemplateEngine.shared( context, engineConfiguration ).apply( "java-enumeration" );
+         return new JavaArtifact( AspectModelJavaUtil.formatSource( generatedSource, config ), element.getName(),
                config.packageName() );
       } catch ( final Exception e ) {
          throw new CodeGenerationException( e );
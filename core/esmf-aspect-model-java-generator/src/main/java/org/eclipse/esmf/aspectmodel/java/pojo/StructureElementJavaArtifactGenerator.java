@@ -51,8 +51,6 @@ import org.eclipse.esmf.metamodel.impl.DefaultScalar;
 import org.eclipse.esmf.metamodel.impl.DefaultScalarValue;
 import org.eclipse.esmf.samm.KnownVersion;
 
-import org.jboss.forge.roaster.Roaster;
-
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
@@ -138,10 +136,10 @@ public class StructureElementJavaArtifactGenerator<E extends StructureElement> i
          engineConfiguration.put( RuntimeConstants.FILE_RESOURCE_LOADER_PATH, config.templateLibFile().getParent() );
       }
 
-      final String generatedSource = new TemplateEngine( context, engineConfiguration ).apply( "java-pojo" );
+      final String generatedSource = TemplateEngine.shared( context, engineConfiguration ).apply( "java-pojo" );
       try {
-         return new JavaArtifact( Roaster.format( generatedSource ), AspectModelJavaUtil.generateClassName( element, config ),
-               config.packageName() );
+         return new JavaArtifact( AspectModelJavaUtil.formatSource( generatedSource, config ),
+               AspectModelJavaUtil.generateClassName( element, config ), config.packageName() );
       } catch ( final Exception exception ) {
          throw new CodeGenerationException( generatedSource, exception );
       }
@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import javax.xml.datatype.Duration;
 import javax.xml.datatype.XMLGregorianCalendar;
 
@@ -1280,4 +1281,38 @@ class AspectModelJavaGeneratorTest {
       result.assertCollectionElementValidationAnnotations( "AspectWithValidAnnotationTest", "optionalCollectionEntity",
             "@Valid private Optional<Collection<@Valid TestEntity>> optionalCollectionEntity;" );
    }
+
+   @Test
+   void testParallelGenerationGeneratesSameClasses() throws IOException {
+      final AspectModel aspectModel = TestResources.load( TestAspect.ASPECT_WITH_EXTENDED_ENTITY );
+      final JavaGenerator sequentialGenerator = new AspectModelJavaGenerator( aspectModel.aspect(), unformattedConfig( aspectModel ) );
+      final JavaGenerator parallelGenerator = new AspectModelJavaGenerator( aspectModel.aspect(), unformattedConfig( aspectModel ) )
+            .withParallelGeneration();
+      final GenerationResult sequentialResult = TestContext.generateAspectCode().apply( List.of( sequentialGenerator ) );
+      final GenerationResult parallelResult = TestContext.generateAspectCode().apply( List.of( parallelGenerator ) );
+
+      assertThat( parallelResult.getGeneratedClassNames() )
+            .containsExactlyInAnyOrderElementsOf( sequentialResult.getGeneratedClassNames() );
+      for ( final QualifiedName className : sequentialResult.getGeneratedClassNames() ) {
+         assertThat( parallelResult.getGeneratedClass( className ) ).isNotNull();
+         // The sequential generation shares one import tracker between all classes, so it can import more than needed
+         assertThat( withoutImports( parallelResult.getGeneratedSource( className ) ) )
+               .isEqualTo( withoutImports( sequentialResult.getGeneratedSource( className ) ) );
+      }
+   }
+
+   private JavaCodeGenerationConfig unformattedConfig( final AspectModel aspectModel ) {
+      return JavaCodeGenerationConfigBuilder.builder()
+            .enableJacksonAnnotations( true )
+            .executeLibraryMacros( false )
+            .packageName( aspectModel.aspect().urn().getNamespaceMainPart() )
+            .formatSources( false )
+            .build();
+   }
+
+   private String withoutImports( final String source ) {
+      return source.lines()
+            .filter( line -> !line.isBlank() && !line.startsWith( "import " ) )
+            .collect( Collectors.joining( "\n" ) );
+   }
 }
@@ -380,4 +380,8 @@ class GenerationResult {
    String getGeneratedSource( final QualifiedName qualifiedName ) {
       return sources.get( qualifiedName );
    }
+
+   Set<QualifiedName> getGeneratedClassNames() {
+      return sources.keySet();
+   }
 }
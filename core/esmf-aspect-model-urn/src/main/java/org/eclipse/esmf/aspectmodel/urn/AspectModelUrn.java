@@ -15,7 +15,6 @@ package org.eclipse.esmf.aspectmodel.urn;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -23,7 +22,8 @@ import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
-import com.google.common.collect.ImmutableList;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.vavr.control.Try;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,8 +68,20 @@ public class AspectModelUrn implements Comparable<AspectModelUrn> {
          .asList( ElementType.ASPECT_MODEL_ELEMENT, ElementType.ENTITY_MODEL_ELEMENT,
                ElementType.CHARACTERISTIC_MODEL_ELEMENT );
 
+   /**
+    * Upper bound for the number of parsed URNs that are kept for reuse
+    */
+   private static final int INTERNED_URNS_LIMIT = 10_000;
+
    private static final Logger LOG = LoggerFactory.getLogger( AspectModelUrn.class );
 
+   /**
+    * Parsed URNs by their lexical representation, so that the same URN does not need to be parsed again
+    */
+   private static final Cache<String, AspectModelUrn> INTERNED_URNS = CacheBuilder.newBuilder()
+         .maximumSize( INTERNED_URNS_LIMIT )
+         .build();
+
    private final String name;
    private final String version;
    private final String namespaceMainPart;
@@ -95,7 +107,8 @@ public class AspectModelUrn implements Comparable<AspectModelUrn> {
    }
 
    /**
-    * Creates an instance from a URN.
+    * Creates an instance from a URN. Parsed instances are kept in a bounded cache, so that parsing the
+    * same URN again returns the same instance.
     *
     * @param urn the urn which will be parsed to create the instance
     * @return The AspectModelUrn instance
@@ -104,8 +117,14 @@ public class AspectModelUrn implements Comparable<AspectModelUrn> {
    @SuppressWarnings( { "squid:S1166" } )
    @JsonCreator
    public static AspectModelUrn fromUrn( final String urn ) {
+      final AspectModelUrn cachedUrn = urn == null ? null : INTERNED_URNS.getIfPresent( urn );
+      if ( cachedUrn != null ) {
+         return cachedUrn;
+      }
       try {
-         return fromUrn( new URI( urn ) );
+         final AspectModelUrn result = fromUrn( new URI( urn ) );
+         INTERNED_URNS.put( urn, result );
+         return result;
       } catch ( final URISyntaxException e ) {
          throw new UrnSyntaxException( UrnSyntaxException.URN_IS_NO_URI + ": " + urn );
       }
@@ -121,70 +140,71 @@ public class AspectModelUrn implements Comparable<AspectModelUrn> {
    public static AspectModelUrn fromUrn( final URI urn ) {
       checkNotEmpty( urn );
 
-      final List<String> urnParts = getStrings( urn );
+      final UrnParts urnParts = UrnParts.split( urn.toString() );
 
       final int numberOfUrnParts = urnParts.size();
       checkUrn( numberOfUrnParts >= 5, UrnSyntaxException.URN_IS_MISSING_SECTIONS_MESSAGE );
 
-      final String protocol = urnParts.get( 0 );
-      checkUrn( protocol.equalsIgnoreCase( VALID_PROTOCOL ), UrnSyntaxException.URN_INVALID_PROTOCOL_MESSAGE, VALID_PROTOCOL );
+      checkUrn( urnParts.is( 0, VALID_PROTOCOL, true ), UrnSyntaxException.URN_INVALID_PROTOCOL_MESSAGE, VALID_PROTOCOL );
 
-      String namespaceIdentifier = urnParts.get( 1 );
       // This is no public constant, because it's an implementation detail
-      if ( namespaceIdentifier.equals( "bamm" ) ) {
+      if ( urnParts.is( 1, "bamm", false ) ) {
          LOG.warn( "Encountered legacy BAMM Aspect Model URN: {}. Support for urn:bamm: will be removed!", urn );
-         namespaceIdentifier = "samm";
+      } else {
+         checkUrn( urnParts.is( 1, VALID_NAMESPACE_IDENTIFIER, false ),
+               UrnSyntaxException.URN_INVALID_NAMESPACE_IDENTIFIER_MESSAGE, VALID_NAMESPACE_IDENTIFIER );
       }
-      checkUrn( namespaceIdentifier.equals( VALID_NAMESPACE_IDENTIFIER ),
-            UrnSyntaxException.URN_INVALID_NAMESPACE_IDENTIFIER_MESSAGE, VALID_NAMESPACE_IDENTIFIER );
 
       final String namespace = urnParts.get( NAMESPACE_INDEX );
-      checkUrn( NAMESPACE_PATTERN.matcher( namespace ).matches(), UrnSyntaxException.URN_INVALID_NAMESPACE_MESSAGE, NAMESPACE_REGEX );
+      checkUrn( isValidNamespace( namespace ), UrnSyntaxException.URN_INVALID_NAMESPACE_MESSAGE, NAMESPACE_REGEX );
 
       final ElementType elementType = getElementType( urnParts );
-      final boolean isSammUrn = isSammUrn( urn, urnParts, elementType );
+      final boolean isSammUrn = isSammUrn( urnParts, elementType );
       final String version = getVersion( isSammUrn, urnParts, elementType );
       final String elementName = getName( isSammUrn, urnParts, elementType );
       return new AspectModelUrn( urn, elementName, namespace, elementType, version, isSammUrn );
    }
 
-   private static List<String> getStrings( final URI urn ) {
-      final List<String> urnParts;
-      if ( urn.toString().contains( "#" ) ) {
-         final String urnStr = urn.toString();
-         final String[] baseAndFragment = urnStr.split( "#", 2 ); // [0]=before #, [1]=after #
-         final String[] parts = baseAndFragment[0].split( ":", -1 ); // base parts of URN
-
-         urnParts = new ArrayList<>( Arrays.asList( parts ) );
-         if ( baseAndFragment.length == 2 ) {
-            urnParts.add( baseAndFragment[1] );
-         }
-      } else {
-         final String[] parts = urn.toString().split( ":" );
-         final ImmutableList.Builder<String> builder = ImmutableList.builder();
-         for ( final String part : parts ) {
-            builder.add( part );
-         }
-         builder.add( "" );
-         urnParts = builder.build();
-      }
-      return urnParts;
-   }
-
    /**
-    * Checked version of {@link #fromUrn(String)}
+    * Checked version of {@link #fromUrn(String)}. Strings that do not start with "urn:samm:" are
+    * rejected without further parsing.
     *
     * @param urn the lexical representation of the Aspect Model URN
     * @return the Aspect Model URN, a {@link URISyntaxException} or a {@link UrnSyntaxException}
     */
    public static Try<AspectModelUrn> from( final String urn ) {
+      if ( urn != null && !hasUrnPrefix( urn ) ) {
+         // Most URIs passed here, e.g., when scanning all URIs of a model, are no Aspect Model URNs at all
+         return Try.failure( new UrnSyntaxException( hasProtocol( urn )
+               ? formatSimple( UrnSyntaxException.URN_INVALID_NAMESPACE_IDENTIFIER_MESSAGE, VALID_NAMESPACE_IDENTIFIER )
+               : formatSimple( UrnSyntaxException.URN_INVALID_PROTOCOL_MESSAGE, VALID_PROTOCOL ), false ) );
+      }
+      final AspectModelUrn cachedUrn = urn == null ? null : INTERNED_URNS.getIfPresent( urn );
+      if ( cachedUrn != null ) {
+         return Try.success( cachedUrn );
+      }
       try {
-         return from( new URI( urn ) );
+         return from( new URI( urn ) ).peek( result -> INTERNED_URNS.put( urn, result ) );
       } catch ( final URISyntaxException e ) {
          return Try.failure( new UrnSyntaxException( UrnSyntaxException.URN_IS_NO_URI ) );
       }
    }
 
+   private static boolean hasProtocol( final String urn ) {
+      return urn.regionMatches( true, 0, VALID_PROTOCOL + ":", 0, VALID_PROTOCOL.length() + 1 );
+   }
+
+   /**
+    * Checks whether a string starts with the protocol and namespace identifier of an Aspect Model URN
+    * (or of a legacy BAMM URN). Strings for which this is not the case can not be valid Aspect Model
+    * URNs.
+    */
+   private static boolean hasUrnPrefix( final String urn ) {
+      final int protocolLength = VALID_PROTOCOL.length() + 1;
+      return hasProtocol( urn )
+            && ( urn.startsWith( VALID_NAMESPACE_IDENTIFIER + ":", protocolLength ) || urn.startsWith( "bamm:", protocolLength ) );
+   }
+
    /**
     * Checked version of {@link #fromUrn(URI)}
     *
@@ -254,21 +274,20 @@ public class AspectModelUrn implements Comparable<AspectModelUrn> {
     *
     * @return the {@link ElementType} for the given Aspect Model URN
     */
-   private static ElementType getElementType( final List<String> urnParts ) {
-      final String elementType = urnParts.get( ELEMENT_TYPE_INDEX );
-      if ( elementType.equals( ElementType.META_MODEL.getValue() ) ) {
+   private static ElementType getElementType( final UrnParts urnParts ) {
+      if ( urnParts.is( ELEMENT_TYPE_INDEX, ElementType.META_MODEL.getValue(), false ) ) {
          return ElementType.META_MODEL;
       }
-      if ( elementType.equals( ElementType.ASPECT_MODEL.getValue() ) ) {
+      if ( urnParts.is( ELEMENT_TYPE_INDEX, ElementType.ASPECT_MODEL.getValue(), false ) ) {
          return getModelElementType( urnParts, ElementType.ASPECT_MODEL, ElementType.ASPECT_MODEL_ELEMENT );
       }
-      if ( elementType.equals( ElementType.ENTITY.getValue() ) ) {
+      if ( urnParts.is( ELEMENT_TYPE_INDEX, ElementType.ENTITY.getValue(), false ) ) {
          return getModelElementType( urnParts, ElementType.ENTITY, ElementType.ENTITY_MODEL_ELEMENT );
       }
-      if ( elementType.equals( ElementType.CHARACTERISTIC.getValue() ) ) {
+      if ( urnParts.is( ELEMENT_TYPE_INDEX, ElementType.CHARACTERISTIC.getValue(), false ) ) {
          return getModelElementType( urnParts, ElementType.CHARACTERISTIC, ElementType.CHARACTERISTIC_MODEL_ELEMENT );
       }
-      if ( elementType.equals( ElementType.UNIT.getValue() ) ) {
+      if ( urnParts.is( ELEMENT_TYPE_INDEX, ElementType.UNIT.getValue(), false ) ) {
          return ElementType.UNIT;
       }
       return ElementType.NONE;
@@ -284,7 +303,7 @@ public class AspectModelUrn implements Comparable<AspectModelUrn> {
     * @param modelElementType the element type to be used in case the given URN does not identify a
     *        root element
     */
-   private static ElementType getModelElementType( final List<String> urnParts, final ElementType elementType,
+   private static ElementType getModelElementType( final UrnParts urnParts, final ElementType elementType,
          final ElementType modelElementType ) {
       if ( urnParts.size() == MODEL_ELEMENT_NAME_INDEX + 1 ) {
          return modelElementType;
@@ -295,27 +314,19 @@ public class AspectModelUrn implements Comparable<AspectModelUrn> {
    /**
     * Retrieves the version from the given URN.
     */
-   private static String getVersion( final boolean isSammUrn, final List<String> urnParts,
+   private static String getVersion( final boolean isSammUrn, final UrnParts urnParts,
          final ElementType elementType ) {
+      final int versionIndex;
       if ( elementType.equals( ElementType.NONE ) ) {
-         final String version = urnParts.get( VERSION_INDEX_FOR_MODEL_ELEMENTS );
-         checkVersion( version );
-         return urnParts.get( VERSION_INDEX_FOR_MODEL_ELEMENTS );
-      }
-      if ( elementType.equals( ElementType.META_MODEL ) ) {
-         final String version = urnParts.get( VERSION_INDEX_FOR_META_MODEL );
-         checkVersion( version );
-         return urnParts.get( VERSION_INDEX_FOR_META_MODEL );
-      }
-      if ( ELEMENT_TYPES_WITH_VARIABLE_NAMESPACE_STRUCTURE.contains( elementType ) ) {
-         String version = urnParts.get( VERSION_INDEX_FOR_ASPECTS );
-         if ( isSammUrn ) {
-            version = urnParts.get( VERSION_INDEX_FOR_META_MODEL );
-         }
-         checkVersion( version );
-         return version;
+         versionIndex = VERSION_INDEX_FOR_MODEL_ELEMENTS;
+      } else if ( elementType.equals( ElementType.META_MODEL ) ) {
+         versionIndex = VERSION_INDEX_FOR_META_MODEL;
+      } else if ( ELEMENT_TYPES_WITH_VARIABLE_NAMESPACE_STRUCTURE.contains( elementType ) && isSammUrn ) {
+         versionIndex = VERSION_INDEX_FOR_META_MODEL;
+      } else {
+         versionIndex = VERSION_INDEX_FOR_ASPECTS;
       }
-      final String version = urnParts.get( VERSION_INDEX_FOR_ASPECTS );
+      final String version = urnParts.get( versionIndex );
       checkVersion( version );
       return version;
    }
@@ -323,7 +334,7 @@ public class AspectModelUrn implements Comparable<AspectModelUrn> {
    /**
     * Retrieves the name from the given URN.
     */
-   private static String getName( final boolean isSammUrn, final List<String> urnParts,
+   private static String getName( final boolean isSammUrn, final UrnParts urnParts,
          final ElementType elementType ) {
       if ( elementType.equals( ElementType.META_MODEL ) ) {
          final String modelElementName = urnParts.get( META_MODEL_ELEMENT_NAME_INDEX );
@@ -339,10 +350,7 @@ public class AspectModelUrn implements Comparable<AspectModelUrn> {
          return modelElementName;
       }
       if ( ELEMENT_TYPES_WITH_VARIABLE_NAMESPACE_STRUCTURE.contains( elementType ) ) {
-         String name = urnParts.get( ASPECT_NAME_INDEX );
-         if ( isSammUrn ) {
-            name = urnParts.get( META_MODEL_ELEMENT_NAME_INDEX );
-         }
+         final String name = urnParts.get( isSammUrn ? META_MODEL_ELEMENT_NAME_INDEX : ASPECT_NAME_INDEX );
          checkElementName( name, elementType.getValue() );
          return name;
       }
@@ -354,31 +362,127 @@ public class AspectModelUrn implements Comparable<AspectModelUrn> {
 
    /**
     * Determines whether the given URN identifies an element which is defined in the context of the
-    * SAMM.
+    * SAMM, i.e., whether the URN contains the element type followed by a colon as a separate word
+    * (for example, "urn:samm:org.eclipse.esmf.samm:characteristic:2.2.0#Text").
     *
     * @return true if the element is defined in the context of the SAMM, false otherwise.
     */
-   private static boolean isSammUrn( final URI urn, final List<String> urnParts,
-         final ElementType elementType ) {
+   private static boolean isSammUrn( final UrnParts urnParts, final ElementType elementType ) {
       if ( elementType == ElementType.NONE || urnParts.size() == MODEL_ELEMENT_NAME_INDEX + 1 ) {
          return false;
       }
 
-      final String regex = ".*\\b" + elementType.getValue() + ":\\b.*\\b";
-      return urn.toString().matches( regex );
+      final String urn = urnParts.urn();
+      final String elementTypeValue = elementType.getValue();
+      if ( !isWordCharacter( urn.charAt( urn.length() - 1 ) ) ) {
+         return false;
+      }
+      for ( int index = urn.indexOf( elementTypeValue ); index >= 0; index = urn.indexOf( elementTypeValue, index + 1 ) ) {
+         final int colon = index + elementTypeValue.length();
+         if ( ( index == 0 || !isWordCharacter( urn.charAt( index - 1 ) ) )
+               && colon + 1 < urn.length() && urn.charAt( colon ) == ':' && isWordCharacter( urn.charAt( colon + 1 ) ) ) {
+            return true;
+         }
+      }
+      return false;
    }
 
    private static void checkElementName( final String modelElementName, final String elementTypeForErrorMessage ) {
       if ( modelElementName.isEmpty() ) {
          return;
       }
-      checkUrn( modelElementName.matches( MODEL_ELEMENT_NAME_REGEX ),
+      checkUrn( isValidElementName( modelElementName ),
             UrnSyntaxException.URN_INVALID_ELEMENT_NAME_MESSAGE, elementTypeForErrorMessage,
             MODEL_ELEMENT_NAME_REGEX, modelElementName );
    }
 
    private static void checkVersion( final String version ) {
-      checkUrn( version.matches( VERSION_REGEX ), UrnSyntaxException.URN_INVALID_VERSION, version );
+      checkUrn( isValidVersion( version ), UrnSyntaxException.URN_INVALID_VERSION, version );
+   }
+
+   /**
+    * Checks whether a namespace matches {@link #NAMESPACE_REGEX}
+    */
+   private static boolean isValidNamespace( final String namespace ) {
+      int segment = 0;
+      int segmentStart = 0;
+      for ( int index = 0; index <= namespace.length(); index++ ) {
+         if ( index == namespace.length() || namespace.charAt( index ) == '.' ) {
+            final int segmentLength = index - segmentStart;
+            if ( segmentLength < ( segment == 0 ? 2 : 1 ) || segmentLength > 63 ) {
+               return false;
+            }
+            segment++;
+            segmentStart = index + 1;
+            continue;
+         }
+         final char character = namespace.charAt( index );
+         final boolean valid = switch ( segment ) {
+            case 0 -> index == segmentStart ? isAsciiLetter( character ) : isAsciiLetterOrDigit( character );
+            case 1 -> isAsciiLetterOrDigit( character ) || character == '-';
+            default -> isAsciiLetterOrDigit( character ) || character == '-' || character == '_';
+         };
+         if ( !valid ) {
+            return false;
+         }
+      }
+      return segment >= 2;
+   }
+
+   /**
+    * Checks whether a model element name matches {@link #MODEL_ELEMENT_NAME_REGEX}
+    */
+   private static boolean isValidElementName( final String name ) {
+      if ( name.isEmpty() || !isAsciiLetter( name.charAt( 0 ) ) ) {
+         return false;
+      }
+      for ( int index = 1; index < name.length(); index++ ) {
+         if ( !isAsciiLetterOrDigit( name.charAt( index ) ) ) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Checks whether a version matches {@link #VERSION_REGEX}
+    */
+   private static boolean isValidVersion( final String version ) {
+      int index = 0;
+      for ( int part = 0; part < 2; part++ ) {
+         final int partStart = index;
+         while ( index < version.length() && isAsciiDigit( version.charAt( index ) ) ) {
+            index++;
+         }
+         if ( index == partStart || index == version.length() || version.charAt( index ) != '.' ) {
+            return false;
+         }
+         index++;
+      }
+      if ( index < version.length() && version.charAt( index ) == '*' ) {
+         return index + 1 == version.length();
+      }
+      final int partStart = index;
+      while ( index < version.length() && isAsciiDigit( version.charAt( index ) ) ) {
+         index++;
+      }
+      return index > partStart && index == version.length();
+   }
+
+   private static boolean isAsciiDigit( final char character ) {
+      return character >= '0' && character <= '9';
+   }
+
+   private static boolean isAsciiLetter( final char character ) {
+      return ( character >= 'a' && character <= 'z' ) || ( character >= 'A' && character <= 'Z' );
+   }
+
+   private static boolean isAsciiLetterOrDigit( final char character ) {
+      return isAsciiLetter( character ) || isAsciiDigit( character );
+   }
+
+   private static boolean isWordCharacter( final char character ) {
+      return isAsciiLetterOrDigit( character ) || character == '_';
    }
 
    private static void checkNotEmpty( final URI urn ) {
@@ -482,6 +586,81 @@ public class AspectModelUrn implements Comparable<AspectModelUrn> {
       return result;
    }
 
+   /**
+    * The sections of a URN, represented as offsets into the URN string, so that only the sections
+    * that are actually used need to be extracted: The colon-separated sections of the part before the
+    * first #, followed by the part after it. If the URN does not contain a #, trailing empty sections
+    * are dropped and an empty section is appended instead.
+    */
+   private static final class UrnParts {
+      private final String urn;
+      private final int[] bounds;
+      private int size;
+
+      private UrnParts( final String urn, final int maxSize ) {
+         this.urn = urn;
+         bounds = new int[2 * maxSize];
+      }
+
+      private static UrnParts split( final String urn ) {
+         final int fragmentSeparator = urn.indexOf( '#' );
+         final int baseEnd = fragmentSeparator < 0 ? urn.length() : fragmentSeparator;
+         int colons = 0;
+         for ( int index = 0; index < baseEnd; index++ ) {
+            if ( urn.charAt( index ) == ':' ) {
+               colons++;
+            }
+         }
+
+         final UrnParts result = new UrnParts( urn, colons + 2 );
+         int sectionStart = 0;
+         for ( int index = 0; index <= baseEnd; index++ ) {
+            if ( index == baseEnd || urn.charAt( index ) == ':' ) {
+               result.add( sectionStart, index );
+               sectionStart = index + 1;
+            }
+         }
+         if ( fragmentSeparator >= 0 ) {
+            result.add( fragmentSeparator + 1, urn.length() );
+         } else {
+            while ( colons > 0 && result.size > 0 && result.isEmpty( result.size - 1 ) ) {
+               result.size--;
+            }
+            result.add( urn.length(), urn.length() );
+         }
+         return result;
+      }
+
+      private void add( final int start, final int end ) {
+         bounds[2 * size] = start;
+         bounds[2 * size + 1] = end;
+         size++;
+      }
+
+      private boolean isEmpty( final int index ) {
+         return bounds[2 * index] == bounds[2 * index + 1];
+      }
+
+      private String urn() {
+         return urn;
+      }
+
+      private int size() {
+         return size;
+      }
+
+      private String get( final int index ) {
+         Objects.checkIndex( index, size );
+         return urn.substring( bounds[2 * index], bounds[2 * index + 1] );
+      }
+
+      private boolean is( final int index, final String value, final boolean ignoreCase ) {
+         Objects.checkIndex( index, size );
+         final int start = bounds[2 * index];
+         return bounds[2 * index + 1] - start == value.length() && urn.regionMatches( ignoreCase, start, value, 0, value.length() );
+      }
+   }
+
    @Override
    public String toString() {
       return urn.toString();
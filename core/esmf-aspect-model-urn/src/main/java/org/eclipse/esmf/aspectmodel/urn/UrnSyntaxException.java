@@ -35,4 +35,15 @@ public class UrnSyntaxException extends RuntimeException {
    public UrnSyntaxException( final String message ) {
       super( message );
    }
+
+   /**
+    * Creates an exception that optionally does not record its stack trace. This is used for the cheap
+    * rejection of strings that are obviously no Aspect Model URNs.
+    *
+    * @param message the message
+    * @param writableStackTrace whether the stack trace should be writable
+    */
+   UrnSyntaxException( final String message, final boolean writableStackTrace ) {
+      super( message, null, true, writableStackTrace );
+   }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.urn;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures parsing of Aspect Model URNs. This is no unit test and is not run by the build; after
+ * {@code mvn test-compile}, run it using {@code org.openjdk.jmh.Main AspectModelUrnBenchmark} on the
+ * test class path of this module.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class AspectModelUrnBenchmark {
+   private static final List<String> URNS = List.of(
+         "urn:samm:org.eclipse.esmf.test:1.0.0#Aspect",
+         "urn:samm:org.eclipse.esmf.test.movement:2.3.1#isMoving",
+         "urn:samm:org.eclipse.esmf.samm:meta-model:2.2.0#Property",
+         "urn:samm:org.eclipse.esmf.samm:characteristic:2.2.0#Text",
+         "urn:samm:org.eclipse.esmf.samm:unit:2.2.0#kilometrePerHour" );
+
+   private static final List<String> NON_URNS = List.of(
+         "http://www.w3.org/1999/02/22-rdf-syntax-ns#type",
+         "http://www.w3.org/2001/XMLSchema#string",
+         "urn:example:something" );
+
+   private List<URI> uris;
+
+   @Setup
+   public void setup() {
+      uris = URNS.stream().map( URI::create ).toList();
+   }
+
+   /**
+    * Parses URIs without the interning cache, i.e., measures the parser itself
+    */
+   @Benchmark
+   public void parseUri( final Blackhole blackhole ) {
+      for ( final URI uri : uris ) {
+         blackhole.consume( AspectModelUrn.fromUrn( uri ) );
+      }
+   }
+
+   /**
+    * Parses strings that were parsed before, i.e., measures lookups in the interning cache
+    */
+   @Benchmark
+   public void parseInternedString( final Blackhole blackhole ) {
+      for ( final String urn : URNS ) {
+         blackhole.consume( AspectModelUrn.fromUrn( urn ) );
+      }
+   }
+
+   /**
+    * Checks URIs that are no Aspect Model URNs, as it happens when all URIs of a model are scanned
+    */
+   @Benchmark
+   public void rejectNonUrns( final Blackhole blackhole ) {
+      for ( final String uri : NON_URNS ) {
+         final Try<AspectModelUrn> result = AspectModelUrn.from( uri );
+         blackhole.consume( result.isFailure() );
+      }
+   }
+}
@@ -354,4 +354,33 @@ class AspectModelUrnTest {
             .isThrownBy( () -> AspectModelUrn.fromUrn( invalidModelElementName ) )
             .withMessage( "The model element name must match \\p{Alpha}\\p{Alnum}*: Er?ors" );
    }
+
+   @Test
+   void repeatedParsingReturnsInternedInstance() {
+      final String urn = sammBaseUri + "characteristic:2.2.0#Text";
+      final AspectModelUrn aspectModelUrn = AspectModelUrn.fromUrn( urn );
+      assertThat( AspectModelUrn.fromUrn( urn ) ).isSameAs( aspectModelUrn );
+      assertThat( AspectModelUrn.from( urn ).get() ).isSameAs( aspectModelUrn );
+      assertThat( aspectModelUrn.getElementType() ).isEqualTo( ElementType.CHARACTERISTIC );
+      assertThat( aspectModelUrn.isSammUrn() ).isTrue();
+   }
+
+   @Test
+   void nonUrnStringsAreRejected() {
+      assertThat( AspectModelUrn.from( "http://www.w3.org/2001/XMLSchema#string" ).getCause() )
+            .isInstanceOf( UrnSyntaxException.class )
+            .hasMessage( MessageFormat.format( UrnSyntaxException.URN_INVALID_PROTOCOL_MESSAGE, AspectModelUrn.VALID_PROTOCOL ) );
+      assertThat( AspectModelUrn.from( "urn:isbn:0451450523" ).getCause() )
+            .isInstanceOf( UrnSyntaxException.class )
+            .hasMessage( MessageFormat.format( UrnSyntaxException.URN_INVALID_NAMESPACE_IDENTIFIER_MESSAGE,
+                  AspectModelUrn.VALID_NAMESPACE_IDENTIFIER ) );
+      assertThat( AspectModelUrn.from( "URN:samm:org.eclipse.esmf.test:1.0.0#Aspect" ).isSuccess() ).isTrue();
+   }
+
+   @Test
+   void invalidSectionsOfSammUrnAreReported() {
+      assertThatExceptionOfType( UrnSyntaxException.class )
+            .isThrownBy( () -> AspectModelUrn.fromUrn( sammBaseUri + "unit#unit:litre" ) )
+            .withMessage( MessageFormat.format( UrnSyntaxException.URN_INVALID_VERSION, "unit:litre" ) );
+   }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.aspectmodel.shacl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.query.Query;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.sparql.algebra.Algebra;
+import org.apache.jena.sparql.algebra.Op;
+import org.apache.jena.sparql.core.Substitute;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.engine.QueryIterator;
+import org.apache.jena.sparql.engine.binding.Binding;
+import org.apache.jena.sparql.engine.binding.BindingFactory;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A SPARQL SELECT query that is compiled into optimized SPARQL algebra once, so that it can be
+ * evaluated many times, e.g., once for every focus node, without parsing, compiling and optimizing it
+ * again. Pre-bound variables such as {@code $this} are substituted directly in the compiled algebra.
+ */
+public class CompiledQuery {
+   private final Query query;
+   private final Op op;
+   private final List<Var> resultVars;
+
+   /**
+    * Compiles a query
+    *
+    * @param query the SPARQL SELECT query
+    */
+   public CompiledQuery( final Query query ) {
+      this.query = query;
+      op = Algebra.optimize( Algebra.compile( query ) );
+      resultVars = query.getResultVars().stream().map( Var::alloc ).toList();
+   }
+
+   /**
+    * Evaluates the query on a model.
+    *
+    * @param model the model to query
+    * @return the solutions, each solution maps the names of the bound result variables to their values
+    */
+   public List<Map<String, RDFNode>> execute( final Model model ) {
+      return execute( model, null, null );
+   }
+
+   /**
+    * Evaluates the query on a model, with one variable pre-bound to a value.
+    *
+    * @param model the model to query
+    * @param variable the variable to pre-bind, e.g., {@code this}
+    * @param value the value for the variable
+    * @return the solutions, each solution maps the names of the bound result variables to their values
+    */
+   public List<Map<String, RDFNode>> execute( final Model model, @Nullable final String variable, @Nullable final RDFNode value ) {
+      final Binding initialBinding = variable == null || value == null
+            ? BindingFactory.empty()
+            : BindingFactory.binding( Var.alloc( variable ), value.asNode() );
+      final Op boundOp = initialBinding.isEmpty() ? op : Substitute.substitute( op, initialBinding );
+
+      final List<Map<String, RDFNode>> solutions = new ArrayList<>();
+      final QueryIterator iterator = Algebra.exec( boundOp, model.getGraph() );
+      try {
+         while ( iterator.hasNext() ) {
+            final Binding binding = iterator.nextBinding();
+            final Map<String, RDFNode> solution = new HashMap<>();
+            for ( final Var resultVar : resultVars ) {
+               final Node node = binding.contains( resultVar ) ? binding.get( resultVar ) : initialBinding.get( resultVar );
+               if ( node != null ) {
+                  solution.put( resultVar.getVarName(), model.asRDFNode( node ) );
+               }
+            }
+            solutions.add( solution );
+         }
+      } finally {
+         iterator.close();
+      }
+      return solutions;
+   }
+
+   /**
+    * Returns the original query
+    *
+    * @return the query
+    */
+   public Query query() {
+      return query;
+   }
+}
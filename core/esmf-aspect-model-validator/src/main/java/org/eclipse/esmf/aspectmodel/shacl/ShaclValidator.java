@@ -13,28 +13,42 @@
 
 package org.eclipse.esmf.aspectmodel.shacl;
 
+import static org.eclipse.esmf.aspectmodel.ConcurrencyUtil.checkInterrupted;
+import static org.eclipse.esmf.aspectmodel.ConcurrencyUtil.join;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.apache.jena.query.Query;
-import org.apache.jena.query.QueryExecution;
-import org.apache.jena.query.QueryExecutionFactory;
-import org.apache.jena.query.QuerySolution;
-import org.apache.jena.query.ResultSet;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.mem.GraphMemBase;
+import org.apache.jena.rdf.listeners.StatementListener;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.vocabulary.RDF;
 
+import org.eclipse.esmf.aspectmodel.MergedGraph;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.Constraint;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.MinCountConstraint;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.SparqlConstraint;
@@ -44,19 +58,51 @@ import org.eclipse.esmf.aspectmodel.shacl.violation.EvaluationContext;
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
 import org.eclipse.esmf.aspectmodel.validation.RdfBasedValidator;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Streams;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 /**
  * Implementation of a SHACL engine that allows validation on a per-element basis:
  * {@link #validateElement(Resource)} can be used to retrieve validation results only for this
- * specific resource.
+ * specific resource. The validator is thread-safe: Once created, its shapes are not modified, and
+ * the state of an evaluation is kept in the immutable {@link EvaluationContext}. Validations stop with a
+ * {@link java.util.concurrent.CancellationException} between elements when the validating thread is interrupted;
+ * the interrupt flag is left set, so callers that interrupt validating threads for other purposes should expect
+ * this exception from all validate methods.
  */
 public class ShaclValidator implements RdfBasedValidator<Violation, List<Violation>> {
    private final List<Shape.Node> shapes;
-   private final Map<Resource, List<Shape.Node>> shapesWithClassTargets;
+   private final Map<Node, List<Shape.Node>> shapesWithClassTargets;
    private final Model shapesModel;
+   private final Map<Property, List<Shape.Node>> shapesWithSubjectsOfTargets;
+   private final Map<Property, List<Shape.Node>> shapesWithObjectsOfTargets;
+   private final Map<Resource, List<Shape.Node>> shapesWithNodeTargets;
+   private final List<SparqlTarget> sparqlTargetQueries;
+   private final Map<Shape.Node, Integer> shapePositions = new IdentityHashMap<>();
+   private final Cache<Graph, GraphState> graphStates = CacheBuilder.newBuilder().weakKeys().build();
+   private final Set<Graph> observedGraphs = Collections.newSetFromMap( new MapMaker().weakKeys().makeMap() );
    private final PathNodeRetriever retriever = new PathNodeRetriever();
 
+   private record SparqlTarget( Shape.Node shape, CompiledQuery query ) {}
+
+   /**
+    * Information about a validated graph that is computed once and, for graphs that report their changes
+    * (see {@link #reportsAllChanges(Graph)}), kept until the graph is changed.
+    * Resources are stored as their {@link Node}s: the state is the value of a cache with weak graph keys,
+    * and a {@link Resource} would keep its model and thereby the graph reachable.
+    *
+    * @param sparqlTargets the nodes that are targets of shapes with SPARQL targets, mapped to these
+    *        shapes
+    * @param typeHierarchies types mapped to the list of the type itself and its transitive supertypes
+    */
+   private record GraphState(
+         Map<Node, List<Shape.Node>> sparqlTargets,
+         Map<Node, List<Node>> typeHierarchies
+   ) {}
+
    /**
     * Constructor to provide a custom RDF model containing SHACL shapes
     *
@@ -65,15 +111,25 @@ public class ShaclValidator implements RdfBasedValidator<Violation, List<Violati
    public ShaclValidator( final Model shapesModel ) {
       this.shapesModel = shapesModel;
       shapes = new ShapeLoader().apply( shapesModel );
-      final Set<Resource> distinctTargetResources = shapes.stream()
-            .flatMap( shape -> shape.attributes().targetClass().stream() )
-            .collect( Collectors.toSet() );
-      shapesWithClassTargets = distinctTargetResources.stream().collect(
-            Collectors.toMap( Function.identity(),
-                  targetResource -> shapes.stream()
-                        .filter( shape -> shape.attributes().targetClass().map( resource -> resource.equals( targetResource ) )
-                              .orElse( false ) )
-                        .toList() ) );
+      for ( final Shape.Node shape : shapes ) {
+         shapePositions.put( shape, shapePositions.size() );
+      }
+      shapesWithClassTargets = indexShapes( shape -> shape.attributes().targetClass().map( Resource::asNode ) );
+      shapesWithSubjectsOfTargets = indexShapes( shape -> shape.attributes().targetSubjectsOf() );
+      shapesWithObjectsOfTargets = indexShapes( shape -> shape.attributes().targetObjectsOf() );
+      shapesWithNodeTargets = indexShapes( shape -> shape.attributes().targetNode() );
+      sparqlTargetQueries = shapes.stream()
+            .flatMap( shape -> shape.attributes().targetSparql().stream()
+                  .map( query -> new SparqlTarget( shape, new CompiledQuery( query ) ) ) )
+            .toList();
+   }
+
+   private <K> Map<K, List<Shape.Node>> indexShapes( final Function<Shape.Node, Optional<K>> target ) {
+      final Map<K, List<Shape.Node>> index = new LinkedHashMap<>();
+      for ( final Shape.Node shape : shapes ) {
+         target.apply( shape ).ifPresent( key -> index.computeIfAbsent( key, k -> new ArrayList<>() ).add( shape ) );
+      }
+      return index;
    }
 
    /**
@@ -88,14 +144,13 @@ public class ShaclValidator implements RdfBasedValidator<Violation, List<Violati
     * @return the list of {@link Violation}s if there are violations
     */
    public List<Violation> validateElement( final Resource element ) {
-      final Map<Resource, List<Shape.Node>> sparqlTargets = findSparqlTargets( element.getModel() );
-      return validateElement( element, sparqlTargets, element.getModel() );
+      return validateElement( element, graphState( element.getModel() ), element.getModel() );
    }
 
-   private List<Violation> validateElement( final Resource element, final Map<Resource, List<Shape.Node>> sparqlTargets,
-         final Model resolvedModel ) {
+   private List<Violation> validateElement( final Resource element, final GraphState graphState, final Model resolvedModel ) {
+      checkInterrupted();
       final List<Violation> violations = new ArrayList<>();
-      for ( final Shape.Node shape : targetClassShapesThatApplyToElement( element, resolvedModel ) ) {
+      for ( final Shape.Node shape : targetClassShapesThatApplyToElement( element, graphState, resolvedModel ) ) {
          violations.addAll( validateShapeForElement( element, shape, resolvedModel ) );
       }
       for ( final Shape.Node shape : targetSubjectShapesThatApplyToElement( element ) ) {
@@ -107,10 +162,8 @@ public class ShaclValidator implements RdfBasedValidator<Violation, List<Violati
       for ( final Shape.Node shape : targetNodeShapesThatApplyToElement( element ) ) {
          violations.addAll( validateShapeForElement( element, shape, resolvedModel ) );
       }
-      if ( sparqlTargets.containsKey( element ) ) {
-         for ( final Shape.Node shape : sparqlTargets.get( element ) ) {
-            violations.addAll( validateShapeForElement( element, shape, resolvedModel ) );
-         }
+      for ( final Shape.Node shape : graphState.sparqlTargets().getOrDefault( element.asNode(), List.of() ) ) {
+         violations.addAll( validateShapeForElement( element, shape, resolvedModel ) );
       }
       return violations;
    }
@@ -123,54 +176,131 @@ public class ShaclValidator implements RdfBasedValidator<Violation, List<Violati
     */
    @Override
    public List<Violation> validateModel( final Model model ) {
-      final Map<Resource, List<Shape.Node>> sparqlTargetsWithShapes = findSparqlTargets( model );
+      final GraphState graphState = graphState( model );
+      return typedElements( model )
+            .flatMap( element -> validateElement( element, graphState, model ).stream() )
+            .toList();
+   }
+
+   /**
+    * Validates a model using the SHACL shapes the validator was initialized with, where the model
+    * elements are validated concurrently using the given executor. The resulting violations are the
+    * same and in the same order as the ones returned by {@link #validateModel(Model)}. The model must
+    * not be modified while it is validated.
+    *
+    * @param model the model to be validated
+    * @param executor the executor to run the validation of the individual elements on
+    * @return the list of {@link Violation}s if there are violations
+    */
+   public List<Violation> validateModel( final Model model, final Executor executor ) {
+      final GraphState graphState = graphState( model );
+      final List<CompletableFuture<List<Violation>>> elementViolations = typedElements( model )
+            .map( element -> CompletableFuture.supplyAsync( () -> validateElement( element, graphState, model ), executor ) )
+            .toList();
+      return elementViolations.stream()
+            .flatMap( violations -> join( violations ).stream() )
+            .toList();
+   }
+
+   private Stream<Resource> typedElements( final Model model ) {
       return Streams.stream( model.listStatements( null, RDF.type, (RDFNode) null ) )
             .map( Statement::getSubject )
-            .filter( s -> !s.isLiteral() )
-            .flatMap( element -> validateElement( element, sparqlTargetsWithShapes, model ).stream() )
-            .toList();
+            .filter( s -> !s.isLiteral() );
    }
 
-   private Map<Resource, List<Shape.Node>> findSparqlTargets( final Model model ) {
-      final Map<Resource, List<Shape.Node>> resourceShapes = new HashMap<>();
-      for ( final Shape.Node shape : targetSparqlShapes() ) {
-         final List<Resource> shapeTargets = querySparqlTargets( model, shape.attributes().targetSparql()
-               .orElseThrow( () -> new ShaclValidationException( "SPARQL node shape is missing a target SPARQL expression" ) ) );
-         for ( final Resource node : shapeTargets ) {
-            addResourceShape( resourceShapes, node, shape );
+   /**
+    * Returns the information about a graph that is computed once per graph, in particular, the
+    * results of the SPARQL target queries. The information is kept until the graph is changed. For
+    * graphs that do not report all of their changes, such as live views of other graphs, the
+    * information is computed anew for each validation.
+    *
+    * @param model the model
+    * @return the graph state
+    */
+   private GraphState graphState( final Model model ) {
+      final Graph graph = model.getGraph();
+      if ( !reportsAllChanges( graph ) ) {
+         return new GraphState( querySparqlTargets( model ), new ConcurrentHashMap<>() );
+      }
+      try {
+         return graphStates.get( graph, () -> {
+            if ( observedGraphs.add( graph ) ) {
+               model.register( new StatementListener() {
+                  @Override
+                  public void addedStatement( final Statement statement ) {
+                     graphStates.invalidate( graph );
+                  }
+
+                  @Override
+                  public void removedStatement( final Statement statement ) {
+                     graphStates.invalidate( graph );
+                  }
+
+                  @Override
+                  public void notifyEvent( final Model changedModel, final Object event ) {
+                     graphStates.invalidate( graph );
+                  }
+               } );
+            }
+            return new GraphState( querySparqlTargets( model ), new ConcurrentHashMap<>() );
+         } );
+      } catch ( final ExecutionException | UncheckedExecutionException exception ) {
+         if ( exception.getCause() instanceof final RuntimeException cause ) {
+            throw cause;
          }
+         throw new ShaclValidationException( "Could not evaluate SPARQL targets", exception.getCause() );
       }
-      return resourceShapes;
    }
 
-   // single resource can be sparql target to more than one shape
-   private void addResourceShape( final Map<Resource, List<Shape.Node>> map, final Resource resource, final Shape.Node shape ) {
-      if ( map.containsKey( resource ) ) {
-         map.get( resource ).add( shape );
-      } else {
-         final ArrayList<Shape.Node> shapes = new ArrayList<>();
-         shapes.add( shape );
-         map.put( resource, shapes );
-      }
+   /**
+    * Determines whether all changes of a graph are reported to its listeners, which is required to keep
+    * information about the graph between validations. This is the case for in-memory graphs and for
+    * {@link MergedGraph}s, whose changes are made through the graph itself. It is not the case for views
+    * of other graphs, e.g., the union models created by {@link org.eclipse.esmf.aspectmodel.RdfUtil#mergedView(Map)}:
+    * when one of the underlying graphs is changed, the view does not notify its listeners.
+    *
+    * @param graph the graph
+    * @return true if the graph reports all of its changes
+    */
+   private static boolean reportsAllChanges( final Graph graph ) {
+      return graph instanceof GraphMemBase || graph instanceof MergedGraph;
+   }
+
+   /**
+    * Discards the information that is kept about a validated model, such as the results of the SPARQL
+    * target queries. This can be called when a model is known to not be validated again, e.g., for a
+    * merged model that was built for a single validation, so that the information does not need to wait
+    * for the model to be garbage collected.
+    *
+    * @param model the model
+    */
+   public void discardGraphState( final Model model ) {
+      graphStates.invalidate( model.getGraph() );
    }
 
-   private List<Resource> querySparqlTargets( final Model model, final Query query ) {
-      final List<Resource> targets = new ArrayList<>();
-      try ( final QueryExecution queryExecution = QueryExecutionFactory.create( query, model ) ) {
-         final ResultSet resultSet = queryExecution.execSelect();
-         while ( resultSet.hasNext() ) {
-            final QuerySolution solution = resultSet.next();
-            targets.add( solution.getResource( "this" ) );
+   private Map<Node, List<Shape.Node>> querySparqlTargets( final Model model ) {
+      if ( sparqlTargetQueries.isEmpty() ) {
+         return Map.of();
+      }
+      final Map<Node, List<Shape.Node>> resourceShapes = new HashMap<>();
+      for ( final SparqlTarget sparqlTarget : sparqlTargetQueries ) {
+         for ( final Map<String, RDFNode> solution : sparqlTarget.query().execute( model ) ) {
+            final RDFNode node = solution.get( "this" );
+            if ( node != null && node.isResource() ) {
+               // single resource can be sparql target to more than one shape
+               resourceShapes.computeIfAbsent( node.asNode(), resource -> new ArrayList<>() ).add( sparqlTarget.shape() );
+            }
          }
       }
-      return targets;
+      return Collections.unmodifiableMap( resourceShapes );
    }
 
    public List<Violation> validateElements( final List<Resource> elements ) {
-      final Map<Resource, List<Shape.Node>> sparqlTargets = !elements.isEmpty()
-            ? findSparqlTargets( elements.getFirst().getModel() )
-            : Map.of();
-      return elements.stream().flatMap( element -> validateElement( element, sparqlTargets, element.getModel() ).stream() ).toList();
+      if ( elements.isEmpty() ) {
+         return List.of();
+      }
+      final GraphState graphState = graphState( elements.getFirst().getModel() );
+      return elements.stream().flatMap( element -> validateElement( element, graphState, element.getModel() ).stream() ).toList();
    }
 
    public List<Violation> validateShapeForElement( final Resource element, final Shape.Node nodeShape, final Model resolvedModel ) {
@@ -241,11 +371,20 @@ public class ShaclValidator implements RdfBasedValidator<Violation, List<Violati
     * @param element a model element
     * @return the stream of shapes
     */
-   private Set<Shape.Node> targetClassShapesThatApplyToElement( final Resource element, final Model resolvedModel ) {
-      return RdfTypes.typesOfElement( element, resolvedModel ).stream()
-            .flatMap( type -> Optional.ofNullable( shapesWithClassTargets.get( type ) ).stream() )
-            .flatMap( List::stream )
-            .collect( Collectors.toSet() );
+   private Set<Shape.Node> targetClassShapesThatApplyToElement( final Resource element, final GraphState graphState,
+         final Model resolvedModel ) {
+      final Statement typeAssertion = element.getProperty( RDF.type );
+      if ( typeAssertion == null || !typeAssertion.getObject().isResource() ) {
+         return Set.of();
+      }
+      final List<Node> types = graphState.typeHierarchies().computeIfAbsent( typeAssertion.getObject().asNode(), type ->
+            Stream.concat( Stream.of( type ), RdfTypes.superTypesOfType( resolvedModel.wrapAsResource( type ), resolvedModel ).stream()
+                  .map( Resource::asNode ) ).toList() );
+      final Set<Shape.Node> result = new LinkedHashSet<>();
+      for ( final Node type : types ) {
+         result.addAll( shapesWithClassTargets.getOrDefault( type, List.of() ) );
+      }
+      return result;
    }
 
    /**
@@ -255,30 +394,38 @@ public class ShaclValidator implements RdfBasedValidator<Violation, List<Violati
     * @param element a model element
     * @return the stream of shapes
     */
-   private Set<Shape.Node> targetSubjectShapesThatApplyToElement( final Resource element ) {
-      return shapes.stream()
-            .filter( shape -> shape.attributes().targetSubjectsOf().map( property -> element.getProperty( property ) != null )
-                  .orElse( false ) )
-            .collect( Collectors.toSet() );
+   private List<Shape.Node> targetSubjectShapesThatApplyToElement( final Resource element ) {
+      return shapesForPropertiesOfElement( element, shapesWithSubjectsOfTargets );
    }
 
-   private Set<Shape.Node> targetObjectShapesThatApplyToElement( final Resource element ) {
-      return shapes.stream()
-            .filter(
-                  shape -> shape.attributes().targetObjectsOf().map( property -> element.getProperty( property ) != null ).orElse( false ) )
-            .collect( Collectors.toSet() );
+   private List<Shape.Node> targetObjectShapesThatApplyToElement( final Resource element ) {
+      return shapesForPropertiesOfElement( element, shapesWithObjectsOfTargets );
    }
 
-   private Set<Shape.Node> targetNodeShapesThatApplyToElement( final Resource element ) {
-      return shapes.stream()
-            .filter( shape -> shape.attributes().targetNode().map( element::equals ).orElse( false ) )
-            .collect( Collectors.toSet() );
+   /**
+    * Looks up the shapes for the properties the element uses in an index of shapes by property. The
+    * result is in the order in which the shapes were loaded.
+    */
+   private List<Shape.Node> shapesForPropertiesOfElement( final Resource element, final Map<Property, List<Shape.Node>> index ) {
+      if ( index.isEmpty() ) {
+         return List.of();
+      }
+      final Set<Property> properties = new HashSet<>();
+      final List<Shape.Node> result = new ArrayList<>();
+      for ( final StmtIterator iterator = element.listProperties(); iterator.hasNext(); ) {
+         final Property property = iterator.next().getPredicate();
+         if ( properties.add( property ) ) {
+            result.addAll( index.getOrDefault( property, List.of() ) );
+         }
+      }
+      if ( result.size() > 1 ) {
+         result.sort( Comparator.comparing( shapePositions::get ) );
+      }
+      return result;
    }
 
-   private Set<Shape.Node> targetSparqlShapes() {
-      return shapes.stream()
-            .filter( shape -> shape.attributes().targetSparql().isPresent() )
-            .collect( Collectors.toSet() );
+   private List<Shape.Node> targetNodeShapesThatApplyToElement( final Resource element ) {
+      return shapesWithNodeTargets.getOrDefault( element, List.of() );
    }
 
    public List<Shape.Node> getShapes() {
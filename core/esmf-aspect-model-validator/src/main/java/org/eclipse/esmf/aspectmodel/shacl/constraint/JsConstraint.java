@@ -109,13 +109,21 @@ public class JsConstraint implements Constraint {
       JsConstraint.evaluateJavaScript = doEvaluate;
    }
 
-   @SuppressWarnings( "LocalVariableNamingConvention" ) // use this_
    @Override
    public List<Violation> apply( final RDFNode rdfNode, final EvaluationContext context ) {
-      if ( !evaluateJavaScript ) {
+      if ( !evaluateJavaScript || engine == null ) {
          return List.of();
       }
 
+      // The script engine is shared by all evaluations of this constraint, so the bindings and the
+      // invocation must not be interleaved when the validator is used from multiple threads
+      synchronized ( engine ) {
+         return evaluate( rdfNode, context );
+      }
+   }
+
+   @SuppressWarnings( "LocalVariableNamingConvention" ) // use this_
+   private List<Violation> evaluate( final RDFNode rdfNode, final EvaluationContext context ) {
       final Bindings bindings = engine.getBindings( ScriptContext.ENGINE_SCOPE );
       bindings.put( "$data", new JsGraph( rdfNode.getModel().getGraph() ) );
       bindings.put( "$shapes", new JsGraph( context.validator().getShapesModel().getGraph() ) );
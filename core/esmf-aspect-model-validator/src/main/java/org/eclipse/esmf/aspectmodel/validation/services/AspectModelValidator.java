@@ -13,19 +13,27 @@
 
 package org.eclipse.esmf.aspectmodel.validation.services;
 
-import static org.eclipse.esmf.aspectmodel.StreamUtil.asMap;
+import static org.eclipse.esmf.aspectmodel.ConcurrencyUtil.checkInterrupted;
+import static org.eclipse.esmf.aspectmodel.ConcurrencyUtil.join;
 
 import java.io.File;
-import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apache.jena.query.ARQ;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.RDF;
 
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
 import org.eclipse.esmf.aspectmodel.RdfUtil;
@@ -41,15 +49,22 @@ import org.eclipse.esmf.aspectmodel.validation.ProcessingViolation;
 import org.eclipse.esmf.aspectmodel.validation.RdfBasedValidator;
 import org.eclipse.esmf.aspectmodel.validation.Validator;
 import org.eclipse.esmf.metamodel.AspectModel;
-import org.eclipse.esmf.metamodel.vocabulary.SammNs;
+
+import org.jspecify.annotations.Nullable;
 
 import io.vavr.control.Either;
 
 /**
  * Uses SHACL to validate an Aspect Model against the defined semantics of the Aspect Meta Model.
+ *
+ * <p>A validation can be cancelled by interrupting the validating thread: all validate methods check the
+ * interrupt flag of the current thread between elements and, if it is set, stop with a
+ * {@link java.util.concurrent.CancellationException} instead of returning a (partial) list of violations.
+ * The interrupt flag is left set.
  */
 public class AspectModelValidator implements Validator<Violation, List<Violation>> {
    private final ShaclValidator shaclValidator;
+   private @Nullable Executor validationExecutor = null;
    private static boolean arqInitialized = false;
 
    private static synchronized void initArq() {
@@ -60,11 +75,61 @@ public class AspectModelValidator implements Validator<Violation, List<Violation
    }
 
    /**
-    * Default constructor that will use the latest meta model version
+    * Default constructor that will use the latest meta model version. All validators created using
+    * this constructor share the same {@link ShaclValidator}, see {@link #metaModelShaclValidator()}.
     */
    public AspectModelValidator() {
+      this( metaModelShaclValidator() );
+   }
+
+   /**
+    * Constructor that uses a given SHACL validator, e.g., one that is shared between multiple
+    * validator instances.
+    *
+    * @param shaclValidator the SHACL validator
+    */
+   public AspectModelValidator( final ShaclValidator shaclValidator ) {
       initArq();
-      shaclValidator = new ShaclValidator( MetaModelFile.metaModelShapes() );
+      this.shaclValidator = shaclValidator;
+   }
+
+   /**
+    * Returns the SHACL validator for the shapes of the latest meta model version. The shapes are
+    * loaded only once; the validator is thread-safe and can be shared between any number of
+    * {@link AspectModelValidator} instances.
+    *
+    * @return the shared SHACL validator
+    */
+   public static ShaclValidator metaModelShaclValidator() {
+      return MetaModelShaclValidatorHolder.INSTANCE;
+   }
+
+   /**
+    * Enables parallel validation: The model elements are validated concurrently using the common
+    * fork-join pool, and the cycle detection and example value validation run at the same time as
+    * the SHACL validation. The resulting violations are the same and in the same order as with
+    * sequential validation.
+    *
+    * @return this validator
+    */
+   public AspectModelValidator withParallelValidation() {
+      return withParallelValidation( ForkJoinPool.commonPool() );
+   }
+
+   /**
+    * Enables parallel validation, see {@link #withParallelValidation()}, using the given executor. The
+    * caller is responsible for shutting down the executor.
+    *
+    * @param executor the executor to run the validation on
+    * @return this validator
+    */
+   public AspectModelValidator withParallelValidation( final Executor executor ) {
+      validationExecutor = executor;
+      return this;
+   }
+
+   private static class MetaModelShaclValidatorHolder {
+      private static final ShaclValidator INSTANCE = new ShaclValidator( MetaModelFile.sharedMetaModelShapes() );
    }
 
    /**
@@ -115,6 +180,9 @@ public class AspectModelValidator implements Validator<Violation, List<Violation
       } catch ( final CancelValidation cancelValidation ) {
          // The validation was short-circuited by the aspectModelLoader function
          return Either.left( cancelValidation.violations );
+      } catch ( final CancellationException exception ) {
+         // The loading was interrupted, there is no result to report
+         throw exception;
       } catch ( final Exception exception ) {
          // Any other exception, e.g., resolution exception
          return Either.left( List.of( new ProcessingViolation( exception.getMessage(), exception ) ) );
@@ -144,18 +212,68 @@ public class AspectModelValidator implements Validator<Violation, List<Violation
    @Override
    public List<Violation> validateModel( final AspectModel aspectModel ) {
       final Model mergedModel = buildMergedModel( aspectModel.files() );
-      return validateModel( mergedModel );
+      try {
+         return validateModel( mergedModel );
+      } finally {
+         shaclValidator.discardGraphState( mergedModel );
+      }
+   }
+
+   /**
+    * Validates an Aspect Model, reusing the SHACL validation results of individual files from a
+    * previous validation. The SHACL shapes are only evaluated for the elements defined in files that
+    * have no entry in {@code shapeViolations}; their results are added to the map, so that it can be
+    * passed to subsequent validations. The caller is responsible for removing the entries of files
+    * that changed or whose referenced elements changed; an {@link java.util.IdentityHashMap} is
+    * usually the most suitable map. Other checks, such as the cycle detection, are always performed on
+    * the complete model. Since this method is intended for interactive use, it stops with a
+    * {@link CancellationException} between files when the current thread is interrupted.
+    *
+    * @param aspectModel the Aspect Model
+    * @param shapeViolations the SHACL violations of the elements defined in each file, as far as
+    *        known
+    * @return a list of {@link Violation}s. An empty list indicates that the model is valid.
+    */
+   public List<Violation> validateModel( final AspectModel aspectModel, final Map<AspectModelFile, List<Violation>> shapeViolations ) {
+      final Model mergedModel = buildMergedModel( aspectModel.files() );
+      final List<Violation> violations = new ArrayList<>();
+      try {
+         for ( final AspectModelFile file : aspectModel.files() ) {
+            checkInterrupted();
+            List<Violation> fileViolations = shapeViolations.get( file );
+            if ( fileViolations == null ) {
+               fileViolations = shaclValidator.validateElements( typedElements( file, mergedModel ) );
+               shapeViolations.put( file, fileViolations );
+            }
+            violations.addAll( fileViolations );
+         }
+      } finally {
+         // The merged model is built for this validation only, so the SHACL validator's state for it
+         // can not be reused
+         shaclValidator.discardGraphState( mergedModel );
+      }
+      if ( !violations.isEmpty() ) {
+         return violations;
+      }
+      return Stream.<Supplier<RdfBasedValidator<Violation, List<Violation>>>>of(
+            ModelCycleDetector::new,
+            RegularExpressionExampleValueValidator::new
+      )
+            .map( validator -> validator.get().validateModel( mergedModel ) )
+            .filter( result -> !result.isEmpty() )
+            .findFirst()
+            .orElse( List.of() );
+   }
+
+   private List<Resource> typedElements( final AspectModelFile file, final Model mergedModel ) {
+      return file.sourceModel().listStatements( null, RDF.type, (RDFNode) null )
+            .mapWith( Statement::getSubject )
+            .mapWith( subject -> mergedModel.wrapAsResource( subject.asNode() ) )
+            .toList();
    }
 
    private Model buildMergedModel( final Collection<AspectModelFile> files ) {
-      final Stream<Map.Entry<URI, Model>> filesStream =
-            files.stream().map( file -> Map.entry(
-                  file.sourceLocation().orElse( URI.create( "inmemory:graph:" + file.sourceModel().hashCode() ) ),
-                  file.sourceModel() ) );
-      final Stream<Map.Entry<URI, Model>> metaModelFilesStream =
-            Stream.of( Map.entry( URI.create( SammNs.SAMM.getUri() ), MetaModelFile.metaModelDefinitions() ) );
-      final Map<URI, Model> graphContent = Stream.concat( filesStream, metaModelFilesStream ).collect( asMap() );
-      return RdfUtil.mergedView( graphContent );
+      return RdfUtil.mergedModel( files.stream().map( AspectModelFile::sourceModel ).toList(), MetaModelFile.sharedMetaModelDefinitions() );
    }
 
    /**
@@ -167,6 +285,9 @@ public class AspectModelValidator implements Validator<Violation, List<Violation
     */
    @Override
    public List<Violation> validateModel( final Model model ) {
+      if ( validationExecutor != null ) {
+         return validateModel( model, validationExecutor );
+      }
       return Stream.<Supplier<RdfBasedValidator<Violation, List<Violation>>>>of(
             () -> shaclValidator,
             ModelCycleDetector::new,
@@ -178,6 +299,23 @@ public class AspectModelValidator implements Validator<Violation, List<Violation
             .orElse( List.of() );
    }
 
+   private List<Violation> validateModel( final Model model, final Executor executor ) {
+      final CompletableFuture<List<Violation>> cycleViolations =
+            CompletableFuture.supplyAsync( () -> new ModelCycleDetector().validateModel( model ), executor );
+      final CompletableFuture<List<Violation>> exampleValueViolations =
+            CompletableFuture.supplyAsync( () -> new RegularExpressionExampleValueValidator().validateModel( model ), executor );
+      final List<Violation> shaclViolations = shaclValidator.validateModel( model, executor );
+      return Stream.<Supplier<List<Violation>>>of(
+            () -> shaclViolations,
+            () -> join( cycleViolations ),
+            () -> join( exampleValueViolations )
+      )
+            .map( Supplier::get )
+            .filter( result -> !result.isEmpty() )
+            .findFirst()
+            .orElse( List.of() );
+   }
+
    /**
     * Validates a single model element.
     *
@@ -16,17 +16,23 @@ package org.eclipse.esmf.aspectmodel.shacl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.esmf.aspectmodel.RdfUtil.createModel;
 
+import java.lang.ref.WeakReference;
 import java.math.BigInteger;
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node_URI;
 import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.vocabulary.RDFS;
 import org.apache.jena.vocabulary.XSD;
 
+import org.eclipse.esmf.aspectmodel.RdfUtil;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.DatatypeConstraint;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.MinCountConstraint;
 import org.eclipse.esmf.aspectmodel.shacl.constraint.NodeKindConstraint;
@@ -595,6 +601,36 @@ public class ShaclValidatorTest {
       assertThat( formattedMessage ).contains( " " + "^".repeat( ":testProperty".length() ) );
    }
 
+   @Test
+   void testTargetClassOfSuperTypeIsEvaluatedAgainAfterModelChange() {
+      final Model shapesModel = createModel( """
+         @prefix sh: <http://www.w3.org/ns/shacl#> .
+         @prefix : <http://example.com#> .
+
+         :MyShape
+            a sh:NodeShape ;
+            sh:targetClass :SuperClass ;
+            sh:property [
+               sh:path :testProperty ;
+               sh:minLength 5 ;
+            ] .
+         """ );
+
+      final Model dataModel = createModel( """
+         @prefix : <http://example.com#> .
+         :Foo a :TestClass ;
+           :testProperty "abc" .
+         """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final Resource element = dataModel.createResource( namespace + "Foo" );
+      assertThat( validator.validateElement( element ) ).isEmpty();
+
+      dataModel.add( dataModel.createResource( namespace + "TestClass" ), RDFS.subClassOf,
+            dataModel.createResource( namespace + "SuperClass" ) );
+      assertThat( validator.validateElement( element ) ).hasExactlyElementsOfTypes( MinLengthViolation.class );
+   }
+
    @Test
    public void testMaxLengthConstraint() {
       final Model shapesModel = createModel( """
@@ -1331,6 +1367,58 @@ public class ShaclValidatorTest {
       assertThat( formattedMessage ).contains( " " + "^".repeat( "\"foox\"".length() ) );
    }
 
+   @Test
+   void testSparqlConstraintWithHavingClause() {
+      final Model shapesModel = createModel( """
+         @prefix sh: <http://www.w3.org/ns/shacl#> .
+         @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+         @prefix : <http://example.com#> .
+
+         :prefixDeclarations
+            sh:declare [
+               sh:prefix "" ;
+               sh:namespace "http://example.com#"^^xsd:anyURI ;
+            ] .
+
+         :MyShape
+            a sh:NodeShape ;
+            sh:targetClass :TestClass ;
+            sh:sparql [
+               a sh:SPARQLConstraint ;
+               sh:message "{$this} has {?count} values." ;
+               sh:prefixes :prefixDeclarations ;
+               sh:select ""\"
+                  select $this ( str( count( ?value ) ) as ?count )
+                  where {
+                    $this :testProperty ?value .
+                  }
+                  group by $this
+                  having ( count( ?value ) > 1 )
+               ""\"
+            ] .
+         """ );
+
+      final Model dataModel = createModel( """
+         @prefix : <http://example.com#> .
+         :Foo a :TestClass ;
+           :testProperty "a", "b" .
+
+         :Bar a :TestClass ;
+           :testProperty "a" .
+         """ );
+
+      // $this is substituted in the optimized algebra of the query, below the grouping and the HAVING filter
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final Resource foo = dataModel.createResource( namespace + "Foo" );
+      final List<Violation> violations = validator.validateElement( foo );
+      assertThat( violations ).hasExactlyElementsOfTypes( SparqlConstraintViolation.class );
+      final SparqlConstraintViolation violation = (SparqlConstraintViolation) violations.getFirst();
+      assertThat( violation.context().element() ).isEqualTo( foo );
+      assertThat( violation.message() ).isEqualTo( ":Foo has 2 values." );
+
+      assertThat( validator.validateElement( dataModel.createResource( namespace + "Bar" ) ) ).isEmpty();
+   }
+
    @Test
    public void testBooleanJsConstraintEvaluation() {
       final Model shapesModel = createModel( """
@@ -2157,6 +2245,157 @@ public class ShaclValidatorTest {
       assertThat( finding ).isInstanceOf( MaxLengthViolation.class );
    }
 
+   @Test
+   void testSparqlTargetsAreEvaluatedAgainAfterModelChange() {
+      final Model shapesModel = createModel( """
+         @prefix sh: <http://www.w3.org/ns/shacl#> .
+         @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+         @prefix : <http://example.com#> .
+
+         :prefixDeclarations
+            sh:declare [
+               sh:prefix "" ;
+               sh:namespace "http://example.com#"^^xsd:anyURI ;
+            ] .
+
+         :MyShape
+            a sh:NodeShape ;
+            sh:target [
+               a sh:SPARQLTarget ;
+               sh:prefixes :prefixDeclarations ;
+               sh:select ""\"
+                  select $this
+                  where {
+                     $this :marked true .
+                  }
+               ""\"
+            ] ;
+            sh:property [
+              sh:path :testProperty ;
+              sh:maxLength 2 ;
+            ] .
+         """ );
+
+      final Model dataModel = createModel( """
+         @prefix : <http://example.com#> .
+         :Foo a :TestClass ;
+           :testProperty "abc" .
+         """ );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final Resource element = dataModel.createResource( namespace + "Foo" );
+      assertThat( validator.validateElement( element ) ).isEmpty();
+
+      element.addLiteral( dataModel.createProperty( namespace + "marked" ), true );
+      assertThat( validator.validateElement( element ) ).hasExactlyElementsOfTypes( MaxLengthViolation.class );
+   }
+
+   @Test
+   void testSparqlTargetsOfMergedViewAreEvaluatedAgainAfterChangeOfUnderlyingModel() {
+      final Model shapesModel = createModel( """
+         @prefix sh: <http://www.w3.org/ns/shacl#> .
+         @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+         @prefix : <http://example.com#> .
+
+         :prefixDeclarations
+            sh:declare [
+               sh:prefix "" ;
+               sh:namespace "http://example.com#"^^xsd:anyURI ;
+            ] .
+
+         :MyShape
+            a sh:NodeShape ;
+            sh:target [
+               a sh:SPARQLTarget ;
+               sh:prefixes :prefixDeclarations ;
+               sh:select ""\"
+                  select $this
+                  where {
+                     $this :marked true .
+                  }
+               ""\"
+            ] ;
+            sh:property [
+              sh:path :testProperty ;
+              sh:maxLength 2 ;
+            ] .
+         """ );
+
+      final Model dataModel = createModel( """
+         @prefix : <http://example.com#> .
+         :Foo a :TestClass ;
+           :testProperty "abc" .
+         """ );
+      // The view does not notify its listeners when the underlying model is changed
+      final Model mergedView = RdfUtil.mergedView( Map.of( URI.create( "urn:test:data" ), dataModel ) );
+
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+      final Resource element = mergedView.createResource( namespace + "Foo" );
+      assertThat( validator.validateElement( element ) ).isEmpty();
+
+      dataModel.createResource( namespace + "Foo" ).addLiteral( dataModel.createProperty( namespace + "marked" ), true );
+      assertThat( validator.validateElement( element ) ).hasExactlyElementsOfTypes( MaxLengthViolation.class );
+   }
+
+   @Test
+   void testValidatedGraphsAreNotKeptReachable() throws InterruptedException {
+      final Model shapesModel = createModel( """
+         @prefix sh: <http://www.w3.org/ns/shacl#> .
+         @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+         @prefix : <http://example.com#> .
+
+         :prefixDeclarations
+            sh:declare [
+               sh:prefix "" ;
+               sh:namespace "http://example.com#"^^xsd:anyURI ;
+            ] .
+
+         :MySparqlShape
+            a sh:NodeShape ;
+            sh:target [
+               a sh:SPARQLTarget ;
+               sh:prefixes :prefixDeclarations ;
+               sh:select """
+                  select $this
+                  where {
+                     $this :marked true .
+                  }
+               """
+            ] ;
+            sh:property [
+              sh:path :testProperty ;
+              sh:maxLength 2 ;
+            ] .
+
+         :MyClassShape
+            a sh:NodeShape ;
+            sh:targetClass :TestClass ;
+            sh:property [
+              sh:path :testProperty ;
+              sh:minLength 1 ;
+            ] .
+         """ );
+      final ShaclValidator validator = new ShaclValidator( shapesModel );
+
+      final WeakReference<Graph> graph = validateTemporaryModel( validator );
+      for ( int i = 0; i < 50 && graph.get() != null; i++ ) {
+         System.gc();
+         Thread.sleep( 20 );
+      }
+      assertThat( graph.get() ).isNull();
+   }
+
+   private WeakReference<Graph> validateTemporaryModel( final ShaclValidator validator ) {
+      final Model dataModel = createModel( """
+         @prefix : <http://example.com#> .
+         :Foo a :TestClass ;
+           :marked true ;
+           :testProperty "abc" .
+         """ );
+      assertThat( validator.validateModel( dataModel ) ).hasExactlyElementsOfTypes( MaxLengthViolation.class );
+      return new WeakReference<>( dataModel.getGraph() );
+   }
+
    @Test
    void testSparqlTargetWithShapeSparqlConstraint() {
       final Model shapesModel = createModel( """
@@ -16,8 +16,12 @@ package org.eclipse.esmf.aspectmodel.validation.services;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
 import org.eclipse.esmf.aspectmodel.resolver.modelfile.MetaModelFile;
@@ -72,6 +76,21 @@ class AspectModelValidatorTest {
       assertThat( violations ).hasExactlyElementsOfTypes( MinCountViolation.class );
    }
 
+   @Test
+   void testSharedShaclValidatorCanBeUsedConcurrently() throws Exception {
+      final AspectModel aspectModel = TestResources.load( InvalidTestAspect.ASPECT_WITH_INVALID_BLANK_STRUCTURED_VALUE );
+      final List<Violation> expected = new AspectModelValidator().validateModel( aspectModel );
+      try ( final ExecutorService executor = Executors.newFixedThreadPool( 4 ) ) {
+         final List<Future<List<Violation>>> results = IntStream.range( 0, 8 )
+               .mapToObj( i -> executor.submit( () -> new AspectModelValidator( AspectModelValidator.metaModelShaclValidator() )
+                     .validateModel( aspectModel ) ) )
+               .toList();
+         for ( final Future<List<Violation>> result : results ) {
+            assertThat( result.get() ).map( Violation::message ).isEqualTo( expected.stream().map( Violation::message ).toList() );
+         }
+      }
+   }
+
    @ParameterizedTest
    @EnumSource( value = InvalidTestAspect.class )
    void testValidateInvalidTestAspectModelLoadWithValidation( final InvalidTestAspect testModel ) {
@@ -87,6 +106,18 @@ class AspectModelValidatorTest {
       } );
    }
 
+   @ParameterizedTest
+   @EnumSource( value = InvalidTestAspect.class )
+   void testParallelValidationYieldsSameViolationsAsSequentialValidation( final InvalidTestAspect testModel ) {
+      final AspectModelValidator parallelValidator = new AspectModelValidator().withParallelValidation();
+      final Either<List<Violation>, AspectModel> result = validator.loadModel( () -> TestResources.load( testModel ) );
+      if ( result.isLeft() ) {
+         return;
+      }
+      final List<String> expected = validator.validateModel( result.get() ).stream().map( Violation::message ).toList();
+      assertThat( parallelValidator.validateModel( result.get() ) ).map( Violation::message ).isEqualTo( expected );
+   }
+
    @ParameterizedTest
    @EnumSource( value = InvalidTestAspect.class )
    void testValidateInvalidTestAspectModelLoadThenValidate( final InvalidTestAspect testModel ) {
@@ -69,7 +69,17 @@ public class PropertyPredicateBuilder<P extends PropertyAccessor<?, T>, T> {
        * @return the predicate
        */
       public Predicate<C> matches( final String regex ) {
-         return object -> Pattern.matches( regex, property.getValue( object ) );
+         return matches( Pattern.compile( regex ) );
+      }
+
+      /**
+       * Builds a predicate checking whether the property value matches the given compiled regex.
+       *
+       * @param pattern the regex to check against
+       * @return the predicate
+       */
+      public Predicate<C> matches( final Pattern pattern ) {
+         return object -> pattern.matcher( property.getValue( object ) ).matches();
       }
 
       /**
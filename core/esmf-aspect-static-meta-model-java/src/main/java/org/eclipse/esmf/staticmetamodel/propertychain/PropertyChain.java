@@ -14,7 +14,6 @@
 package org.eclipse.esmf.staticmetamodel.propertychain;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -47,8 +46,6 @@ public class PropertyChain<C, P> extends DefaultProperty implements PropertyType
 
    private final PropertyAccessor<C, P> accessor;
 
-   private final List<PropertyChainElementAccessor<Object>> chainElementAccessors;
-
    PropertyChain( final List<? extends StaticProperty<? extends Object, ? extends Object>> properties,
          final StaticProperty<? extends Object, P> lastProperty ) {
       super( MetaModelBaseAttributes.fromModelElement( lastProperty ),
@@ -60,7 +57,6 @@ public class PropertyChain<C, P> extends DefaultProperty implements PropertyType
       this.properties = Stream.concat( properties.stream(), Stream.of( lastProperty ) )
             .map( p -> (StaticProperty<Object, Object>) p )
             .toList();
-      chainElementAccessors = PropertyChainElementAccessors.getAllPropertyAccessors();
    }
 
    /**
@@ -120,9 +116,8 @@ public class PropertyChain<C, P> extends DefaultProperty implements PropertyType
    private PropertyAccessor<C, P> getAccessor() {
       return ( final C object ) -> {
          Object currentValue = object;
-         final Iterator<StaticProperty<Object, Object>> propertyIterator = properties.iterator();
-         while ( currentValue != null && propertyIterator.hasNext() ) {
-            currentValue = getNextValue( currentValue, propertyIterator.next() );
+         for ( int i = 0; currentValue != null && i < properties.size(); i++ ) {
+            currentValue = getNextValue( currentValue, properties.get( i ) );
          }
 
          return (P) currentValue;
@@ -138,10 +133,7 @@ public class PropertyChain<C, P> extends DefaultProperty implements PropertyType
    }
 
    private PropertyChainElementAccessor<Object> findPropertyChainElementAccessor( final Object currentValue ) {
-      return chainElementAccessors.stream()
-            .filter( chainElementAccessor -> chainElementAccessor.getHandledElementClass().isAssignableFrom( currentValue.getClass() ) )
-            .findAny()
-            .orElseGet( PropertyChainElementAccessors::getDefaultAccessor );
+      return PropertyChainElementAccessors.getAccessorFor( currentValue.getClass() );
    }
 
    @Override
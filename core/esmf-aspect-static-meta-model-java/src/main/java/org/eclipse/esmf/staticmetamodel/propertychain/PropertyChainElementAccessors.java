@@ -26,24 +26,52 @@ import org.eclipse.esmf.staticmetamodel.propertychain.spi.PropertyChainElementAc
  */
 public class PropertyChainElementAccessors {
    private static final PropertyChainElementAccessor<Object> DEFAULT_ACCESSOR;
+   private static final List<PropertyChainElementAccessor<Object>> ACCESSORS;
+   private static final ClassValue<PropertyChainElementAccessor<Object>> ACCESSORS_BY_CLASS = new ClassValue<>() {
+      @Override
+      protected PropertyChainElementAccessor<Object> computeValue( final Class<?> elementClass ) {
+         return ACCESSORS.stream()
+               .filter( accessor -> accessor.getHandledElementClass().isAssignableFrom( elementClass ) )
+               .findAny()
+               .orElse( DEFAULT_ACCESSOR );
+      }
+   };
 
    static {
       DEFAULT_ACCESSOR = getAccessorByName( DefaultPropertyChainElementAccessor.class.getName() );
+      ACCESSORS = loadAccessors();
    }
 
    private PropertyChainElementAccessors() {}
 
-   /**
-    * @return all available {@link PropertyChainElementAccessor} implementations
-    */
-   public static List<PropertyChainElementAccessor<Object>> getAllPropertyAccessors() {
+   private static List<PropertyChainElementAccessor<Object>> loadAccessors() {
       final List<PropertyChainElementAccessor<Object>> accessors = new ArrayList<>();
       final ServiceLoader<PropertyChainElementAccessor<Object>> loader = ServiceLoader.load( (Class) PropertyChainElementAccessor.class );
       loader.forEach( accessors::add );
 
       accessors.removeIf( accessor -> DEFAULT_ACCESSOR.getClass().equals( accessor.getClass() ) );
 
-      return accessors;
+      return List.copyOf( accessors );
+   }
+
+   /**
+    * The available implementations are looked up once, when this class is initialized.
+    *
+    * @return all available {@link PropertyChainElementAccessor} implementations
+    */
+   public static List<PropertyChainElementAccessor<Object>> getAllPropertyAccessors() {
+      return ACCESSORS;
+   }
+
+   /**
+    * Returns the {@link PropertyChainElementAccessor} that handles values of the given class, or the
+    * {@link DefaultPropertyChainElementAccessor} if there is none. The result is cached per class.
+    *
+    * @param elementClass the class of the chain element
+    * @return the accessor
+    */
+   public static PropertyChainElementAccessor<Object> getAccessorFor( final Class<?> elementClass ) {
+      return ACCESSORS_BY_CLASS.get( elementClass );
    }
 
    /**
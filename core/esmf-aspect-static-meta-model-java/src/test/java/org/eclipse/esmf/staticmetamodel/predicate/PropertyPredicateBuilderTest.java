@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.staticmetamodel.predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.esmf.staticmetamodel.PropertyAccessor;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyPredicateBuilderTest {
+   private final PropertyAccessor<StringBuilder, String> content = StringBuilder::toString;
+
+   @Test
+   void testMatchesRegex() {
+      final Predicate<StringBuilder> predicate = new PropertyPredicateBuilder.CharSequenceBuilder<>( content ).matches( "[a-z]+-\\d+" );
+      assertThat( predicate ).accepts( new StringBuilder( "vehicle-42" ) );
+      assertThat( predicate ).rejects( new StringBuilder( "vehicle-42a" ), new StringBuilder( "Vehicle-42" ) );
+   }
+
+   @Test
+   void testMatchesPrecompiledPattern() {
+      final Pattern pattern = Pattern.compile( "vehicle-\\d+", Pattern.CASE_INSENSITIVE );
+      final Predicate<StringBuilder> predicate = new PropertyPredicateBuilder.CharSequenceBuilder<>( content ).matches( pattern );
+      assertThat( predicate ).accepts( new StringBuilder( "vehicle-42" ), new StringBuilder( "Vehicle-42" ) );
+      // The whole value must match, as with the regex overload
+      assertThat( predicate ).rejects( new StringBuilder( "my vehicle-42" ), new StringBuilder( "vehicle-" ) );
+   }
+
+   @Test
+   void testInvalidRegexIsRejectedWhenPredicateIsBuilt() {
+      final PropertyPredicateBuilder.CharSequenceBuilder<StringBuilder, String> builder =
+            new PropertyPredicateBuilder.CharSequenceBuilder<>( content );
+      assertThatThrownBy( () -> builder.matches( "vehicle-(" ) ).isInstanceOf( PatternSyntaxException.class );
+   }
+}
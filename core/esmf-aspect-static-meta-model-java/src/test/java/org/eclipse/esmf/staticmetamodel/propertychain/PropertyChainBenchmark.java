@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.staticmetamodel.propertychain;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.eclipse.esmf.staticmetamodel.predicate.PropertyPredicateBuilder;
+import org.eclipse.esmf.staticmetamodel.propertychain.spi.PropertyChainElementAccessor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the evaluation of property chains and regex predicates of the static meta model. This is
+ * no unit test and is not run by the build; after {@code mvn test-compile}, run it using
+ * {@code org.openjdk.jmh.Main PropertyChainBenchmark} on the test class path of this module.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class PropertyChainBenchmark {
+   private static final String REGEX = "Manufacturer \\d*[02468]";
+
+   private TestFleet.Fleet fleet;
+   private List<TestFleet.Manufacturer> manufacturers;
+   private Predicate<TestFleet.Manufacturer> regexPredicate;
+   private Predicate<TestFleet.Manufacturer> patternPredicate;
+
+   @Setup
+   public void setup() {
+      fleet = TestFleet.fleet( 100 );
+      manufacturers = fleet.vehicles().stream().map( TestFleet.Vehicle::manufacturer ).toList();
+      regexPredicate = new PropertyPredicateBuilder.CharSequenceBuilder<>( TestFleet.NAME ).matches( REGEX );
+      patternPredicate = new PropertyPredicateBuilder.CharSequenceBuilder<>( TestFleet.NAME ).matches( Pattern.compile( REGEX ) );
+   }
+
+   /**
+    * Evaluates a chain that passes through lists, i.e., looks up a chain element accessor per step
+    */
+   @Benchmark
+   public List<String> evaluatePropertyChain() {
+      return TestFleet.MANUFACTURER_NAMES.getValue( fleet );
+   }
+
+   /**
+    * Looks up the chain element accessors through the per-class cache
+    */
+   @Benchmark
+   public void findAccessorByClass( final Blackhole blackhole ) {
+      blackhole.consume( PropertyChainElementAccessors.getAccessorFor( fleet.getClass() ) );
+      blackhole.consume( PropertyChainElementAccessors.getAccessorFor( manufacturers.getClass() ) );
+   }
+
+   /**
+    * Looks up the chain element accessors by scanning all accessors, as it was done for every chain
+    * element before the per-class cache was introduced; serves as the baseline for
+    * {@link #findAccessorByClass(Blackhole)}
+    */
+   @Benchmark
+   public void findAccessorByScanning( final Blackhole blackhole ) {
+      blackhole.consume( scanAccessors( fleet.getClass() ) );
+      blackhole.consume( scanAccessors( manufacturers.getClass() ) );
+   }
+
+   /**
+    * Tests a predicate built using {@code matches(String)}
+    */
+   @Benchmark
+   public long matchRegexPredicate() {
+      return manufacturers.stream().filter( regexPredicate ).count();
+   }
+
+   /**
+    * Tests a predicate built using {@code matches(Pattern)}
+    */
+   @Benchmark
+   public long matchPatternPredicate() {
+      return manufacturers.stream().filter( patternPredicate ).count();
+   }
+
+   /**
+    * Compiles the regex for every value, as the predicate built using {@code matches(String)} did
+    * before; serves as the baseline for {@link #matchRegexPredicate()}
+    */
+   @Benchmark
+   public long matchCompilingRegex() {
+      return manufacturers.stream().filter( manufacturer -> Pattern.matches( REGEX, manufacturer.name() ) ).count();
+   }
+
+   private static PropertyChainElementAccessor<Object> scanAccessors( final Class<?> elementClass ) {
+      return PropertyChainElementAccessors.getAllPropertyAccessors().stream()
+            .filter( accessor -> accessor.getHandledElementClass().isAssignableFrom( elementClass ) )
+            .findAny()
+            .orElseGet( PropertyChainElementAccessors::getDefaultAccessor );
+   }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.staticmetamodel.propertychain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.esmf.staticmetamodel.propertychain.spi.PropertyChainElementAccessor;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyChainElementAccessorsTest {
+   @Test
+   void testAccessorIsFoundForSubclassesOfHandledClass() {
+      assertThat( PropertyChainElementAccessors.getAccessorFor( ArrayList.class ) )
+            .isInstanceOf( CollectionPropertyChainElementAccessor.class );
+      assertThat( PropertyChainElementAccessors.getAccessorFor( LinkedHashSet.class ) )
+            .isInstanceOf( CollectionPropertyChainElementAccessor.class );
+      assertThat( PropertyChainElementAccessors.getAccessorFor( List.of( 1, 2, 3 ).getClass() ) )
+            .isInstanceOf( CollectionPropertyChainElementAccessor.class );
+      assertThat( PropertyChainElementAccessors.getAccessorFor( Optional.class ) )
+            .isInstanceOf( OptionalPropertyChainElementAccessor.class );
+   }
+
+   @Test
+   void testAccessorIsCachedPerClass() {
+      final PropertyChainElementAccessor<Object> accessor = PropertyChainElementAccessors.getAccessorFor( ArrayList.class );
+      assertThat( PropertyChainElementAccessors.getAccessorFor( ArrayList.class ) ).isSameAs( accessor );
+      assertThat( PropertyChainElementAccessors.getAllPropertyAccessors() ).contains( accessor );
+   }
+
+   @Test
+   void testClassWithoutSpecificAccessorUsesDefaultAccessor() {
+      final PropertyChainElementAccessor<Object> defaultAccessor = PropertyChainElementAccessors.getDefaultAccessor();
+      assertThat( defaultAccessor ).isInstanceOf( DefaultPropertyChainElementAccessor.class );
+      assertThat( PropertyChainElementAccessors.getAccessorFor( String.class ) ).isSameAs( defaultAccessor );
+      assertThat( PropertyChainElementAccessors.getAccessorFor( TestFleet.Fleet.class ) ).isSameAs( defaultAccessor );
+      assertThat( PropertyChainElementAccessors.getAllPropertyAccessors() ).doesNotContain( defaultAccessor );
+   }
+
+   @Test
+   void testUnknownAccessorIsRejected() {
+      assertThatThrownBy( () -> PropertyChainElementAccessors.getAccessorByName( "org.eclipse.esmf.UnknownAccessor" ) )
+            .isInstanceOf( IllegalArgumentException.class )
+            .hasMessageContaining( "org.eclipse.esmf.UnknownAccessor" );
+   }
+
+   @Test
+   void testPropertyChainUsesAccessorsOfChainElements() {
+      assertThat( TestFleet.MANUFACTURER_NAMES.getValue( TestFleet.fleet( 3 ) ) )
+            .containsExactly( "Manufacturer 0", "Manufacturer 1", "Manufacturer 2" );
+      assertThat( TestFleet.MANUFACTURER_NAMES.getValue( TestFleet.fleet( 0 ) ) ).isEmpty();
+   }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.staticmetamodel.propertychain;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.eclipse.esmf.aspectmodel.loader.MetaModelBaseAttributes;
+import org.eclipse.esmf.metamodel.Characteristic;
+import org.eclipse.esmf.metamodel.impl.DefaultCharacteristic;
+import org.eclipse.esmf.staticmetamodel.StaticProperty;
+
+/**
+ * Hand-written static meta model for a small object graph, as it would otherwise be generated for an
+ * Aspect Model: a fleet has vehicles, each vehicle has a manufacturer, each manufacturer has a name.
+ */
+final class TestFleet {
+   private static final String NAMESPACE = "urn:samm:org.eclipse.esmf.test:1.0.0#";
+
+   record Fleet( List<Vehicle> vehicles ) {}
+
+   record Vehicle( Manufacturer manufacturer ) {}
+
+   record Manufacturer( String name ) {}
+
+   static final StaticProperty<Fleet, List> VEHICLES = property( "vehicles", Fleet.class, List.class, Fleet::vehicles );
+   static final StaticProperty<Vehicle, Manufacturer> MANUFACTURER =
+         property( "manufacturer", Vehicle.class, Manufacturer.class, Vehicle::manufacturer );
+   static final StaticProperty<Manufacturer, String> NAME = property( "name", Manufacturer.class, String.class, Manufacturer::name );
+
+   /**
+    * The chain fleet &rarr; vehicles &rarr; manufacturer &rarr; name, which passes through lists
+    */
+   static final PropertyChain<Fleet, List<String>> MANUFACTURER_NAMES = new PropertyChain<>( List.of( VEHICLES, MANUFACTURER, NAME ) );
+
+   private TestFleet() {}
+
+   static Fleet fleet( final int numberOfVehicles ) {
+      return new Fleet( IntStream.range( 0, numberOfVehicles )
+            .mapToObj( index -> new Vehicle( new Manufacturer( "Manufacturer " + index ) ) )
+            .toList() );
+   }
+
+   private static <C, T> StaticProperty<C, T> property( final String name, final Class<C> containingType, final Class<T> propertyType,
+         final Function<C, T> getter ) {
+      final Characteristic characteristic = new DefaultCharacteristic( MetaModelBaseAttributes.builder().isAnonymous().build(),
+            Optional.empty() );
+      return new StaticProperty<>( MetaModelBaseAttributes.builder().withUrn( NAMESPACE + name ).build(), characteristic,
+            Optional.empty(), false, false, Optional.empty(), false, Optional.empty() ) {
+         @Override
+         public Class<T> getPropertyType() {
+            return propertyType;
+         }
+
+         @Override
+         public Class<C> getContainingType() {
+            return containingType;
+         }
+
+         @Override
+         public T getValue( final C object ) {
+            return getter.apply( object );
+         }
+      };
+   }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.treesitterturtle;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable index of the tokens of a {@link TurtleSyntaxTree}, sorted by their start position, that
+ * allows looking up tokens by position using binary search. Instances are created using
+ * {@link TurtleSyntaxTree#tokenIndex(java.util.function.Predicate)}.
+ */
+public final class TokenIndex {
+   /**
+    * Weight of a line difference when computing the distance between two positions
+    */
+   private static final long LINE_WEIGHT = 1000;
+
+   private final List<TurtleSyntaxTree.Token> tokens;
+   private final int[] lines;
+   private final int[] columns;
+
+   TokenIndex( final List<TurtleSyntaxTree.Token> sortedTokens ) {
+      tokens = sortedTokens;
+      lines = new int[sortedTokens.size()];
+      columns = new int[sortedTokens.size()];
+      for ( int i = 0; i < sortedTokens.size(); i++ ) {
+         lines[i] = sortedTokens.get( i ).location().fromLine();
+         columns[i] = sortedTokens.get( i ).location().fromColumn();
+      }
+   }
+
+   /**
+    * @return the indexed tokens, sorted by their start position
+    */
+   public List<TurtleSyntaxTree.Token> tokens() {
+      return tokens;
+   }
+
+   public boolean isEmpty() {
+      return tokens.isEmpty();
+   }
+
+   /**
+    * Returns the first token (in document order) that starts at the given position.
+    *
+    * @param line the 0-based line
+    * @param column the 0-based column
+    * @return the token, or null if no token starts at the position
+    */
+   public TurtleSyntaxTree.@Nullable Token tokenStartingAt( final long line, final long column ) {
+      final int index = firstIndexAtOrAfter( line, column );
+      return index < tokens.size() && lines[index] == line && columns[index] == column ? tokens.get( index ) : null;
+   }
+
+   /**
+    * Returns the first token (in document order) that starts at the given position, or, if there is
+    * none, the token whose start is nearest to it. The distance between two positions is the
+    * difference of their lines weighted by 1000 plus the difference of their columns.
+    *
+    * @param line the 0-based line
+    * @param column the 0-based column
+    * @return the token, or null if the index is empty
+    */
+   public TurtleSyntaxTree.@Nullable Token nearestToken( final long line, final long column ) {
+      final int start = firstIndexAtOrAfter( line, column );
+      if ( start < tokens.size() && lines[start] == line && columns[start] == column ) {
+         return tokens.get( start );
+      }
+      int bestIndex = -1;
+      long bestDistance = Long.MAX_VALUE;
+
+      // Tokens starting at or after the position, in ascending order
+      for ( int i = start; i < tokens.size() && ( lines[i] - line ) * LINE_WEIGHT < bestDistance; i++ ) {
+         final long distance = distance( i, line, column );
+         if ( distance < bestDistance ) {
+            bestDistance = distance;
+            bestIndex = i;
+         }
+      }
+      // Tokens starting before the position, in descending order; on equal distance, the earlier token wins
+      for ( int i = start - 1; i >= 0 && ( line - lines[i] ) * LINE_WEIGHT <= bestDistance; i-- ) {
+         final long distance = distance( i, line, column );
+         if ( distance <= bestDistance ) {
+            bestDistance = distance;
+            bestIndex = i;
+         }
+      }
+      return bestIndex < 0 ? null : tokens.get( bestIndex );
+   }
+
+   private long distance( final int index, final long line, final long column ) {
+      return Math.abs( lines[index] - line ) * LINE_WEIGHT + Math.abs( columns[index] - column );
+   }
+
+   private int firstIndexAtOrAfter( final long line, final long column ) {
+      int low = 0;
+      int high = tokens.size();
+      while ( low < high ) {
+         final int middle = ( low + high ) >>> 1;
+         if ( lines[middle] < line || ( lines[middle] == line && columns[middle] < column ) ) {
+            low = middle + 1;
+         } else {
+            high = middle;
+         }
+      }
+      return low;
+   }
+}
@@ -13,12 +13,14 @@
 
 package org.eclipse.esmf.treesitterturtle;
 
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -36,6 +38,7 @@ import org.treesitter.TSTree;
 public class TurtleSyntaxTree {
    private final Node rootNode;
    private final String content;
+   private volatile @Nullable List<Node> sortedNodes;
 
    public static class TurtleSyntaxTreeTraversalError extends RuntimeException {
    }
@@ -190,10 +193,10 @@ public class TurtleSyntaxTree {
    }
 
    public static TurtleSyntaxTree fromConcreteSyntaxTree( final TSTree syntaxTree, final String content ) {
-      return new TurtleSyntaxTree( nodeForTsNode( syntaxTree.getRootNode(), content ), content );
+      return new TurtleSyntaxTree( nodeForTsNode( syntaxTree.getRootNode(), ByteOffsets.of( content ) ), content );
    }
 
-   private static Node nodeForTsNode( final TSNode inputNode, final String content ) {
+   private static Node nodeForTsNode( final TSNode inputNode, final ByteOffsets offsets ) {
       final Location location = new Location(
             inputNode.getStartPoint().getRow(),
             inputNode.getStartPoint().getColumn(),
@@ -202,41 +205,136 @@ public class TurtleSyntaxTree {
       final List<Node> children = IntStream.range( 0, inputNode.getChildCount() )
             .mapToObj( inputNode::getChild )
             .filter( Objects::nonNull )
-            .map( child -> nodeForTsNode( child, content ) )
+            .map( child -> nodeForTsNode( child, offsets ) )
             .toList();
       if ( inputNode.isError() ) {
          return new Error( inputNode.getType(), TurtleDiagnosticCode.E0003, location, children );
       } else if ( inputNode.isMissing() ) {
          return new Error( inputNode.getType(), TurtleDiagnosticCode.E0004, location, children );
       }
-      final Supplier<String> token = () -> new String(
-            // bytes
-            content.getBytes( StandardCharsets.UTF_8 ),
-            // offset
-            inputNode.getStartByte(),
-            // length
-            inputNode.getEndByte() - inputNode.getStartByte(),
-            // charset
-            StandardCharsets.UTF_8
-      );
+      final int startByte = inputNode.getStartByte();
+      final int endByte = inputNode.getEndByte();
+      final Supplier<String> token = () -> offsets.substring( startByte, endByte );
       return new Token( inputNode.getType(), token, location, children );
    }
 
-   private Stream<Node> nodes( final Node fromNode ) {
-      final Stream<Node> children = fromNode.children().stream().flatMap( this::nodes );
-      return Stream.concat( Stream.of( fromNode ), children )
-            .sorted( Comparator.<Node>comparingInt( node -> node.location().fromLine() )
-                  .thenComparingInt( node -> node.location().fromColumn() ) );
+   /**
+    * Maps the UTF-8 byte offsets reported by Tree-sitter to char offsets in the source document, so
+    * that token contents can be taken directly from the document string. The mapping is computed once
+    * per document; for documents that only contain ASCII characters, byte and char offsets are the same
+    * and no table is needed.
+    */
+   static final class ByteOffsets {
+      private final String content;
+      private final int @Nullable [] charOffsets;
+
+      private ByteOffsets( final String content, final int @Nullable [] charOffsets ) {
+         this.content = content;
+         this.charOffsets = charOffsets;
+      }
+
+      static ByteOffsets of( final String content ) {
+         int utf8Length = 0;
+         for ( int i = 0; i < content.length(); i++ ) {
+            final int byteLength = utf8Length( content, i );
+            utf8Length += byteLength;
+            if ( byteLength == 4 ) {
+               i++;
+            }
+         }
+         if ( utf8Length == content.length() ) {
+            return new ByteOffsets( content, null );
+         }
+
+         final int[] charOffsets = new int[utf8Length + 1];
+         int byteOffset = 0;
+         for ( int i = 0; i < content.length(); i++ ) {
+            final int byteLength = utf8Length( content, i );
+            for ( int j = 0; j < byteLength; j++ ) {
+               charOffsets[byteOffset++] = i;
+            }
+            if ( byteLength == 4 ) {
+               i++;
+            }
+         }
+         charOffsets[byteOffset] = content.length();
+         return new ByteOffsets( content, charOffsets );
+      }
+
+      private static int utf8Length( final String content, final int index ) {
+         final char character = content.charAt( index );
+         if ( character < 0x80 ) {
+            return 1;
+         } else if ( character < 0x800 ) {
+            return 2;
+         } else if ( Character.isHighSurrogate( character ) && index + 1 < content.length()
+               && Character.isLowSurrogate( content.charAt( index + 1 ) ) ) {
+            return 4;
+         }
+         return 3;
+      }
+
+      int charOffset( final int byteOffset ) {
+         if ( charOffsets == null ) {
+            return Math.clamp( byteOffset, 0, content.length() );
+         }
+         return charOffsets[Math.clamp( byteOffset, 0, charOffsets.length - 1 )];
+      }
+
+      String substring( final int startByte, final int endByte ) {
+         final int startIndex = charOffset( startByte );
+         final int endIndex = charOffset( endByte );
+         return startIndex < endIndex ? content.substring( startIndex, endIndex ) : "";
+      }
+   }
+
+   private List<Node> sortedNodes() {
+      List<Node> result = sortedNodes;
+      if ( result == null ) {
+         final List<Node> nodes = new ArrayList<>();
+         collectNodes( rootNode, nodes );
+         // The sort is stable, so nodes starting at the same position stay in pre-order, i.e., parents before their children
+         nodes.sort( Comparator.<Node>comparingInt( node -> node.location().fromLine() )
+               .thenComparingInt( node -> node.location().fromColumn() ) );
+         result = Collections.unmodifiableList( nodes );
+         sortedNodes = result;
+      }
+      return result;
    }
 
+   private static void collectNodes( final Node node, final List<Node> result ) {
+      result.add( node );
+      for ( final Node child : node.children() ) {
+         collectNodes( child, result );
+      }
+   }
+
+   /**
+    * Returns all nodes of the tree, sorted by their start position. The sorted list of nodes is
+    * computed once and shared by subsequent calls.
+    *
+    * @return the nodes
+    */
    public Stream<Node> nodes() {
-      return nodes( rootNode() );
+      return sortedNodes().stream();
    }
 
    public Stream<Token> tokens() {
       return nodes().filter( Token.class::isInstance ).map( Token.class::cast );
    }
 
+   /**
+    * Creates an index of the tokens that match the given filter, which allows looking up tokens by
+    * position without scanning all tokens. Since the index does not change, callers that look up many
+    * positions should create it once and keep it.
+    *
+    * @param filter the filter for the tokens to include
+    * @return the token index
+    */
+   public TokenIndex tokenIndex( final Predicate<Token> filter ) {
+      return new TokenIndex( tokens().filter( filter ).toList() );
+   }
+
    public TurtleSyntaxTree.@Nullable Token findMatchingTreeSitterToken( final long targetLine,
          final long targetColumn ) {
       return findMatchingTreeSitterToken( List.of(), targetLine, targetColumn );
@@ -244,7 +342,9 @@ public class TurtleSyntaxTree {
 
    /**
     * Finds the matching Tree-sitter token for a given Jena token based on a type filter, line and
-    * column position.
+    * column position. Since the range of each node covers the ranges of its children and the children
+    * of a node do not overlap, only the nodes on the path from the root to the innermost node
+    * containing the position need to be inspected.
     *
     * @param desiredTypes filter for this type of token
     * @param targetLine the line of the originating cursor position
@@ -254,39 +354,62 @@ public class TurtleSyntaxTree {
     */
    public TurtleSyntaxTree.@Nullable Token findMatchingTreeSitterToken( final List<String> desiredTypes, final long targetLine,
          final long targetColumn ) {
-      final List<Token> tokens = tokens().toList();
-      if ( tokens.isEmpty() ) {
-         return null;
-      }
-
       TurtleSyntaxTree.Token shortestMatch = null;
       long minTokenLength = Long.MAX_VALUE;
 
-      for ( final TurtleSyntaxTree.Token treeToken : tokens ) {
-         if ( !desiredTypes.isEmpty() && !desiredTypes.contains( treeToken.type ) ) {
-            continue;
+      Node node = contains( rootNode.location(), targetLine, targetColumn ) ? rootNode : null;
+      while ( node != null ) {
+         if ( node instanceof final Token treeToken
+               && ( desiredTypes.isEmpty() || desiredTypes.contains( treeToken.type() ) ) ) {
+            final int tokenFromLine = treeToken.location().fromLine();
+            final int tokenFromColumn = treeToken.location().fromColumn();
+            final int tokenToLine = treeToken.location().toLine();
+            final int tokenToColumn = treeToken.location().toColumn();
+
+            final long tokenLength = Math.abs( tokenFromLine - targetLine ) * 1000 + Math.abs( tokenFromColumn - targetColumn )
+                  + Math.abs( tokenToLine - targetLine ) * 1000 + Math.abs( tokenToColumn - targetColumn );
+
+            if ( tokenLength < minTokenLength ) {
+               minTokenLength = tokenLength;
+               shortestMatch = treeToken;
+            }
          }
+         node = containingChild( node, targetLine, targetColumn );
+      }
 
-         final int tokenFromLine = treeToken.location().fromLine();
-         final int tokenFromColumn = treeToken.location().fromColumn();
-         final int tokenToLine = treeToken.location().toLine();
-         final int tokenToColumn = treeToken.location().toColumn();
+      return shortestMatch;
+   }
 
-         if ( ( targetLine < tokenFromLine || targetLine > tokenToLine )
-               || ( targetLine == tokenFromLine && targetColumn < tokenFromColumn )
-               || ( targetLine == tokenToLine && targetColumn >= tokenToColumn ) ) {
-            continue;
+   private static @Nullable Node containingChild( final Node node, final long targetLine, final long targetColumn ) {
+      final List<Node> children = node.children();
+      // Binary search for the number of children that start at or before the target position
+      int low = 0;
+      int high = children.size();
+      while ( low < high ) {
+         final int middle = ( low + high ) >>> 1;
+         final Location location = children.get( middle ).location();
+         if ( location.fromLine() < targetLine || ( location.fromLine() == targetLine && location.fromColumn() <= targetColumn ) ) {
+            low = middle + 1;
+         } else {
+            high = middle;
          }
-
-         final long tokenLength = Math.abs( tokenFromLine - targetLine ) * 1000 + Math.abs( tokenFromColumn - targetColumn )
-               + Math.abs( tokenToLine - targetLine ) * 1000 + Math.abs( tokenToColumn - targetColumn );
-
-         if ( tokenLength < minTokenLength ) {
-            minTokenLength = tokenLength;
-            shortestMatch = treeToken;
+      }
+      for ( int i = low - 1; i >= 0; i-- ) {
+         final Location location = children.get( i ).location();
+         if ( contains( location, targetLine, targetColumn ) ) {
+            return children.get( i );
+         }
+         final boolean empty = location.fromLine() == location.toLine() && location.fromColumn() == location.toColumn();
+         if ( !empty ) {
+            break;
          }
       }
+      return null;
+   }
 
-      return shortestMatch;
+   private static boolean contains( final Location location, final long targetLine, final long targetColumn ) {
+      return !( ( targetLine < location.fromLine() || targetLine > location.toLine() )
+            || ( targetLine == location.fromLine() && targetColumn < location.fromColumn() )
+            || ( targetLine == location.toLine() && targetColumn >= location.toColumn() ) );
    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.treesitterturtle;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.treesitter.TSParser;
+
+/**
+ * Measures looking up the tokens of a Turtle syntax tree by position, as it is done for every Jena
+ * token when a document is parsed. This is no unit test and is not run by the build; after
+ * {@code mvn test-compile}, run it using {@code org.openjdk.jmh.Main TokenLookupBenchmark} on the test
+ * class path of this module.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class TokenLookupBenchmark {
+   private static final int NUMBER_OF_ELEMENTS = 500;
+   private static final int NUMBER_OF_LOOKUPS = 100;
+   private static final Predicate<TurtleSyntaxTree.Token> TOKEN_FILTER = token -> !token.type().equals( ParserTokenType.OBJECT_LIST )
+         && !token.type().equals( ParserTokenType.TRIPLE );
+
+   private TurtleSyntaxTree syntaxTree;
+   private TokenIndex tokenIndex;
+   private List<TurtleSyntaxTree.Token> tokens;
+   private int[] lines;
+   private int[] columns;
+
+   @Setup
+   public void setup() {
+      final String content = "@prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .\n"
+            + "@prefix xsd: <http://www.w3.org/2001/XMLSchema#> .\n\n"
+            + IntStream.range( 0, NUMBER_OF_ELEMENTS ).mapToObj( index -> """
+                  :property%1$d a :Property ;
+                     :preferredName "Property %1$d"@en ;
+                     :characteristic [ a :Characteristic ; :dataType xsd:string ] ;
+                     :exampleValue ( "a" "b" %1$d ) .
+                  """.formatted( index ) ).collect( Collectors.joining( "\n" ) );
+      final TSParser parser = new TSParser();
+      parser.setLanguage( new TreeSitterTurtle() );
+      syntaxTree = TurtleSyntaxTree.fromConcreteSyntaxTree( parser.parseString( null, content ), content );
+      tokenIndex = syntaxTree.tokenIndex( TOKEN_FILTER );
+      tokens = syntaxTree.tokens().toList();
+
+      final String[] contentLines = content.split( "\n" );
+      final Random random = new Random( 42 );
+      lines = new int[NUMBER_OF_LOOKUPS];
+      columns = new int[NUMBER_OF_LOOKUPS];
+      for ( int i = 0; i < NUMBER_OF_LOOKUPS; i++ ) {
+         lines[i] = random.nextInt( contentLines.length );
+         columns[i] = random.nextInt( contentLines[lines[i]].length() + 1 );
+      }
+   }
+
+   /**
+    * Finds the innermost tokens containing the positions by descending the syntax tree
+    */
+   @Benchmark
+   public void findContainingToken( final Blackhole blackhole ) {
+      for ( int i = 0; i < NUMBER_OF_LOOKUPS; i++ ) {
+         blackhole.consume( syntaxTree.findMatchingTreeSitterToken( lines[i], columns[i] ) );
+      }
+   }
+
+   /**
+    * Finds the tokens nearest to the positions using the token index
+    */
+   @Benchmark
+   public void findNearestToken( final Blackhole blackhole ) {
+      for ( int i = 0; i < NUMBER_OF_LOOKUPS; i++ ) {
+         blackhole.consume( tokenIndex.nearestToken( lines[i], columns[i] ) );
+      }
+   }
+
+   /**
+    * Finds the tokens nearest to the positions by scanning all tokens, as it was done before the token
+    * index was introduced; serves as the baseline for {@link #findNearestToken(Blackhole)}
+    */
+   @Benchmark
+   public void findNearestTokenByScanning( final Blackhole blackhole ) {
+      for ( int i = 0; i < NUMBER_OF_LOOKUPS; i++ ) {
+         blackhole.consume( scanForNearestToken( lines[i], columns[i] ) );
+      }
+   }
+
+   /**
+    * Builds the token index, which is done once per parsed document
+    */
+   @Benchmark
+   public TokenIndex buildTokenIndex() {
+      return syntaxTree.tokenIndex( TOKEN_FILTER );
+   }
+
+   private TurtleSyntaxTree.Token scanForNearestToken( final long line, final long column ) {
+      TurtleSyntaxTree.Token nearestMatch = null;
+      long minDistance = Long.MAX_VALUE;
+      for ( final TurtleSyntaxTree.Token token : tokens ) {
+         if ( !TOKEN_FILTER.test( token ) ) {
+            continue;
+         }
+         final int tokenLine = token.location().fromLine();
+         final int tokenColumn = token.location().fromColumn();
+         if ( tokenLine == line && tokenColumn == column ) {
+            return token;
+         }
+         final long distance = Math.abs( tokenLine - line ) * 1000 + Math.abs( tokenColumn - column );
+         if ( distance < minDistance ) {
+            minDistance = distance;
+            nearestMatch = token;
+         }
+      }
+      return nearestMatch;
+   }
+}
@@ -15,6 +15,12 @@ package org.eclipse.esmf.treesitterturtle;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.esmf.Location;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.treesitter.TSLanguage;
@@ -386,4 +392,114 @@ public class TreeSitterTurtleTest {
       assertThat( rootNode.hasError() ).isFalse();
       assertThat( TreeSitterUtil.print( rootNode, new TurtleSyntaxTree.StringTokenProvider( content ) ) ).doesNotContain( "ERROR" );
    }
+
+   @Test
+   void testTokenContentWithMultiByteCharacters() {
+      final String content = """
+         @prefix ex: <http://example.org/> .
+         @prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .
+
+         ex:entity rdfs:label "こんにちは"@ja .
+         ex:entity rdfs:label "Grüße 😀"@de .
+         ex:entity rdfs:comment "plain"@en .
+         """;
+
+      final TSTree tree = parser.parseString( null, content );
+      final TurtleSyntaxTree syntaxTree = TurtleSyntaxTree.fromConcreteSyntaxTree( tree, content );
+
+      assertThat( syntaxTree.rootNode().content() ).isEqualTo( content );
+      assertThat( syntaxTree.tokens().map( TurtleSyntaxTree.Token::content ) )
+            .anyMatch( tokenContent -> tokenContent.equals( "\"こんにちは\"@ja" ) || tokenContent.equals( "\"こんにちは\"" ) )
+            .anyMatch( tokenContent -> tokenContent.equals( "\"Grüße 😀\"@de" ) || tokenContent.equals( "\"Grüße 😀\"" ) )
+            .anyMatch( tokenContent -> tokenContent.equals( "\"plain\"@en" ) || tokenContent.equals( "\"plain\"" ) );
+   }
+
+   @Test
+   void testByteOffsetsMatchUtf8Encoding() {
+      final String content = "a ü € 😀 b";
+      final byte[] bytes = content.getBytes( StandardCharsets.UTF_8 );
+      final TurtleSyntaxTree.ByteOffsets offsets = TurtleSyntaxTree.ByteOffsets.of( content );
+      final List<Integer> boundaries = new ArrayList<>();
+      for ( int i = 0; i <= bytes.length; i++ ) {
+         if ( i == bytes.length || ( bytes[i] & 0xC0 ) != 0x80 ) {
+            boundaries.add( i );
+         }
+      }
+      for ( final int start : boundaries ) {
+         for ( final int end : boundaries ) {
+            if ( start <= end ) {
+               assertThat( offsets.substring( start, end ) )
+                     .isEqualTo( new String( bytes, start, end - start, StandardCharsets.UTF_8 ) );
+            }
+         }
+      }
+   }
+
+   @Test
+   void testTokenLookupMatchesLinearScan() {
+      final String content = """
+         @prefix ex: <http://example.org/> .
+         @prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+
+         ex:john a ex:Person ;
+            ex:age "30"^^xsd:integer ;
+            ex:address [
+               ex:street "123 Main St" ;
+               ex:city "Anytown"
+            ] ;
+            ex:hobbies ("reading" "coding") .
+         ex:broken ex:property .
+         """;
+      final TurtleSyntaxTree syntaxTree = TurtleSyntaxTree.fromConcreteSyntaxTree( parser.parseString( null, content ), content );
+      final List<TurtleSyntaxTree.Token> tokens = syntaxTree.tokens().toList();
+      final TokenIndex index = syntaxTree.tokenIndex( token -> !token.type().equals( ParserTokenType.TRIPLE ) );
+      final List<TurtleSyntaxTree.Token> indexedTokens = tokens.stream()
+            .filter( token -> !token.type().equals( ParserTokenType.TRIPLE ) )
+            .toList();
+
+      final String[] lines = content.split( "\n" );
+      for ( int line = 0; line <= lines.length; line++ ) {
+         final int lineLength = line < lines.length ? lines[line].length() : 0;
+         for ( int column = 0; column <= lineLength + 1; column++ ) {
+            assertThat( syntaxTree.findMatchingTreeSitterToken( line, column ) )
+                  .isSameAs( smallestContainingToken( tokens, line, column ) );
+            assertThat( index.nearestToken( line, column ) )
+                  .isSameAs( nearestToken( indexedTokens, line, column ) );
+         }
+      }
+   }
+
+   private TurtleSyntaxTree.Token smallestContainingToken( final List<TurtleSyntaxTree.Token> tokens, final long line,
+         final long column ) {
+      TurtleSyntaxTree.Token result = null;
+      long minLength = Long.MAX_VALUE;
+      for ( final TurtleSyntaxTree.Token token : tokens ) {
+         final Location location = token.location();
+         if ( ( line < location.fromLine() || line > location.toLine() )
+               || ( line == location.fromLine() && column < location.fromColumn() )
+               || ( line == location.toLine() && column >= location.toColumn() ) ) {
+            continue;
+         }
+         final long length = Math.abs( location.fromLine() - line ) * 1000 + Math.abs( location.fromColumn() - column )
+               + Math.abs( location.toLine() - line ) * 1000 + Math.abs( location.toColumn() - column );
+         if ( length < minLength ) {
+            minLength = length;
+            result = token;
+         }
+      }
+      return result;
+   }
+
+   private TurtleSyntaxTree.Token nearestToken( final List<TurtleSyntaxTree.Token> tokens, final long line, final long column ) {
+      TurtleSyntaxTree.Token result = null;
+      long minDistance = Long.MAX_VALUE;
+      for ( final TurtleSyntaxTree.Token token : tokens ) {
+         final long distance = Math.abs( token.location().fromLine() - line ) * 1000 + Math.abs( token.location().fromColumn() - column );
+         if ( distance < minDistance ) {
+            minDistance = distance;
+            result = token;
+         }
+      }
+      return result;
+   }
 }
@@ -13,8 +13,11 @@
 
 package org.eclipse.esmf.turtle.languageserver.aspect.service;
 
+import static org.eclipse.esmf.aspectmodel.ConcurrencyUtil.checkInterrupted;
+
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import org.eclipse.esmf.aspectmodel.ValueParsingException;
 import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
@@ -25,6 +28,7 @@ import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
 import org.eclipse.esmf.aspectmodel.validation.ProcessingViolation;
 import org.eclipse.esmf.aspectmodel.validation.Validator;
 import org.eclipse.esmf.aspectmodel.validation.services.AspectModelValidator;
+import org.eclipse.esmf.metamodel.AspectModel;
 import org.eclipse.esmf.turtle.languageserver.aspect.diagnostic.AspectViolationDiagnosticMapper;
 import org.eclipse.esmf.turtle.languageserver.aspect.navigation.ExternalModelFileCache;
 import org.eclipse.esmf.turtle.languageserver.lsp.ResolutionStrategyService;
@@ -40,11 +44,16 @@ import org.slf4j.LoggerFactory;
 public class AspectModelValidationService extends TurtleService implements ResolutionStrategyAwareDiagnosticsProvider {
    private static final Logger LOG = LoggerFactory.getLogger( AspectModelValidationService.class );
    private final Validator<Violation, List<Violation>> validator;
+   private final WorkspaceModelGraph workspaceModelGraph;
    private final AspectViolationDiagnosticMapper diagnosticMapper = new AspectViolationDiagnosticMapper();
    private ResolutionStrategyService resolutionStrategyService;
 
    public AspectModelValidationService() {
-      this( new AspectModelValidator(), new ResolutionStrategyService() );
+      this( new WorkspaceModelGraph() );
+   }
+
+   private AspectModelValidationService( final WorkspaceModelGraph workspaceModelGraph ) {
+      this( new IncrementalAspectModelValidator( workspaceModelGraph ), new ResolutionStrategyService(), workspaceModelGraph );
    }
 
    public AspectModelValidationService( final Validator<Violation, List<Violation>> validator ) {
@@ -53,8 +62,14 @@ public class AspectModelValidationService extends TurtleService implements Resol
 
    public AspectModelValidationService( final Validator<Violation, List<Violation>> validator,
          final ResolutionStrategyService resolutionStrategyService ) {
+      this( validator, resolutionStrategyService, new WorkspaceModelGraph() );
+   }
+
+   public AspectModelValidationService( final Validator<Violation, List<Violation>> validator,
+         final ResolutionStrategyService resolutionStrategyService, final WorkspaceModelGraph workspaceModelGraph ) {
       this.validator = validator;
       this.resolutionStrategyService = resolutionStrategyService;
+      this.workspaceModelGraph = workspaceModelGraph;
    }
 
    private boolean shouldValidateDocument( final ParsedDocument parsedDocument ) {
@@ -81,6 +96,8 @@ public class AspectModelValidationService extends TurtleService implements Resol
          return diagnosticMapper.mapParserException( exception, parsedDocument.getUri() );
       } catch ( final ValueParsingException exception ) {
          return diagnosticMapper.mapValueParsingException( exception );
+      } catch ( final CancellationException exception ) {
+         throw exception;
       } catch ( final Exception exception ) {
          LOG.error( "[validate] unexpected runtime failure for {}", parsedDocument.getUri(), exception );
          return diagnosticMapper.processingFailureReport();
@@ -110,15 +127,36 @@ public class AspectModelValidationService extends TurtleService implements Resol
       final URI documentUri = URI.create( parsedDocument.getUri() );
       return documentUri.getScheme() == null
             ? new AspectModelLoader()
-            : new AspectModelLoader( resolutionStrategyService.buildResolutionStrategyForDocument( parsedDocument ) );
+            : new AspectModelLoader( workspaceModelGraph.resolutionStrategy(
+                  resolutionStrategyService.buildResolutionStrategyForDocument( parsedDocument ) ) );
    }
 
    private List<Violation> validate( final RawAspectModelFile file, final AspectModelLoader modelLoader ) {
+      checkInterrupted();
       return validator.validateModel( () -> modelLoader.loadRawAspectModelFile( file ) );
    }
 
    @Override
    public void setResolutionStrategyService( final ResolutionStrategyService resolutionStrategyService ) {
       this.resolutionStrategyService = resolutionStrategyService;
+      workspaceModelGraph.invalidateAll();
+   }
+
+   /**
+    * Validator that only evaluates the SHACL shapes for the elements of files that changed or that
+    * refer to changed files, and reuses the results for all other files from the workspace model graph.
+    */
+   private static class IncrementalAspectModelValidator extends AspectModelValidator {
+      private final WorkspaceModelGraph workspaceModelGraph;
+
+      private IncrementalAspectModelValidator( final WorkspaceModelGraph workspaceModelGraph ) {
+         this.workspaceModelGraph = workspaceModelGraph;
+      }
+
+      @Override
+      public List<Violation> validateModel( final AspectModel aspectModel ) {
+         checkInterrupted();
+         return workspaceModelGraph.validate( aspectModel, shapeViolations -> validateModel( aspectModel, shapeViolations ) );
+      }
    }
 }
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.turtle.languageserver.aspect.service;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.RDF;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategySupport;
+import org.eclipse.esmf.aspectmodel.resolver.exceptions.ModelResolutionException;
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+import org.eclipse.esmf.metamodel.AspectModel;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Keeps the Aspect Model files of the workspace that were resolved while validating open documents,
+ * the dependencies between them and the SHACL validation results of their elements. This allows
+ * validating a changed document without resolving its imports again, and without evaluating the
+ * SHACL shapes for elements that are not affected by the change.
+ * <p>
+ * A file depends on another file if it refers to an element defined in the other file. The SHACL
+ * results of a file are reused only if neither the file itself nor any of the files it (transitively)
+ * depends on changed since the results were computed. Since the content of a document that is
+ * edited is parsed again on every change, this means that its own elements and the elements of all
+ * files referring to it are validated again, while the results for all other files are reused.
+ * <p>
+ * Resolved files in the local file system are dropped when their modification time changes; files
+ * in other locations are assumed to never change. Changes can also be reported explicitly using
+ * {@link #invalidate(URI)}, which additionally drops the validation results of all files that
+ * depend on the changed file.
+ */
+public class WorkspaceModelGraph {
+   private static final long IMMUTABLE = -1L;
+
+   private final Map<URI, ResolvedFile> files = new ConcurrentHashMap<>();
+   private final Map<String, URI> definitions = new ConcurrentHashMap<>();
+   private final Map<URI, Set<URI>> dependents = new ConcurrentHashMap<>();
+   private final Map<URI, ValidationResult> validationResults = new ConcurrentHashMap<>();
+
+   private record ResolvedFile(
+         AspectModelFile file,
+         long lastModified
+   ) {}
+
+   /**
+    * The SHACL violations of the elements of a file, together with the versions (i.e., the source
+    * model instances) of the file and all files it depends on at the time of validation.
+    */
+   private record ValidationResult(
+         Model sourceModel,
+         Map<URI, Model> dependencies,
+         List<Violation> violations
+   ) {}
+
+   /**
+    * Returns a resolution strategy that resolves elements from the files kept in this graph if
+    * possible and uses the given strategy otherwise. Files resolved using the given strategy are
+    * added to the graph.
+    *
+    * @param delegate the strategy used to resolve elements that are not defined in a known file
+    * @return the resolution strategy
+    */
+   public ResolutionStrategy resolutionStrategy( final ResolutionStrategy delegate ) {
+      return new WarmResolutionStrategy( delegate );
+   }
+
+   /**
+    * Validates an Aspect Model using the given validation function, which is passed the SHACL
+    * violations of all files of the model whose previous results are still valid, see
+    * {@link org.eclipse.esmf.aspectmodel.validation.services.AspectModelValidator#validateModel(AspectModel, Map)}.
+    * The SHACL violations the function adds for the other files are kept for subsequent validations.
+    *
+    * @param aspectModel the Aspect Model
+    * @param validation the validation function
+    * @return the result of the validation function
+    */
+   public List<Violation> validate( final AspectModel aspectModel,
+         final Function<Map<AspectModelFile, List<Violation>>, List<Violation>> validation ) {
+      final Map<URI, AspectModelFile> filesByLocation = new HashMap<>();
+      for ( final AspectModelFile file : aspectModel.files() ) {
+         file.sourceLocation().map( WorkspaceModelGraph::normalize ).ifPresent( location -> filesByLocation.put( location, file ) );
+      }
+      final Map<URI, Set<URI>> fileDependencies = dependencies( filesByLocation );
+
+      final Map<AspectModelFile, List<Violation>> shapeViolations = new IdentityHashMap<>();
+      final Map<URI, Map<URI, Model>> dependencyVersions = new HashMap<>();
+      filesByLocation.forEach( ( location, file ) -> {
+         final Map<URI, Model> versions = dependencyVersions( location, fileDependencies, filesByLocation );
+         dependencyVersions.put( location, versions );
+         final ValidationResult result = validationResults.get( location );
+         if ( result != null && result.sourceModel() == file.sourceModel() && sameVersions( result.dependencies(), versions ) ) {
+            shapeViolations.put( file, result.violations() );
+         }
+      } );
+
+      final List<Violation> violations = validation.apply( shapeViolations );
+
+      filesByLocation.forEach( ( location, file ) -> {
+         final List<Violation> fileViolations = shapeViolations.get( file );
+         if ( fileViolations != null ) {
+            validationResults.put( location, new ValidationResult( file.sourceModel(), dependencyVersions.get( location ),
+                  fileViolations ) );
+         }
+         for ( final URI dependency : fileDependencies.get( location ) ) {
+            dependents.computeIfAbsent( dependency, key -> ConcurrentHashMap.newKeySet() ).add( location );
+         }
+      } );
+      return violations;
+   }
+
+   /**
+    * Returns the locations of the files that are known to refer to elements defined in the given file.
+    *
+    * @param location the location of the file
+    * @return the locations of the dependent files
+    */
+   public Set<URI> dependents( final URI location ) {
+      return Set.copyOf( dependents.getOrDefault( normalize( location ), Set.of() ) );
+   }
+
+   /**
+    * Drops the file with the given location as well as the validation results of the file and all
+    * files that (transitively) depend on it.
+    *
+    * @param fileLocation the location of the changed file
+    */
+   public void invalidate( final URI fileLocation ) {
+      final URI location = normalize( fileLocation );
+      files.remove( location );
+      definitions.values().removeIf( location::equals );
+      final Deque<URI> affected = new ArrayDeque<>( List.of( location ) );
+      final Set<URI> visited = new HashSet<>();
+      while ( !affected.isEmpty() ) {
+         final URI current = affected.pop();
+         if ( visited.add( current ) ) {
+            validationResults.remove( current );
+            affected.addAll( dependents.getOrDefault( current, Set.of() ) );
+         }
+      }
+   }
+
+   /**
+    * Drops all files and validation results.
+    */
+   public void invalidateAll() {
+      files.clear();
+      definitions.clear();
+      dependents.clear();
+      validationResults.clear();
+   }
+
+   /**
+    * Determines for each file the other files that define an element the file refers to.
+    */
+   private Map<URI, Set<URI>> dependencies( final Map<URI, AspectModelFile> filesByLocation ) {
+      final Map<String, URI> owners = new HashMap<>();
+      filesByLocation.forEach( ( location, file ) -> definedElements( file ).forEach( urn -> owners.putIfAbsent( urn, location ) ) );
+
+      final Map<URI, Set<URI>> result = new HashMap<>();
+      filesByLocation.forEach( ( location, file ) -> {
+         final Set<URI> fileDependencies = new HashSet<>();
+         file.sourceModel().listStatements().forEachRemaining( statement -> {
+            addDependency( statement.getPredicate(), owners, fileDependencies );
+            if ( statement.getObject().isURIResource() ) {
+               addDependency( statement.getObject().asResource(), owners, fileDependencies );
+            }
+         } );
+         fileDependencies.remove( location );
+         result.put( location, fileDependencies );
+      } );
+      return result;
+   }
+
+   private void addDependency( final Resource resource, final Map<String, URI> owners, final Set<URI> fileDependencies ) {
+      final URI owner = owners.get( resource.getURI() );
+      if ( owner != null ) {
+         fileDependencies.add( owner );
+      }
+   }
+
+   private Map<URI, Model> dependencyVersions( final URI location, final Map<URI, Set<URI>> fileDependencies,
+         final Map<URI, AspectModelFile> filesByLocation ) {
+      final Map<URI, Model> versions = new HashMap<>();
+      final Deque<URI> pending = new ArrayDeque<>( fileDependencies.get( location ) );
+      while ( !pending.isEmpty() ) {
+         final URI dependency = pending.pop();
+         if ( !dependency.equals( location ) && !versions.containsKey( dependency ) ) {
+            versions.put( dependency, filesByLocation.get( dependency ).sourceModel() );
+            pending.addAll( fileDependencies.get( dependency ) );
+         }
+      }
+      return versions;
+   }
+
+   private boolean sameVersions( final Map<URI, Model> previous, final Map<URI, Model> current ) {
+      return previous.size() == current.size()
+            && current.entrySet().stream().allMatch( entry -> previous.get( entry.getKey() ) == entry.getValue() );
+   }
+
+   private static Stream<String> definedElements( final AspectModelFile file ) {
+      return file.sourceModel().listStatements( null, RDF.type, (RDFNode) null )
+            .mapWith( Statement::getSubject )
+            .filterKeep( Resource::isURIResource )
+            .mapWith( Resource::getURI )
+            .toList()
+            .stream();
+   }
+
+   private static long lastModified( final URI location ) {
+      if ( "file".equals( location.getScheme() ) ) {
+         return new File( location ).lastModified();
+      }
+      return IMMUTABLE;
+   }
+
+   private static URI normalize( final URI location ) {
+      if ( "file".equals( location.getScheme() ) ) {
+         return Path.of( location ).toAbsolutePath().normalize().toFile().toURI();
+      }
+      return location;
+   }
+
+   private @Nullable AspectModelFile resolvedFile( final URI location ) {
+      final ResolvedFile resolvedFile = files.get( location );
+      if ( resolvedFile == null ) {
+         return null;
+      }
+      if ( resolvedFile.lastModified() != lastModified( location ) ) {
+         invalidate( location );
+         return null;
+      }
+      return resolvedFile.file();
+   }
+
+   private void register( final URI fileLocation, final AspectModelFile file ) {
+      final URI location = normalize( fileLocation );
+      files.put( location, new ResolvedFile( file, lastModified( location ) ) );
+      definedElements( file ).forEach( urn -> definitions.put( urn, location ) );
+   }
+
+   /**
+    * Resolution strategy that resolves elements from the files of the graph, so that the imports of
+    * a document do not need to be loaded again on every validation.
+    */
+   private class WarmResolutionStrategy implements ResolutionStrategy {
+      private final ResolutionStrategy delegate;
+
+      private WarmResolutionStrategy( final ResolutionStrategy delegate ) {
+         this.delegate = delegate;
+      }
+
+      @Override
+      public AspectModelFile apply( final AspectModelUrn aspectModelUrn, final ResolutionStrategySupport resolutionStrategySupport )
+            throws ModelResolutionException {
+         final URI location = definitions.get( aspectModelUrn.toString() );
+         final AspectModelFile cachedFile = location == null ? null : resolvedFile( location );
+         if ( cachedFile != null ) {
+            return cachedFile;
+         }
+         final AspectModelFile file = delegate.apply( aspectModelUrn, resolutionStrategySupport );
+         file.sourceLocation().ifPresent( fileLocation -> register( fileLocation, file ) );
+         return file;
+      }
+
+      @Override
+      public Stream<URI> listContents() {
+         return delegate.listContents();
+      }
+
+      @Override
+      public Stream<URI> listContentsForNamespace( final AspectModelUrn namespace ) {
+         return delegate.listContentsForNamespace( namespace );
+      }
+
+      @Override
+      public Stream<AspectModelFile> loadContents() {
+         return delegate.loadContents();
+      }
+
+      @Override
+      public Stream<AspectModelFile> loadContentsForNamespace( final AspectModelUrn namespace ) {
+         return delegate.loadContentsForNamespace( namespace );
+      }
+   }
+}
@@ -27,19 +27,39 @@ import org.jspecify.annotations.Nullable;
  */
 public class Document implements TurtleSyntaxTree.TokenProvider {
    private final String uri;
-   private Rope content;
+   private volatile Rope content;
+   private volatile FlattenedContent flattenedContent;
+
+   private record FlattenedContent(
+         Rope rope,
+         String value
+   ) {}
 
    public Document( final String uri, final String initialContent ) {
       this.uri = uri;
-      content = new Rope( initialContent );
+      content = Rope.of( initialContent );
+      flattenedContent = new FlattenedContent( content, initialContent );
    }
 
    public String uri() {
       return uri;
    }
 
+   /**
+    * Returns the content of the document as a string. The string is computed once per version of the
+    * document; to pass the content to a parser, prefer {@link #read(byte[], int)}.
+    *
+    * @return the content
+    */
    public String content() {
-      return content.toString();
+      final Rope rope = content;
+      final FlattenedContent flattened = flattenedContent;
+      if ( flattened.rope() == rope ) {
+         return flattened.value();
+      }
+      final String value = rope.toString();
+      flattenedContent = new FlattenedContent( rope, value );
+      return value;
    }
 
    public Rope rope() {
@@ -50,6 +70,17 @@ public class Document implements TurtleSyntaxTree.TokenProvider {
       return content.inputStream();
    }
 
+   /**
+    * Reads the UTF-8 encoded content of the document, see {@link Rope#read(byte[], int)}.
+    *
+    * @param buffer the buffer to write to
+    * @param offset the byte offset to read from
+    * @return the number of bytes read
+    */
+   public int read( final byte[] buffer, final int offset ) {
+      return content.read( buffer, offset );
+   }
+
    public int index( final int targetLine, final int targetColumn ) {
       return content.getIndex( targetLine, targetColumn );
    }
@@ -62,7 +93,7 @@ public class Document implements TurtleSyntaxTree.TokenProvider {
 
    public synchronized void update( final @Nullable Range range, final String newContent ) {
       if ( range == null ) {
-         content = new Rope( newContent );
+         content = Rope.of( newContent );
          return;
       }
       final Position start = range.getStart();
@@ -71,6 +102,13 @@ public class Document implements TurtleSyntaxTree.TokenProvider {
             end.getLine(), end.getCharacter(), newContent );
    }
 
+   /**
+    * Merges the small fragments the document's rope accumulates during editing.
+    */
+   public synchronized void rebalance() {
+      content = content.rebalance();
+   }
+
    @Override
    public String apply( final Location location ) {
       return subSequence( location.fromLine(), location.fromColumn(), location.toLine(), location.toColumn() );
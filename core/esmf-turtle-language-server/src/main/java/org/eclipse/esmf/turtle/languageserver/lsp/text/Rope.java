@@ -13,38 +13,63 @@
 
 package org.eclipse.esmf.turtle.languageserver.lsp.text;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+/**
+ * Immutable rope, i.e., a string represented as a binary tree of string chunks. The tree is kept
+ * height-balanced (in the manner of an AVL tree) on every concatenation and split, so that indexed
+ * access, insertion and deletion take logarithmic time. Every node caches its length in characters,
+ * its length in UTF-8 bytes and its number of linebreaks, which allows converting between
+ * line/column positions and character or byte offsets without looking at the characters of the
+ * whole document.
+ */
 public class Rope implements CharSequence {
-   private static final Logger LOG = LoggerFactory.getLogger( Rope.class );
    public static final Rope EMPTY = new Rope( "" );
 
-   String value;
-   Rope left;
-   Rope right;
-   int weight;
-   int linebreaks;
+   /**
+    * The maximum length of leaves that are created by {@link #of(String)} or by merging adjacent leaves
+    */
+   static final int MAX_LEAF_LENGTH = 2048;
+
+   final @Nullable String value;
+   final @Nullable Rope left;
+   final @Nullable Rope right;
+   final int weight;
+   final int linebreaks;
+   private final int length;
+   private final int byteLength;
+   private final int height;
 
    /**
-    * Constructs a new rope from a given string value
+    * Constructs a new rope consisting of a single leaf from a given string value. To create a rope
+    * from a large string, use {@link #of(String)}.
     *
     * @param value the value
     */
    public Rope( final String value ) {
       this.value = value;
+      left = null;
+      right = null;
       weight = value.length();
-      linebreaks = linebreaks();
+      length = value.length();
+      height = 0;
+      int lines = 0;
+      for ( int i = 0; i < value.length(); i++ ) {
+         if ( value.charAt( i ) == '\n' ) {
+            lines++;
+         }
+      }
+      linebreaks = lines;
+      byteLength = utf8Length( value, 0, value.length() );
    }
 
    /**
@@ -54,21 +79,46 @@ public class Rope implements CharSequence {
     * @param right right children
     */
    private Rope( final Rope left, final Rope right ) {
+      value = null;
       this.left = left;
       this.right = right;
-      weight = length( left );
-      linebreaks = linebreaks();
+      weight = left.length;
+      length = left.length + right.length;
+      linebreaks = left.linebreaks + right.linebreaks;
+      byteLength = left.byteLength + right.byteLength;
+      height = 1 + Math.max( left.height, right.height );
    }
 
-   public int linebreaks() {
-      return linebreaks( this );
+   /**
+    * Creates a balanced rope from a given string value, which is split into chunks of limited size.
+    *
+    * @param value the value
+    * @return the rope
+    */
+   public static Rope of( final String value ) {
+      if ( value.length() <= MAX_LEAF_LENGTH ) {
+         return new Rope( value );
+      }
+      final List<Rope> leaves = new ArrayList<>();
+      int start = 0;
+      while ( start < value.length() ) {
+         int end = Math.min( start + MAX_LEAF_LENGTH, value.length() );
+         // Do not separate surrogate pairs
+         if ( end < value.length() && Character.isHighSurrogate( value.charAt( end - 1 ) ) ) {
+            end--;
+         }
+         leaves.add( new Rope( value.substring( start, end ) ) );
+         start = end;
+      }
+      return merge( leaves, 0, leaves.size() );
    }
 
-   private int linebreaks( final Rope rope ) {
-      if ( rope.left == null ) {
-         return (int) rope.value.chars().filter( ch -> ch == '\n' ).count();
-      }
-      return linebreaks( rope.left ) + linebreaks( rope.right );
+   private boolean isLeaf() {
+      return value != null;
+   }
+
+   public int linebreaks() {
+      return linebreaks;
    }
 
    public int weight() {
@@ -82,15 +132,16 @@ public class Rope implements CharSequence {
     */
    @Override
    public int length() {
-      return length( this );
+      return length;
    }
 
-   private int length( final Rope r ) {
-      int len = 0;
-      for ( Rope rope = r; rope != null; rope = rope.right ) {
-         len += rope.weight;
-      }
-      return len;
+   /**
+    * Returns the length of the rope in bytes when encoded as UTF-8
+    *
+    * @return the length in bytes
+    */
+   public int byteLength() {
+      return byteLength;
    }
 
    /**
@@ -103,7 +154,7 @@ public class Rope implements CharSequence {
       return rope == null ? this : concat( this, rope );
    }
 
-   private @Nullable Rope concat( final @Nullable Rope rope1, final @Nullable Rope rope2 ) {
+   private static Rope concat( final @Nullable Rope rope1, final @Nullable Rope rope2 ) {
       if ( rope1 == null && rope2 == null ) {
          return EMPTY;
       } else if ( rope1 == null ) {
@@ -111,14 +162,56 @@ public class Rope implements CharSequence {
       } else if ( rope2 == null ) {
          return rope1;
       }
-      return new Rope( rope1, rope2 );
+      return join( rope1, rope2 );
+   }
+
+   /**
+    * Joins two balanced ropes into a balanced rope. Small adjacent leaves are merged, so that repeated
+    * small edits do not fragment the rope into single characters.
+    */
+   private static Rope join( final Rope left, final Rope right ) {
+      if ( left.length == 0 ) {
+         return right;
+      }
+      if ( right.length == 0 ) {
+         return left;
+      }
+      if ( left.isLeaf() && right.isLeaf() && left.length + right.length <= MAX_LEAF_LENGTH ) {
+         return new Rope( left.value + right.value );
+      }
+      if ( left.height > right.height + 1 ) {
+         return balance( left.left, join( left.right, right ) );
+      }
+      if ( right.height > left.height + 1 ) {
+         return balance( join( left, right.left ), right.right );
+      }
+      if ( right.isLeaf() && left.height == 1 && left.right.length + right.length <= MAX_LEAF_LENGTH ) {
+         return new Rope( left.left, join( left.right, right ) );
+      }
+      if ( left.isLeaf() && right.height == 1 && left.length + right.left.length <= MAX_LEAF_LENGTH ) {
+         return new Rope( join( left, right.left ), right.right );
+      }
+      return new Rope( left, right );
    }
 
-   private char charAt( final Rope node, final int index ) {
-      if ( node.left == null ) {
-         return node.value.charAt( index );
+   /**
+    * Creates a node from two balanced subtrees whose heights differ by at most two, rotating it if
+    * necessary to restore the balance.
+    */
+   private static Rope balance( final Rope left, final Rope right ) {
+      if ( left.height > right.height + 1 ) {
+         if ( left.left.height >= left.right.height ) {
+            return new Rope( left.left, new Rope( left.right, right ) );
+         }
+         return new Rope( new Rope( left.left, left.right.left ), new Rope( left.right.right, right ) );
+      }
+      if ( right.height > left.height + 1 ) {
+         if ( right.right.height >= right.left.height ) {
+            return new Rope( new Rope( left, right.left ), right.right );
+         }
+         return new Rope( new Rope( left, right.left.left ), new Rope( right.left.right, right.right ) );
       }
-      return node.weight > index ? charAt( node.left, index ) : charAt( node.right, index - node.weight );
+      return new Rope( left, right );
    }
 
    /**
@@ -130,7 +223,17 @@ public class Rope implements CharSequence {
     */
    @Override
    public char charAt( final int index ) {
-      return charAt( this, index );
+      Rope node = this;
+      int nodeIndex = index;
+      while ( !node.isLeaf() ) {
+         if ( nodeIndex < node.weight ) {
+            node = node.left;
+         } else {
+            nodeIndex -= node.weight;
+            node = node.right;
+         }
+      }
+      return node.value.charAt( nodeIndex );
    }
 
    /**
@@ -145,10 +248,10 @@ public class Rope implements CharSequence {
       return split( this, index );
    }
 
-   private @Nullable Rope @NonNull [] split( final Rope node, final int index ) {
+   private static @Nullable Rope @NonNull [] split( final Rope node, final int index ) {
       final Rope node0;
       final Rope node1;
-      if ( node.left == null ) {
+      if ( node.isLeaf() ) {
          if ( index == 0 ) {
             node0 = null;
             node1 = node;
@@ -183,6 +286,9 @@ public class Rope implements CharSequence {
     */
    @Override
    public @NonNull Rope subSequence( final int start, final int end ) {
+      if ( start >= end ) {
+         return EMPTY;
+      }
       final Rope result = split( start )[1].split( end - start )[0];
       return result == null ? EMPTY : result;
    }
@@ -217,22 +323,6 @@ public class Rope implements CharSequence {
       return result == null ? EMPTY : result;
    }
 
-   /**
-    * Returns the index of the nth linebreak in a string, or -1 if no nth linebreak exists
-    *
-    * @param string the text to search in
-    * @param n the number of the linebreak
-    * @return the index or -1
-    */
-   private static int indexOfNthLinebreak( final String string, final int n ) {
-      int counter = n;
-      int pos = string.indexOf( '\n' );
-      while ( --counter > 0 && pos != -1 ) {
-         pos = string.indexOf( '\n', pos + 1 );
-      }
-      return pos;
-   }
-
    public Rope update( final int startLine, final int startColumn, final int endLine, final int endColumn, final String newContent ) {
       final int startIndex = getIndex( startLine, startColumn );
       final int endIndex = getIndex( endLine, endColumn );
@@ -241,9 +331,17 @@ public class Rope implements CharSequence {
       final Rope resultAfterDeletion = startIndex == endIndex
             ? this
             : delete( startIndex, endIndex - startIndex + offset );
-      return newContent.isEmpty() ? resultAfterDeletion : resultAfterDeletion.insert( new Rope( newContent ), startIndex );
+      return newContent.isEmpty() ? resultAfterDeletion : resultAfterDeletion.insert( of( newContent ), startIndex );
    }
 
+   /**
+    * Returns the character index of a line/column position. The column is added to the index of the
+    * start of the line without checking the length of the line.
+    *
+    * @param targetLine the 0-based line
+    * @param targetColumn the 0-based column
+    * @return the character index, or -1 for negative positions
+    */
    public int getIndex( final int targetLine, final int targetColumn ) {
       if ( targetLine == 0 ) {
          return targetColumn;
@@ -251,21 +349,95 @@ public class Rope implements CharSequence {
       if ( targetLine < 0 || targetColumn < 0 ) {
          return -1;
       }
+      return lineStartIndex( targetLine ) + targetColumn;
+   }
 
-      int currentIndex = 0;
-      int currentLine = 0;
-      final int length = length();
+   /**
+    * Returns the index after the given number of linebreaks, or the length of the rope if it contains
+    * fewer linebreaks.
+    */
+   private int lineStartIndex( final int line ) {
+      if ( line > linebreaks ) {
+         return length;
+      }
+      Rope node = this;
+      int remainingLinebreaks = line;
+      int index = 0;
+      while ( !node.isLeaf() ) {
+         if ( remainingLinebreaks <= node.left.linebreaks ) {
+            node = node.left;
+         } else {
+            remainingLinebreaks -= node.left.linebreaks;
+            index += node.weight;
+            node = node.right;
+         }
+      }
+      int position = -1;
+      for ( int i = 0; i < remainingLinebreaks; i++ ) {
+         position = node.value.indexOf( '\n', position + 1 );
+      }
+      return index + position + 1;
+   }
 
-      // Traverse the rope character by character until we reach the target line
-      while ( currentIndex < length && currentLine < targetLine ) {
-         if ( charAt( currentIndex ) == '\n' ) {
-            currentLine++;
+   /**
+    * Returns the offset in the UTF-8 encoded rope that corresponds to the given character index.
+    *
+    * @param index the character index
+    * @return the byte offset
+    */
+   public int byteIndex( final int index ) {
+      if ( index >= length ) {
+         return byteLength + index - length;
+      }
+      Rope node = this;
+      int nodeIndex = index;
+      int byteIndex = 0;
+      while ( !node.isLeaf() ) {
+         if ( nodeIndex < node.weight ) {
+            node = node.left;
+         } else {
+            nodeIndex -= node.weight;
+            byteIndex += node.left.byteLength;
+            node = node.right;
          }
-         currentIndex++;
       }
+      return byteIndex + utf8Length( node.value, 0, nodeIndex );
+   }
+
+   /**
+    * Returns the offset in the UTF-8 encoded rope of a line/column position.
+    *
+    * @param targetLine the 0-based line
+    * @param targetColumn the 0-based column
+    * @return the byte offset, or -1 for negative positions
+    */
+   public int getByteIndex( final int targetLine, final int targetColumn ) {
+      final int index = getIndex( targetLine, targetColumn );
+      return index < 0 ? -1 : byteIndex( index );
+   }
 
-      // Add the column offset
-      return currentIndex + targetColumn;
+   /**
+    * Returns the number of bytes that the given section of a string occupies when encoded as UTF-8,
+    * consistent with {@link String#getBytes(Charset)}, which encodes unpaired surrogates as one byte.
+    */
+   private static int utf8Length( final String string, final int start, final int end ) {
+      int result = 0;
+      for ( int i = start; i < end; i++ ) {
+         final char character = string.charAt( i );
+         if ( character < 0x80 ) {
+            result += 1;
+         } else if ( character < 0x800 ) {
+            result += 2;
+         } else if ( Character.isHighSurrogate( character ) && i + 1 < end && Character.isLowSurrogate( string.charAt( i + 1 ) ) ) {
+            result += 4;
+            i++;
+         } else if ( Character.isSurrogate( character ) ) {
+            result += 1;
+         } else {
+            result += 3;
+         }
+      }
+      return result;
    }
 
    /**
@@ -287,29 +459,49 @@ public class Rope implements CharSequence {
             indentString, print( rope.right, indentation + 2 ) );
    }
 
+   /**
+    * Returns a perfectly balanced rope with the same content, in which adjacent small leaves are
+    * merged. Since ropes are kept balanced on every operation, this is only useful to defragment the
+    * leaves of a rope after many edits.
+    *
+    * @return the rebalanced rope
+    */
    public Rope rebalance() {
-      final Rope[] leaves = leaves();
-      return merge( leaves, 0, leaves.length );
+      final List<Rope> leaves = new ArrayList<>();
+      final StringBuilder pending = new StringBuilder();
+      for ( final Rope leaf : leaves() ) {
+         if ( pending.length() + leaf.length > MAX_LEAF_LENGTH && !pending.isEmpty() ) {
+            leaves.add( new Rope( pending.toString() ) );
+            pending.setLength( 0 );
+         }
+         pending.append( leaf.value );
+      }
+      if ( !pending.isEmpty() || leaves.isEmpty() ) {
+         leaves.add( new Rope( pending.toString() ) );
+      }
+      return merge( leaves, 0, leaves.size() );
    }
 
-   private Rope[] leaves() {
-      if ( left == null && right == null ) {
-         return new Rope[] { this };
+   private List<Rope> leaves() {
+      final List<Rope> result = new ArrayList<>();
+      final Deque<Rope> stack = new ArrayDeque<>();
+      stack.push( this );
+      while ( !stack.isEmpty() ) {
+         final Rope node = stack.pop();
+         if ( node.isLeaf() ) {
+            result.add( node );
+         } else {
+            stack.push( node.right );
+            stack.push( node.left );
+         }
       }
-      final Rope[] leftLeaves = left == null ? new Rope[0] : left.leaves();
-      final Rope[] rightLeaves = right == null ? new Rope[0] : right.leaves();
-      final Rope[] result = Arrays.copyOf( leftLeaves, leftLeaves.length + rightLeaves.length );
-      System.arraycopy( rightLeaves, 0, result, leftLeaves.length, rightLeaves.length );
       return result;
    }
 
-   private Rope merge( final Rope[] leaves, final int start, final int end ) {
+   private static Rope merge( final List<Rope> leaves, final int start, final int end ) {
       final int range = end - start;
       if ( range == 1 ) {
-         return leaves[start];
-      }
-      if ( range == 2 ) {
-         return new Rope( leaves[start], leaves[start + 1] );
+         return leaves.get( start );
       }
       final int mid = start + ( range / 2 );
       return new Rope( merge( leaves, start, mid ), merge( leaves, mid, end ) );
@@ -317,11 +509,14 @@ public class Rope implements CharSequence {
 
    @Override
    public @NonNull String toString() {
-      try ( final InputStream inputStream = inputStream( StandardCharsets.UTF_8 ) ) {
-         return new String( inputStream.readAllBytes(), StandardCharsets.UTF_8 );
-      } catch ( final IOException exception ) {
-         throw new RuntimeException( exception );
+      if ( isLeaf() ) {
+         return value;
       }
+      final StringBuilder builder = new StringBuilder( length );
+      for ( final Rope leaf : leaves() ) {
+         builder.append( leaf.value );
+      }
+      return builder.toString();
    }
 
    /**
@@ -340,7 +535,7 @@ public class Rope implements CharSequence {
          return false;
       }
       final Rope rope = (Rope) object;
-      return rope.toString().equals( toString() );
+      return rope.length == length && rope.toString().equals( toString() );
    }
 
    @Override
@@ -357,27 +552,41 @@ public class Rope implements CharSequence {
    }
 
    /**
-    * Reads at most many bytes from the given offset into the buffer array, as the array provides, or
-    * fewer, if
-    * not as many are left at the offset. Returns 0 if the end of the source code was reached,
-    * otherwise the number of bytes read.
+    * Reads the UTF-8 encoded content of the rope, starting at the given byte offset, into the buffer,
+    * until either the buffer is full or the end of the rope is reached. Only the leaves that overlap
+    * the requested section are encoded. This can be used to stream the rope into a parser without
+    * converting it into a string first.
     *
-    * @param buffer the buffer to write to
-    * @param offset offset to read from
-    * @return the number of bytes read
+    * @param buffer the buffer to write to, starting at index 0
+    * @param offset the byte offset in the encoded rope to read from
+    * @return the number of bytes read, or 0 if the end of the rope was reached
     */
    public int read( final byte[] buffer, final int offset ) {
-      if ( buffer == null || offset < 0 || offset >= buffer.length ) {
+      if ( buffer == null || offset < 0 || offset >= byteLength ) {
          return 0;
       }
 
-      try ( final InputStream stream = inputStream( StandardCharsets.UTF_8 ) ) {
-         final int bytesRead = stream.read( buffer, offset, buffer.length );
-         return bytesRead == -1 ? 0 : bytesRead;
-      } catch ( final Exception exception ) {
-         LOG.debug( "Exception while reading document content", exception );
-         return 0;
+      int bytesRead = 0;
+      int position = offset;
+      while ( bytesRead < buffer.length && position < byteLength ) {
+         // Find the leaf containing the current position
+         Rope node = this;
+         int leafOffset = position;
+         while ( !node.isLeaf() ) {
+            if ( leafOffset < node.left.byteLength ) {
+               node = node.left;
+            } else {
+               leafOffset -= node.left.byteLength;
+               node = node.right;
+            }
+         }
+         final byte[] bytes = node.value.getBytes( StandardCharsets.UTF_8 );
+         final int count = Math.min( bytes.length - leafOffset, buffer.length - bytesRead );
+         System.arraycopy( bytes, leafOffset, buffer, bytesRead, count );
+         bytesRead += count;
+         position += count;
       }
+      return bytesRead;
    }
 
    public class RopeInputStream extends InputStream {
@@ -397,7 +606,7 @@ public class Rope implements CharSequence {
       private void pushLeftmostPath( final Rope node ) {
          Rope current = node;
          while ( current != null ) {
-            if ( current.left == null ) {
+            if ( current.isLeaf() ) {
                currentBytes = current.value.getBytes( encoding );
                currentPosition = 0;
                break;
@@ -26,6 +26,7 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.jspecify.annotations.Nullable;
 import org.treesitter.TSInputEdit;
+import org.treesitter.TSInputEncoding;
 import org.treesitter.TSLanguage;
 import org.treesitter.TSParser;
 import org.treesitter.TSPoint;
@@ -36,6 +37,11 @@ import org.treesitter.TSTree;
  * Supports incremental parsing for efficient updates when documents change.
  */
 public class TreeSitterTurtleParserService implements Function<Document, ParsedDocument> {
+   /**
+    * Size of the buffer that chunks of the document are read into during parsing
+    */
+   private static final int READ_BUFFER_SIZE = 64 * 1024;
+
    private final TSParser parser;
    private final Map<Document, TSTree> syntaxTrees = new HashMap<>();
    private final Map<Document, Rope> previousDocumentStates = new WeakHashMap<>();
@@ -52,8 +58,23 @@ public class TreeSitterTurtleParserService implements Function<Document, ParsedD
    }
 
    private TSTree parseDocument( final Document document ) {
-      previousDocumentStates.put( document, document.rope() );
-      return parser.parseString( null, document.content() );
+      final Rope rope = document.rope();
+      previousDocumentStates.put( document, rope );
+      return parse( null, rope );
+   }
+
+   /**
+    * Parses the given rope, streaming its content into the parser chunk by chunk instead of converting
+    * it into a string first.
+    *
+    * @param oldTree the previous syntax tree of the document, if it is parsed incrementally
+    * @param rope the content of the document
+    * @return the new syntax tree
+    */
+   private TSTree parse( final @Nullable TSTree oldTree, final Rope rope ) {
+      final byte[] buffer = new byte[READ_BUFFER_SIZE];
+      return parser.parse( buffer, oldTree, ( final byte[] chunk, final int offset, final TSPoint position ) ->
+            rope.read( chunk, offset ), TSInputEncoding.TSInputEncodingUTF8 );
    }
 
    /**
@@ -75,8 +96,8 @@ public class TreeSitterTurtleParserService implements Function<Document, ParsedD
 
       final TSPoint startPoint = new TSPoint( startPos.getLine(), startPos.getCharacter() );
       final TSPoint oldEndPoint = new TSPoint( endPos.getLine(), endPos.getCharacter() );
-      final int startByte = oldRope.getIndex( startPos.getLine(), startPos.getCharacter() );
-      final int oldEndByte = oldRope.getIndex( endPos.getLine(), endPos.getCharacter() );
+      final int startByte = oldRope.getByteIndex( startPos.getLine(), startPos.getCharacter() );
+      final int oldEndByte = oldRope.getByteIndex( endPos.getLine(), endPos.getCharacter() );
       final TSPoint newEndPoint = calculateNewEndPoint( startPoint, newText );
       final int newEndByte = startByte + newText.getBytes( StandardCharsets.UTF_8 ).length;
       return new TSInputEdit( startByte, oldEndByte, newEndByte, startPoint, oldEndPoint, newEndPoint );
@@ -134,8 +155,9 @@ public class TreeSitterTurtleParserService implements Function<Document, ParsedD
       }
 
       oldTree.edit( edit );
-      final TSTree newTree = parser.parseString( oldTree, document.content() );
+      final Rope rope = document.rope();
+      final TSTree newTree = parse( oldTree, rope );
       syntaxTrees.put( document, newTree );
-      previousDocumentStates.put( document, document.rope() );
+      previousDocumentStates.put( document, rope );
    }
 }
@@ -166,7 +166,7 @@ public class TurtleTextDocumentService implements TextDocumentService {
          LOG.warn( "[didSave] received save for unknown document: {}", uri );
          return;
       }
-      document.rope().rebalance();
+      document.rebalance();
       turtleParserService.onOpen( document );
       final ParsedDocument parsedDocument = turtleParserService.apply( document );
       validationCoordinator.onDocumentSaved( parsedDocument );
@@ -180,6 +180,8 @@ public class TurtleTextDocumentService implements TextDocumentService {
       if ( document == null ) {
          return CompletableFuture.completedFuture( new SemanticTokens( List.of() ) );
       }
+      // Clients request semantic tokens for the documents that are visible in the editor
+      validationCoordinator.onDocumentActivated( document );
       return CompletableFuture.supplyAsync( () -> tokenService.buildSemanticTokens( document ), asyncExecutor );
    }
 
@@ -13,16 +13,21 @@
 
 package org.eclipse.esmf.turtle.languageserver.turtle;
 
+import static org.eclipse.esmf.aspectmodel.ConcurrencyUtil.checkInterrupted;
+
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
@@ -32,29 +37,84 @@ import org.eclipse.esmf.turtle.languageserver.lsp.diagnostic.DiagnosticsProvider
 import org.eclipse.esmf.turtle.languageserver.lsp.text.Document;
 import org.eclipse.esmf.turtle.languageserver.lsp.text.ParsedDocument;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Runs the diagnostics providers for documents: {@link DiagnosticsProvider.Type#FAST} providers run
+ * synchronously on every change, {@link DiagnosticsProvider.Type#DELAYED} providers run on a bounded
+ * pool of worker threads once the document has not been changed for a while. The idle delay adapts
+ * to the measured duration of the document's previous validations.
+ * <p>
+ * Queued validations of the active document, i.e., the document that was opened, changed or saved
+ * most recently or that was reported using {@link #onDocumentActivated(Document)}, run before the
+ * validations of other documents. Cancelled validations are removed from the queue; running ones
+ * are interrupted, and the diagnostics providers are expected to stop their work when they notice
+ * the interruption (see {@link org.eclipse.esmf.aspectmodel.ConcurrencyUtil#checkInterrupted()}).
+ */
 public class ValidationCoordinator implements AutoCloseable {
+   /**
+    * The default number of worker threads for delayed validations
+    */
+   public static final int DEFAULT_WORKERS = Math.max( 1, Runtime.getRuntime().availableProcessors() / 2 );
+
    private static final Logger LOG = LoggerFactory.getLogger( ValidationCoordinator.class );
-   private static final long IDLE_VALIDATION_DELAY_SECONDS = 4L;
+   private static final Duration DEFAULT_IDLE_VALIDATION_DELAY = Duration.ofSeconds( 4 );
+   private static final Duration MIN_IDLE_VALIDATION_DELAY = Duration.ofMillis( 750 );
+   private static final Duration MAX_IDLE_VALIDATION_DELAY = Duration.ofSeconds( 10 );
+   private static final long IDLE_DELAY_PER_VALIDATION_TIME = 3L;
 
    private final List<DiagnosticsProvider> diagnosticsProviders;
    private final BiConsumer<Document, DiagnosticReport> onValidationComplete;
-   private final ExecutorService executorService;
+   private final ThreadPoolExecutor executorService;
    private final ScheduledExecutorService scheduler;
+   private final AtomicLong sequence = new AtomicLong();
+   private volatile @Nullable Document activeDocument;
 
-   private final Map<Document, CompletableFuture<?>> runningValidations = new ConcurrentHashMap<>();
+   private final Map<Document, ValidationTask> runningValidations = new ConcurrentHashMap<>();
    private final Map<Document, ScheduledFuture<?>> scheduledValidations = new ConcurrentHashMap<>();
    private final Map<Document, AtomicLong> generations = new ConcurrentHashMap<>();
    private final Map<Document, DiagnosticReport> fastValidationResults = new ConcurrentHashMap<>();
+   private final Map<Document, ValidationTiming> validationTimings = new ConcurrentHashMap<>();
+
+   /**
+    * The priority of a queued validation
+    */
+   private enum Priority {
+      ACTIVE,
+      BACKGROUND
+   }
+
+   /**
+    * Timing information about the most recent delayed validation of a document.
+    *
+    * @param queueingDelay the time between submitting the validation and the start of its execution
+    * @param validationTime the time the diagnostics providers took to validate the document
+    * @param averageValidationTime the exponentially weighted average of the validation times of the
+    *        document, which is used to compute the idle delay
+    */
+   public record ValidationTiming(
+         Duration queueingDelay,
+         Duration validationTime,
+         Duration averageValidationTime
+   ) {}
 
    public ValidationCoordinator(
          final List<DiagnosticsProvider> diagnosticsProviders,
          final BiConsumer<Document, DiagnosticReport> onValidationComplete ) {
+      this( diagnosticsProviders, onValidationComplete, DEFAULT_WORKERS );
+   }
+
+   public ValidationCoordinator(
+         final List<DiagnosticsProvider> diagnosticsProviders,
+         final BiConsumer<Document, DiagnosticReport> onValidationComplete,
+         final int workers ) {
       this.diagnosticsProviders = diagnosticsProviders;
       this.onValidationComplete = onValidationComplete;
-      executorService = Executors.newSingleThreadExecutor( Thread.ofPlatform().name( "semantic-models-validation-", 0 ).factory() );
+      executorService = new ThreadPoolExecutor( workers, workers, 30L, TimeUnit.SECONDS, new PriorityBlockingQueue<>(),
+            Thread.ofPlatform().name( "semantic-models-validation-", 0 ).factory() );
+      executorService.allowCoreThreadTimeOut( true );
       scheduler = Executors.newSingleThreadScheduledExecutor(
             Thread.ofPlatform().name( "semantic-models-validation-debounce-", 0 ).factory() );
    }
@@ -71,22 +131,43 @@ public class ValidationCoordinator implements AutoCloseable {
 
    public void onDocumentOpened( final ParsedDocument parsedDocument ) {
       cancelRunningValidation( parsedDocument.sourceDocument() );
+      onDocumentActivated( parsedDocument.sourceDocument() );
       validateFast( parsedDocument );
       validateAsync( parsedDocument );
    }
 
    public void onDocumentChanged( final ParsedDocument parsedDocument ) {
       cancelRunningValidation( parsedDocument.sourceDocument() );
+      onDocumentActivated( parsedDocument.sourceDocument() );
       onValidationComplete.accept( parsedDocument.sourceDocument(), validateFast( parsedDocument ) );
       rescheduleValidation( parsedDocument );
    }
 
    public void onDocumentSaved( final ParsedDocument parsedDocument ) {
       cancelRunningValidation( parsedDocument.sourceDocument() );
+      onDocumentActivated( parsedDocument.sourceDocument() );
       onValidationComplete.accept( parsedDocument.sourceDocument(), validateFast( parsedDocument ) );
       rescheduleValidation( parsedDocument );
    }
 
+   /**
+    * Marks a document as the active document, e.g., because it is visible in the editor. A queued
+    * validation of the document is moved to the front of the queue.
+    *
+    * @param document the document
+    */
+   public void onDocumentActivated( final Document document ) {
+      final Document previous = activeDocument;
+      activeDocument = document;
+      if ( previous == document ) {
+         return;
+      }
+      if ( previous != null ) {
+         reprioritize( previous, Priority.BACKGROUND );
+      }
+      reprioritize( document, Priority.ACTIVE );
+   }
+
    public void onDocumentClosed( final Document document ) {
       if ( document == null ) {
          return;
@@ -94,13 +175,27 @@ public class ValidationCoordinator implements AutoCloseable {
       cancelScheduledValidation( document );
       cancelRunningValidation( document );
       generations.remove( document );
+      validationTimings.remove( document );
+      if ( activeDocument == document ) {
+         activeDocument = null;
+      }
+   }
+
+   /**
+    * Returns timing information about the most recent delayed validation of a document.
+    *
+    * @param document the document
+    * @return the timing information, or empty if the document has not been validated yet
+    */
+   public Optional<ValidationTiming> validationTiming( final Document document ) {
+      return Optional.ofNullable( validationTimings.get( document ) );
    }
 
    @Override
    public void close() {
       scheduledValidations.values().forEach( f -> f.cancel( false ) );
       scheduledValidations.clear();
-      runningValidations.values().forEach( f -> f.cancel( true ) );
+      runningValidations.values().forEach( ValidationTask::cancel );
       runningValidations.clear();
       scheduler.shutdownNow();
       executorService.shutdownNow();
@@ -109,18 +204,37 @@ public class ValidationCoordinator implements AutoCloseable {
    private void rescheduleValidation( final ParsedDocument parsedDocument ) {
       final Document document = parsedDocument.sourceDocument();
       cancelScheduledValidation( document );
+      final Duration delay = idleValidationDelay( document );
       final ScheduledFuture<?> task = scheduler.schedule(
             () -> {
                scheduledValidations.remove( document );
-               LOG.debug( "[debounce] idle timeout reached, submitting document validation for URI={}", document.uri() );
+               LOG.debug( "[debounce] idle timeout of {}ms reached, submitting document validation for URI={}", delay.toMillis(),
+                     document.uri() );
                validateAsync( parsedDocument );
             },
-            IDLE_VALIDATION_DELAY_SECONDS,
-            TimeUnit.SECONDS
+            delay.toMillis(),
+            TimeUnit.MILLISECONDS
       );
       scheduledValidations.put( document, task );
    }
 
+   /**
+    * Computes how long to wait after the last change of a document before validating it: a multiple
+    * of its average validation time, so that cheap validations give feedback quickly while expensive
+    * ones are not started repeatedly while the user is still typing.
+    */
+   private Duration idleValidationDelay( final Document document ) {
+      final ValidationTiming timing = validationTimings.get( document );
+      if ( timing == null ) {
+         return DEFAULT_IDLE_VALIDATION_DELAY;
+      }
+      final Duration delay = timing.averageValidationTime().multipliedBy( IDLE_DELAY_PER_VALIDATION_TIME );
+      if ( delay.compareTo( MIN_IDLE_VALIDATION_DELAY ) < 0 ) {
+         return MIN_IDLE_VALIDATION_DELAY;
+      }
+      return delay.compareTo( MAX_IDLE_VALIDATION_DELAY ) > 0 ? MAX_IDLE_VALIDATION_DELAY : delay;
+   }
+
    private void cancelScheduledValidation( final Document document ) {
       final ScheduledFuture<?> pending = scheduledValidations.remove( document );
       if ( pending != null ) {
@@ -129,10 +243,18 @@ public class ValidationCoordinator implements AutoCloseable {
    }
 
    private void cancelRunningValidation( final Document document ) {
-      final CompletableFuture<?> previous = runningValidations.remove( document );
+      final ValidationTask previous = runningValidations.remove( document );
       if ( previous != null ) {
          LOG.debug( "[cancel] cancelling in-flight document validation for URI={}", document.uri() );
-         previous.cancel( true );
+         previous.cancel();
+      }
+   }
+
+   private void reprioritize( final Document document, final Priority priority ) {
+      final ValidationTask task = runningValidations.get( document );
+      if ( task != null && task.priority != priority && executorService.remove( task ) ) {
+         task.priority = priority;
+         executorService.execute( task );
       }
    }
 
@@ -140,13 +262,12 @@ public class ValidationCoordinator implements AutoCloseable {
       final Document document = parsedDocument.sourceDocument();
       cancelRunningValidation( document );
       final long generation = generations.computeIfAbsent( document, ignored -> new AtomicLong() ).incrementAndGet();
-      final CompletableFuture<DiagnosticReport> future = CompletableFuture.supplyAsync(
-            () -> validate( parsedDocument ),
-            executorService
-      );
-      runningValidations.put( document, future );
+      final ValidationTask task = new ValidationTask( parsedDocument,
+            document == activeDocument ? Priority.ACTIVE : Priority.BACKGROUND );
+      final CompletableFuture<DiagnosticReport> future = task.future;
+      runningValidations.put( document, task );
       future.whenComplete( ( result, throwable ) -> {
-         runningValidations.remove( document, future );
+         runningValidations.remove( document, task );
          final Throwable failure = unwrap( throwable );
          if ( failure instanceof CancellationException || future.isCancelled() ) {
             LOG.debug( "[cancel] document validation cancelled for URI={}", document.uri() );
@@ -164,6 +285,7 @@ public class ValidationCoordinator implements AutoCloseable {
          }
          onValidationComplete.accept( document, result );
       } );
+      executorService.execute( task );
       return future;
    }
 
@@ -176,10 +298,82 @@ public class ValidationCoordinator implements AutoCloseable {
             .merge( fastValidationResults.getOrDefault( parsedDocument.sourceDocument(), DiagnosticReport.EMPTY ) );
    }
 
+   private void recordTiming( final Document document, final long queueingNanos, final long validationNanos ) {
+      final ValidationTiming previous = validationTimings.get( document );
+      final long averageNanos = previous == null
+            ? validationNanos
+            : ( previous.averageValidationTime().toNanos() + validationNanos ) / 2;
+      final ValidationTiming timing = new ValidationTiming( Duration.ofNanos( queueingNanos ), Duration.ofNanos( validationNanos ),
+            Duration.ofNanos( averageNanos ) );
+      validationTimings.put( document, timing );
+      LOG.debug( "[timing] URI={}, queued={}ms, validation={}ms, average={}ms", document.uri(), timing.queueingDelay().toMillis(),
+            timing.validationTime().toMillis(), timing.averageValidationTime().toMillis() );
+   }
+
    private Throwable unwrap( final Throwable throwable ) {
       if ( throwable instanceof CompletionException && throwable.getCause() != null ) {
          return throwable.getCause();
       }
       return throwable;
    }
+
+   /**
+    * A queued or running delayed validation of a document. Tasks are ordered by priority; tasks of
+    * the same priority are ordered newest first, since the most recently opened document is the one
+    * most likely to be visible.
+    */
+   private final class ValidationTask implements Runnable, Comparable<ValidationTask> {
+      private final ParsedDocument parsedDocument;
+      private final CompletableFuture<DiagnosticReport> future = new CompletableFuture<>();
+      private final long sequenceNumber = sequence.incrementAndGet();
+      private final long submitted = System.nanoTime();
+      private volatile Priority priority;
+      private @Nullable Thread worker;
+
+      private ValidationTask( final ParsedDocument parsedDocument, final Priority priority ) {
+         this.parsedDocument = parsedDocument;
+         this.priority = priority;
+      }
+
+      @Override
+      public void run() {
+         synchronized ( this ) {
+            if ( future.isDone() ) {
+               return;
+            }
+            worker = Thread.currentThread();
+         }
+         try {
+            final long started = System.nanoTime();
+            final DiagnosticReport report = validate( parsedDocument );
+            checkInterrupted();
+            recordTiming( parsedDocument.sourceDocument(), started - submitted, System.nanoTime() - started );
+            future.complete( report );
+         } catch ( final Throwable throwable ) {
+            future.completeExceptionally( throwable );
+         } finally {
+            synchronized ( this ) {
+               worker = null;
+               // Clear the interrupt flag of a cancellation, the worker thread is reused for other tasks
+               Thread.interrupted();
+            }
+         }
+      }
+
+      private void cancel() {
+         future.cancel( false );
+         executorService.remove( this );
+         synchronized ( this ) {
+            if ( worker != null ) {
+               worker.interrupt();
+            }
+         }
+      }
+
+      @Override
+      public int compareTo( final ValidationTask other ) {
+         final int byPriority = priority.compareTo( other.priority );
+         return byPriority != 0 ? byPriority : Long.compare( other.sequenceNumber, sequenceNumber );
+      }
+   }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Robert Bosch Manufacturing Solutions GmbH
+ *
+ * See the AUTHORS file(s) distributed with this work for additional
+ * information regarding authorship.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+package org.eclipse.esmf.turtle.languageserver.aspect.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.eclipse.esmf.aspectmodel.AspectModelFile;
+import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
+import org.eclipse.esmf.aspectmodel.resolver.FileSystemStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategy;
+import org.eclipse.esmf.aspectmodel.resolver.ResolutionStrategySupport;
+import org.eclipse.esmf.aspectmodel.resolver.fs.StructuredModelsRoot;
+import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
+import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
+import org.eclipse.esmf.aspectmodel.validation.services.AspectModelValidator;
+import org.eclipse.esmf.metamodel.AspectModel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+
+class WorkspaceModelGraphTest {
+   private static final String PREFIXES = """
+         @prefix samm: <urn:samm:org.eclipse.esmf.samm:meta-model:2.2.0#> .
+         @prefix samm-c: <urn:samm:org.eclipse.esmf.samm:characteristic:2.2.0#> .
+         @prefix : <urn:samm:org.eclipse.esmf.test:1.0.0#> .
+
+         """;
+
+   // The shared property lacks its characteristic, so that the shared file has a SHACL violation
+   private static final String SHARED = PREFIXES + """
+         :sharedProperty a samm:Property .
+         """;
+
+   private static final String DOCUMENT = PREFIXES + """
+         :Aspect a samm:Aspect ;
+            samm:properties ( :sharedProperty :ownProperty ) ;
+            samm:operations ( ) .
+
+         :ownProperty a samm:Property ;
+            samm:characteristic samm-c:Text .
+         """;
+
+   private final AspectModelValidator validator = new AspectModelValidator();
+   private WorkspaceModelGraph graph;
+   private CountingStrategy strategy;
+   private URI documentLocation;
+
+   // Do not clean tempDir to work around file locking issues on windows
+   @TempDir( cleanup = CleanupMode.NEVER )
+   Path modelsRoot;
+
+   @BeforeEach
+   void setUp() throws IOException {
+      final Path namespaceDirectory = Files.createDirectories( modelsRoot.resolve( "org.eclipse.esmf.test" ).resolve( "1.0.0" ) );
+      Files.writeString( namespaceDirectory.resolve( "sharedProperty.ttl" ), SHARED );
+      documentLocation = namespaceDirectory.resolve( "Aspect.ttl" ).toUri();
+      graph = new WorkspaceModelGraph();
+      strategy = new CountingStrategy( new FileSystemStrategy( new StructuredModelsRoot( modelsRoot ) ) );
+   }
+
+   private AspectModel loadDocument() {
+      return new AspectModelLoader( graph.resolutionStrategy( strategy ) ).load( DOCUMENT, documentLocation );
+   }
+
+   @Test
+   void testResolvedFilesAreReused() {
+      final AspectModel first = loadDocument();
+      final AspectModel second = loadDocument();
+
+      assertThat( strategy.calls ).hasValue( 1 );
+      assertThat( sharedFile( second ).sourceModel() ).isSameAs( sharedFile( first ).sourceModel() );
+   }
+
+   @Test
+   void testIncrementalValidationMatchesFullValidation() {
+      final AspectModel aspectModel = loadDocument();
+      final List<Violation> incrementalViolations = graph.validate( aspectModel,
+            shapeViolations -> validator.validateModel( aspectModel, shapeViolations ) );
+      final List<Violation> fullViolations = validator.validateModel( aspectModel );
+
+      assertThat( incrementalViolations ).isNotEmpty();
+      assertThat( incrementalViolations.stream().map( Violation::message ) )
+            .containsExactlyInAnyOrderElementsOf( fullViolations.stream().map( Violation::message ).toList() );
+   }
+
+   @Test
+   void testOnlyChangedDocumentIsValidatedAgain() {
+      final AspectModel first = loadDocument();
+      final List<Violation> firstViolations = graph.validate( first, shapeViolations -> validator.validateModel( first, shapeViolations ) );
+
+      final AspectModel second = loadDocument();
+      final List<AspectModelFile> reusedFiles = new ArrayList<>();
+      final List<Violation> secondViolations = graph.validate( second, shapeViolations -> {
+         reusedFiles.addAll( shapeViolations.keySet() );
+         return validator.validateModel( second, shapeViolations );
+      } );
+
+      assertThat( reusedFiles ).containsExactly( sharedFile( second ) );
+      assertThat( secondViolations.stream().map( Violation::message ) )
+            .containsExactlyElementsOf( firstViolations.stream().map( Violation::message ).toList() );
+   }
+
+   @Test
+   void testInvalidationDropsResultsOfDependentFiles() {
+      final AspectModel aspectModel = loadDocument();
+      graph.validate( aspectModel, shapeViolations -> validator.validateModel( aspectModel, shapeViolations ) );
+      final URI sharedLocation = sharedFile( aspectModel ).sourceLocation().orElseThrow();
+      assertThat( graph.dependents( sharedLocation ) ).extracting( Path::of ).containsExactly( Path.of( documentLocation ) );
+
+      graph.invalidate( sharedLocation );
+      final AspectModel reloaded = loadDocument();
+      final List<Map<AspectModelFile, List<Violation>>> passedResults = new ArrayList<>();
+      graph.validate( reloaded, shapeViolations -> {
+         passedResults.add( Map.copyOf( shapeViolations ) );
+         return validator.validateModel( reloaded, shapeViolations );
+      } );
+
+      assertThat( strategy.calls ).hasValue( 2 );
+      assertThat( passedResults.getFirst() ).isEmpty();
+   }
+
+   private AspectModelFile sharedFile( final AspectModel aspectModel ) {
+      return aspectModel.files().stream()
+            .filter( file -> file.sourceLocation().map( URI::toString ).orElse( "" ).endsWith( "sharedProperty.ttl" ) )
+            .findFirst()
+            .orElseThrow();
+   }
+
+   private static class CountingStrategy implements ResolutionStrategy {
+      private final ResolutionStrategy delegate;
+      private final AtomicInteger calls = new AtomicInteger();
+
+      private CountingStrategy( final ResolutionStrategy delegate ) {
+         this.delegate = delegate;
+      }
+
+      @Override
+      public AspectModelFile apply( final AspectModelUrn aspectModelUrn, final ResolutionStrategySupport resolutionStrategySupport ) {
+         calls.incrementAndGet();
+         return delegate.apply( aspectModelUrn, resolutionStrategySupport );
+      }
+
+      @Override
+      public Stream<URI> listContents() {
+         return delegate.listContents();
+      }
+
+      @Override
+      public Stream<URI> listContentsForNamespace( final AspectModelUrn namespace ) {
+         return delegate.listContentsForNamespace( namespace );
+      }
+
+      @Override
+      public Stream<AspectModelFile> loadContents() {
+         return delegate.loadContents();
+      }
+
+      @Override
+      public Stream<AspectModelFile> loadContentsForNamespace( final AspectModelUrn namespace ) {
+         return delegate.loadContentsForNamespace( namespace );
+      }
+   }
+}
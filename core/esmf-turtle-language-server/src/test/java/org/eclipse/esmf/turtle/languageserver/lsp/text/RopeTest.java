@@ -314,4 +314,61 @@ class RopeTest {
       // Verify the characters are still all present (may be reordered)
       assertThat( rope.length() ).isEqualTo( initialString.length() );
    }
+
+   @Property
+   void chunkedRopesMatchStringBehavior( @ForAll( "basicString" ) final String string ) {
+      final String content = string.repeat( Rope.MAX_LEAF_LENGTH / Math.max( 1, string.length() ) + 3 );
+      Rope rope = Rope.of( content );
+      String expected = content;
+      assertThat( rope.toString() ).isEqualTo( expected );
+
+      final Random random = ThreadLocalRandom.current();
+      for ( int i = 0; i < 200; i++ ) {
+         final int index = random.nextInt( expected.length() + 1 );
+         if ( random.nextBoolean() || expected.isEmpty() ) {
+            rope = rope.insert( new Rope( "x\n" ), index );
+            expected = expected.substring( 0, index ) + "x\n" + expected.substring( index );
+         } else {
+            final int length = random.nextInt( 0, Math.min( 20, expected.length() - index ) + 1 );
+            rope = rope.delete( index, length );
+            expected = expected.substring( 0, index ) + expected.substring( index + length );
+         }
+      }
+      assertThat( rope.toString() ).isEqualTo( expected );
+      assertThat( rope.length() ).isEqualTo( expected.length() );
+      assertThat( rope.linebreaks() ).isEqualTo( (int) expected.chars().filter( ch -> ch == '\n' ).count() );
+      assertThat( rope.byteLength() ).isEqualTo( expected.getBytes( StandardCharsets.UTF_8 ).length );
+      assertThat( rope.rebalance().toString() ).isEqualTo( expected );
+   }
+
+   @Test
+   void testGetIndexAndByteIndexOfChunkedRope() {
+      final String line = "ex:entity rdfs:label \"Grüße 😀\"@de .\n";
+      final String content = line.repeat( 1000 );
+      final Rope rope = Rope.of( content );
+      for ( int lineNumber = 0; lineNumber < 1000; lineNumber += 7 ) {
+         final int index = rope.getIndex( lineNumber, 3 );
+         assertThat( index ).isEqualTo( lineNumber * line.length() + 3 );
+         assertThat( rope.byteIndex( index ) )
+               .isEqualTo( content.substring( 0, index ).getBytes( StandardCharsets.UTF_8 ).length );
+      }
+      assertThat( rope.getIndex( 2000, 0 ) ).isEqualTo( content.length() );
+   }
+
+   @Test
+   void testReadStreamsUtf8Content() {
+      final String content = "ex:entity rdfs:label \"Grüße 😀\"@de .\n".repeat( 1000 );
+      final byte[] expected = content.getBytes( StandardCharsets.UTF_8 );
+      final Rope rope = Rope.of( content );
+      final byte[] buffer = new byte[1000];
+      final byte[] result = new byte[expected.length];
+      int offset = 0;
+      int bytesRead;
+      while ( ( bytesRead = rope.read( buffer, offset ) ) > 0 ) {
+         System.arraycopy( buffer, 0, result, offset, bytesRead );
+         offset += bytesRead;
+      }
+      assertThat( offset ).isEqualTo( expected.length );
+      assertThat( result ).isEqualTo( expected );
+   }
 }
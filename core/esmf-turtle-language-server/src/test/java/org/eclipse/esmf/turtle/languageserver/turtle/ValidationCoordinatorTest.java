@@ -18,13 +18,16 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.eclipse.esmf.turtle.languageserver.aspect.TestUtil.emptyParsedDocument;
 import static org.eclipse.esmf.turtle.languageserver.aspect.TestUtil.parsedDocument;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.eclipse.esmf.aspectmodel.shacl.violation.Violation;
@@ -478,4 +481,112 @@ class ValidationCoordinatorTest {
          assertThat( callbackCount.get() ).isLessThanOrEqualTo( 1 );
       }
    }
+
+   private static DiagnosticsProvider delayedProvider( final Consumer<ParsedDocument> validation ) {
+      return new DiagnosticsProvider() {
+         @Override
+         public DiagnosticReport validate( final ParsedDocument document ) {
+            validation.accept( document );
+            return DiagnosticReport.EMPTY;
+         }
+
+         @Override
+         public Type type() {
+            return Type.DELAYED;
+         }
+      };
+   }
+
+   @Test
+   void activeDocumentIsValidatedBeforeBackgroundDocuments() throws InterruptedException {
+      final TreeSitterTurtleParserService parserService = new TreeSitterTurtleParserService();
+      final ParsedDocument first = parserService.apply( new Document( "first.ttl", "" ) );
+      final ParsedDocument second = parserService.apply( new Document( "second.ttl", "" ) );
+      final ParsedDocument third = parserService.apply( new Document( "third.ttl", "" ) );
+      final CountDownLatch firstValidationStarted = new CountDownLatch( 1 );
+      final CountDownLatch releaseFirstValidation = new CountDownLatch( 1 );
+      final CountDownLatch allValidated = new CountDownLatch( 3 );
+      final List<String> validationOrder = Collections.synchronizedList( new ArrayList<>() );
+
+      final List<DiagnosticsProvider> diagnosticsProviders = List.of( delayedProvider( document -> {
+         validationOrder.add( document.getUri() );
+         if ( document == first ) {
+            firstValidationStarted.countDown();
+            try {
+               releaseFirstValidation.await( 5, TimeUnit.SECONDS );
+            } catch ( final InterruptedException exception ) {
+               Thread.currentThread().interrupt();
+            }
+         }
+      } ) );
+      final ValidationCoordinator coordinator =
+            new ValidationCoordinator( diagnosticsProviders, ( _, _ ) -> allValidated.countDown(), 1 );
+
+      try ( coordinator ) {
+         coordinator.onDocumentOpened( first );
+         assertThat( firstValidationStarted.await( 1, TimeUnit.SECONDS ) ).isTrue();
+         coordinator.onDocumentOpened( second );
+         coordinator.onDocumentOpened( third );
+         coordinator.onDocumentActivated( second.sourceDocument() );
+         releaseFirstValidation.countDown();
+
+         assertThat( allValidated.await( 5, TimeUnit.SECONDS ) ).isTrue();
+         assertThat( validationOrder ).containsExactly( "first.ttl", "second.ttl", "third.ttl" );
+      }
+   }
+
+   @Test
+   void documentsAreValidatedConcurrently() throws InterruptedException {
+      final TreeSitterTurtleParserService parserService = new TreeSitterTurtleParserService();
+      final CountDownLatch bothValidationsRunning = new CountDownLatch( 2 );
+      final CountDownLatch callbacksCalled = new CountDownLatch( 2 );
+      final AtomicInteger concurrentValidations = new AtomicInteger();
+
+      final List<DiagnosticsProvider> diagnosticsProviders = List.of( delayedProvider( _ -> {
+         bothValidationsRunning.countDown();
+         try {
+            if ( bothValidationsRunning.await( 5, TimeUnit.SECONDS ) ) {
+               concurrentValidations.incrementAndGet();
+            }
+         } catch ( final InterruptedException exception ) {
+            Thread.currentThread().interrupt();
+         }
+      } ) );
+      final ValidationCoordinator coordinator =
+            new ValidationCoordinator( diagnosticsProviders, ( _, _ ) -> callbacksCalled.countDown(), 2 );
+
+      try ( coordinator ) {
+         coordinator.onDocumentOpened( parserService.apply( new Document( "first.ttl", "" ) ) );
+         coordinator.onDocumentOpened( parserService.apply( new Document( "second.ttl", "" ) ) );
+
+         assertThat( callbacksCalled.await( 6, TimeUnit.SECONDS ) ).isTrue();
+         assertThat( concurrentValidations.get() ).isEqualTo( 2 );
+      }
+   }
+
+   @Test
+   void validationTimingIsRecorded() throws InterruptedException {
+      final ParsedDocument parsedDocument = emptyParsedDocument();
+      final CountDownLatch callbackCalled = new CountDownLatch( 1 );
+
+      final List<DiagnosticsProvider> diagnosticsProviders = List.of( delayedProvider( _ -> {
+         try {
+            Thread.sleep( 100 );
+         } catch ( final InterruptedException exception ) {
+            Thread.currentThread().interrupt();
+         }
+      } ) );
+      final ValidationCoordinator coordinator = new ValidationCoordinator( diagnosticsProviders, ( _, _ ) -> callbackCalled.countDown() );
+
+      try ( coordinator ) {
+         assertThat( coordinator.validationTiming( parsedDocument.sourceDocument() ) ).isEmpty();
+         coordinator.onDocumentOpened( parsedDocument );
+
+         assertThat( callbackCalled.await( 5, TimeUnit.SECONDS ) ).isTrue();
+         assertThat( coordinator.validationTiming( parsedDocument.sourceDocument() ) ).hasValueSatisfying( timing -> {
+            assertThat( timing.validationTime() ).isGreaterThanOrEqualTo( Duration.ofMillis( 100 ) );
+            assertThat( timing.queueingDelay() ).isNotNegative();
+         } );
+      }
+   }
 }
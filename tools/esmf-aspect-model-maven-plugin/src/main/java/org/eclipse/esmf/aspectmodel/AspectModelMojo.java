@@ -257,6 +257,7 @@ public abstract class AspectModelMojo extends AbstractMojo {
                         .repository( repository )
                         .directory( directory )
                         .token( token )
+                        .offline( mavenSession.isOffline() )
                         .build();
 
                   gitHubConfigs.add( gitHubConfig );
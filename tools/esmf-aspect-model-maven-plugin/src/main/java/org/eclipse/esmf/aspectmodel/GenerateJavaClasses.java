@@ -92,8 +92,9 @@ public class GenerateJavaClasses extends JavaCodeGenerationMojo {
                   .namePostfix( namePostfix )
                   .enableSetters( enableSetters )
                   .setterStyle( getEnumConstant( JavaCodeGenerationConfig.SetterStyle.class, setterStyle, "STANDARD" ) )
+                  .formatSources( !skipFormatting )
                   .build();
-            new AspectModelJavaGenerator( aspect, config ).generateThrowing( javaFileNameMapper( outputDirectory ) );
+            configureGenerator( new AspectModelJavaGenerator( aspect, config ) ).generateThrowing( javaFileNameMapper( outputDirectory ) );
          } catch ( final Exception exception ) {
             throw new MojoExecutionException( "Could not generate Java classes for Aspect Models", exception );
          }
@@ -14,6 +14,7 @@
 package org.eclipse.esmf.aspectmodel;
 
 import java.io.OutputStream;
+import java.util.Random;
 import java.util.Set;
 
 import org.eclipse.esmf.aspectmodel.generator.json.AspectModelJsonPayloadGenerator;
@@ -39,6 +40,15 @@ public class GenerateJsonPayload extends AspectModelMojo {
    @Parameter( defaultValue = "false" )
    private boolean addTypeAttribute;
 
+   @Parameter( defaultValue = "1" )
+   private long numberOfPayloads;
+
+   @Parameter
+   private Long seed;
+
+   @Parameter( defaultValue = "false" )
+   private boolean parallel;
+
    @Override
    public void executeGeneration() throws MojoExecutionException, MojoFailureException {
       validateParameters();
@@ -47,8 +57,17 @@ public class GenerateJsonPayload extends AspectModelMojo {
       for ( final Aspect context : aspects ) {
          final JsonPayloadGenerationConfig config = JsonPayloadGenerationConfigBuilder.builder()
                .addTypeAttributeForEntityInheritance( addTypeAttribute )
+               .randomStrategy( seed == null ? null : new Random( seed ) )
                .build();
          final AspectModelJsonPayloadGenerator generator = new AspectModelJsonPayloadGenerator( context, config );
+         if ( numberOfPayloads > 1 ) {
+            try ( final OutputStream output = getOutputStreamForFile( context.getName() + ".jsonl", outputDirectory ) ) {
+               generator.generateJsonLines( numberOfPayloads, parallel, output );
+            } catch ( final Throwable exception ) {
+               throw new MojoExecutionException( "Could not write to output " + outputDirectory, exception );
+            }
+            continue;
+         }
          for ( final JsonPayloadArtifact artifact : generator.generate().toList() ) {
             try ( final OutputStream output = getOutputStreamForFile( context.getName() + ".json", outputDirectory ) ) {
                output.write( artifact.serialize() );
@@ -60,4 +79,12 @@ public class GenerateJsonPayload extends AspectModelMojo {
       }
       LOG.info( "Successfully generated example JSON payloads for Aspect Models." );
    }
+
+   @Override
+   protected void validateParameters() throws MojoExecutionException {
+      if ( numberOfPayloads <= 0 ) {
+         throw new MojoExecutionException( "Invalid configuration. The number of payloads must be greater than 0." );
+      }
+      super.validateParameters();
+   }
 }
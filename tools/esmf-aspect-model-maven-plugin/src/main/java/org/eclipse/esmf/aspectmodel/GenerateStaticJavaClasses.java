@@ -48,8 +48,9 @@ public class GenerateStaticJavaClasses extends JavaCodeGenerationMojo {
                .namePostfix( namePostfix )
                .enableSetters( enableSetters )
                .setterStyle( getEnumConstant( JavaCodeGenerationConfig.SetterStyle.class, setterStyle, "STANDARD" ) )
+               .formatSources( !skipFormatting )
                .build();
-         new StaticMetaModelJavaGenerator( aspect, config ).generateThrowing( javaFileNameMapper( outputDirectory ) );
+         configureGenerator( new StaticMetaModelJavaGenerator( aspect, config ) ).generateThrowing( javaFileNameMapper( outputDirectory ) );
       }
       LOG.info( "Successfully generated static Java classes for Aspect Models." );
    }
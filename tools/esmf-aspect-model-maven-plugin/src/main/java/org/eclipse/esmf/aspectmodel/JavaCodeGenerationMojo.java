@@ -12,6 +12,8 @@
  */
 package org.eclipse.esmf.aspectmodel;
 
+import org.eclipse.esmf.aspectmodel.java.JavaGenerator;
+
 import org.apache.maven.plugins.annotations.Parameter;
 
 /**
@@ -23,4 +25,30 @@ public abstract class JavaCodeGenerationMojo extends CodeGenerationMojo {
 
    @Parameter( defaultValue = "standard" )
    protected String setterStyle;
+
+   /**
+    * Generate the Java classes concurrently and write each class as soon as it is complete
+    */
+   @Parameter( defaultValue = "false" )
+   protected boolean parallelGeneration;
+
+   /**
+    * Write the generated Java classes without formatting them
+    */
+   @Parameter( defaultValue = "false" )
+   protected boolean skipFormatting;
+
+   /**
+    * Applies the generation settings of this Mojo that are not part of the code generation config to a generator.
+    *
+    * @param generator the generator
+    * @param <G> the generator type
+    * @return the configured generator
+    */
+   protected <G extends JavaGenerator> G configureGenerator( final G generator ) {
+      if ( parallelGeneration ) {
+         generator.withParallelGeneration();
+      }
+      return generator;
+   }
 }
@@ -16,8 +16,12 @@ package org.eclipse.esmf.aspectmodel;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
+import java.io.IOException;
+import java.nio.file.Files;
+
 import org.apache.maven.api.plugin.testing.InjectMojo;
 import org.apache.maven.api.plugin.testing.MojoTest;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.jupiter.api.Test;
 
 @MojoTest
@@ -30,4 +34,24 @@ public class GenerateJsonPayloadTest extends AspectModelMojoTest {
       assertThatCode( generateJsonPayload::execute ).doesNotThrowAnyException();
       assertThat( generatedFilePath( "Aspect.json" ) ).exists();
    }
+
+   @Test
+   @InjectMojo(
+      goal = GenerateJsonPayload.MAVEN_GOAL,
+      pom = "src/test/resources/generate-json-payload-pom-json-lines/pom.xml" )
+   public void testGenerateJsonLinesPayloads( final GenerateJsonPayload generateJsonPayload ) throws IOException {
+      assertThatCode( generateJsonPayload::execute ).doesNotThrowAnyException();
+      assertThat( Files.readAllLines( generatedFilePath( "Aspect.jsonl" ) ) ).hasSize( 5 ).allMatch( line -> line.startsWith( "{" ) );
+   }
+
+   @Test
+   @InjectMojo(
+      goal = GenerateJsonPayload.MAVEN_GOAL,
+      pom = "src/test/resources/generate-json-payload-pom-invalid-number-of-payloads/pom.xml" )
+   public void testGenerateJsonPayloadInvalidNumberOfPayloads( final GenerateJsonPayload generateJsonPayload ) {
+      assertThatCode( generateJsonPayload::execute )
+            .isInstanceOf( MojoExecutionException.class )
+            .hasMessage( "Invalid configuration. The number of payloads must be greater than 0." );
+      assertThat( generatedFilePath( "Aspect.json" ) ).doesNotExist();
+   }
 }
@@ -14,6 +14,7 @@
 package org.eclipse.esmf.aspect;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -25,6 +26,7 @@ import org.eclipse.esmf.ResolverConfigurationMixin;
 import org.eclipse.esmf.aspectmodel.AspectModelFile;
 import org.eclipse.esmf.aspectmodel.loader.AspectModelLoader;
 import org.eclipse.esmf.aspectmodel.stats.Reference;
+import org.eclipse.esmf.aspectmodel.stats.ReferenceIndex;
 import org.eclipse.esmf.aspectmodel.stats.Usage;
 import org.eclipse.esmf.aspectmodel.urn.AspectModelUrn;
 import org.eclipse.esmf.exception.CommandException;
@@ -53,6 +55,11 @@ public class AspectUsageCommand extends AbstractCommand {
       description = "Print detailed reports on errors" )
    private boolean details = false;
 
+   @CommandLine.Option(
+      names = { "--index-file" },
+      description = "Keep the index of element references in this file, so that subsequent calls only need to index changed files" )
+   private Path indexFile;
+
    @CommandLine.Mixin
    private LoggingMixin loggingMixin;
 
@@ -67,15 +74,14 @@ public class AspectUsageCommand extends AbstractCommand {
       final String input = parentCommand.getInput();
       final InputHandler inputHandler = getInputHandler( input );
       final AspectModelLoader aspectModelLoader = inputHandler.aspectModelLoader();
-      final Usage usage = new Usage( aspectModelLoader );
+      final ReferenceIndex referenceIndex = new ReferenceIndex( aspectModelLoader, indexFile );
+      final Usage usage = new Usage( referenceIndex );
 
       final Try<AspectModelUrn> inputAspectModelUrn = AspectModelUrn.from( input );
       final List<Reference> references = inputAspectModelUrn.map( usage::referencesTo )
             .getOrElse( () -> {
                final URI targetUri = inputHandler.inputUri();
-               final AspectModelFile fileToCheck = aspectModelLoader.loadContents()
-                     .filter( file -> file.sourceLocation().map( targetUri::equals ).orElse( false ) )
-                     .findFirst()
+               final AspectModelFile fileToCheck = referenceIndex.file( targetUri )
                      .orElseThrow( () -> new CommandException( "Input is no file, valid URN or any resolvable URI" ) );
                return usage.referencesToAnyElementIn( fileToCheck );
             } );
@@ -13,6 +13,8 @@
 
 package org.eclipse.esmf.aspect.to;
 
+import java.util.Random;
+
 import org.eclipse.esmf.AbstractCommand;
 import org.eclipse.esmf.LoggingMixin;
 import org.eclipse.esmf.ResolverConfigurationMixin;
@@ -20,6 +22,7 @@ import org.eclipse.esmf.aspect.AspectToCommand;
 import org.eclipse.esmf.aspectmodel.generator.json.AspectModelJsonPayloadGenerator;
 import org.eclipse.esmf.aspectmodel.generator.json.JsonPayloadGenerationConfig;
 import org.eclipse.esmf.aspectmodel.generator.json.JsonPayloadGenerationConfigBuilder;
+import org.eclipse.esmf.exception.CommandException;
 
 import picocli.CommandLine;
 
@@ -56,6 +59,24 @@ public class AspectToJsonCommand extends AbstractCommand {
             + "instead of returning an empty value." )
    private boolean failOnEmptyExampleValue = false;
 
+   @SuppressWarnings( "FieldCanBeLocal" )
+   @CommandLine.Option(
+      names = { "--count", "-n" },
+      description = "Number of payloads to generate. If greater than 1, the payloads are written as JSON Lines, i.e., one per line." )
+   private long count = 1;
+
+   @SuppressWarnings( "FieldCanBeLocal" )
+   @CommandLine.Option(
+      names = { "--seed" },
+      description = "Seed for the generation of random values, to generate the same payloads on every run" )
+   private Long seed;
+
+   @SuppressWarnings( "FieldCanBeLocal" )
+   @CommandLine.Option(
+      names = { "--parallel" },
+      description = "Generate multiple payloads in parallel" )
+   private boolean parallel = false;
+
    @CommandLine.ParentCommand
    private AspectToCommand parentCommand;
 
@@ -69,14 +90,22 @@ public class AspectToJsonCommand extends AbstractCommand {
    public void run() {
       setDetails( details );
       setResolverConfig( resolverConfiguration );
+      if ( count <= 0 ) {
+         throw new CommandException( "The number of payloads must be greater than 0, but was " + count );
+      }
 
       final JsonPayloadGenerationConfig config = JsonPayloadGenerationConfigBuilder.builder()
             .addTypeAttributeForEntityInheritance( addTypeAttribute )
             .failOnInvalidRegularExpressions( failOnEmptyExampleValue )
+            .randomStrategy( seed == null ? null : new Random( seed ) )
             .build();
 
       final AspectModelJsonPayloadGenerator generator = new AspectModelJsonPayloadGenerator(
             getInputHandler( parentCommand.parentCommand.getInput() ).loadAspect(), config );
+      if ( count > 1 ) {
+         withOutputStream( outputFilePath, output -> generator.generateJsonLines( count, parallel, output ) );
+         return;
+      }
       // we intentionally override the name of the generated artifact here to the name explicitly desired
       // by the user (outputFilePath),
       // as opposed to what the model thinks it should be called (name)
@@ -741,6 +741,14 @@ class SammCliTest extends SammCliAbstractTest {
       assertThat( result.stderr() ).isEmpty();
    }
 
+   @Test
+   void testAspectToJsonWithInvalidCount() {
+      final ExecutionResult result = sammCli.apply( "--disable-color", "aspect", defaultInputFile, "to", "json", "--count", "0" );
+      assertThat( result.exitStatus() ).isEqualTo( 1 );
+      assertThat( result.stdout() ).isEmpty();
+      assertThat( result.stderr() ).contains( "The number of payloads must be greater than 0" );
+   }
+
    @Test
    void testAspectToJsonToStdoutWithCustomResolver() {
       final ExecutionResult result = sammCli.runAndExpectSuccess( "--disable-color", "aspect", defaultInputFile, "to", "json",
@@ -1501,6 +1509,22 @@ class SammCliTest extends SammCliAbstractTest {
       assertThat( result.stdout() ).contains( TestModel.TEST_NAMESPACE + "testProperty" );
    }
 
+   @Test
+   void testAspectUsageWithIndexFile( @TempDir final Path outputDirectory ) {
+      final String modelsRoot = inputFile( testModel ).getParentFile().getParentFile().getParentFile().getAbsolutePath();
+      final String urnToCheck = TestModel.TEST_NAMESPACE + "testProperty";
+      final File indexFile = outputFile( outputDirectory, "reference-index" );
+      final ExecutionResult result = sammCli.runAndExpectSuccess( "--disable-color", "aspect", urnToCheck, "usage",
+            "--models-root", modelsRoot, "--index-file", indexFile.getAbsolutePath() );
+      assertThat( result.stderr() ).isEmpty();
+      assertThat( result.stdout() ).contains( TestModel.TEST_NAMESPACE + "testProperty" );
+      assertThat( indexFile ).exists();
+
+      final ExecutionResult resultFromIndex = sammCli.runAndExpectSuccess( "--disable-color", "aspect", urnToCheck, "usage",
+            "--models-root", modelsRoot, "--index-file", indexFile.getAbsolutePath() );
+      assertThat( resultFromIndex.stdout() ).isEqualTo( result.stdout() );
+   }
+
    @Test
    @Disabled( "Temporarily disabled due to an issue under investigation in CI" )
    void testAspectUsageWithGitHubResolution() {